@@ -0,0 +1,46 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks twice, once reporting throughput in ops/s and once
+ * reporting average time in ns/op. Both passes use the GC profiler so the
+ * allocation rate of every call shape is reported alongside its cost.
+ */
+final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    /**
+     * @param args The benchmark include pattern and the report directory.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final String include = args.length > 0 ? args[0] : ".*";
+        final File reports = new File(args.length > 1 ? args[1] : "jmh-reports");
+        reports.mkdirs();
+        new Runner(options(include, Mode.Throughput, TimeUnit.SECONDS, new File(reports, "throughput.json"))).run();
+        new Runner(options(include, Mode.AverageTime, TimeUnit.NANOSECONDS, new File(reports, "average.json"))).run();
+    }
+
+    private static Options options(final String include, final Mode mode, final TimeUnit unit, final File result) {
+        return new OptionsBuilder()
+                .include(include)
+                .exclude(BenchmarkMain.class.getSimpleName())
+                .mode(mode)
+                .timeUnit(unit)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Several threads logging through one Logger into the file appenders of
+ * {@code log4j2-jmh.xml}, to show contention on the appender locks.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configurationFile=log4j2-jmh.xml")
+@Threads(4)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ContendedLoggingBenchmark {
+    private Logger logger;
+    private Object p0 = "alpha";
+    private Object p1 = "beta";
+
+    @Setup
+    public void setUp() {
+        logger = Logger.create(ContendedLoggingBenchmark.class);
+    }
+
+    @Benchmark
+    public void disabledDebug() {
+        logger.debug("debug {} {}", p0, p1);
+    }
+
+    @Benchmark
+    public void enabledNotice() {
+        logger.notice("notice {} {}", p0, p1);
+    }
+
+    @Benchmark
+    public void enabledError() {
+        logger.error("error {} {}", p0, p1);
+    }
+}
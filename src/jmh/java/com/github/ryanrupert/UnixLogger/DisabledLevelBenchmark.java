@@ -0,0 +1,79 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of each call shape at the {@code DEBUG} level, which the shipped
+ * {@code log4j2.xml} filters out at the root. Ideally none of these allocate.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class DisabledLevelBenchmark {
+    private static final Marker MARKER = MarkerManager.getMarker("BENCH");
+
+    private Logger logger;
+    private Object p0 = "alpha";
+    private Object p1 = "beta";
+    private Object p2 = "gamma";
+
+    @Setup
+    public void setUp() {
+        logger = Logger.create(DisabledLevelBenchmark.class);
+    }
+
+    @Benchmark
+    public boolean guard() {
+        return logger.isDebugEnabled();
+    }
+
+    @Benchmark
+    public boolean guardMarker() {
+        return logger.isDebugEnabled(MARKER);
+    }
+
+    @Benchmark
+    public void string() {
+        logger.debug("debug message");
+    }
+
+    @Benchmark
+    public void stringMarker() {
+        logger.debug(MARKER, "debug message");
+    }
+
+    @Benchmark
+    public void fixedArity1() {
+        logger.debug("debug {}", p0);
+    }
+
+    @Benchmark
+    public void fixedArity3() {
+        logger.debug("debug {} {} {}", p0, p1, p2);
+    }
+
+    @Benchmark
+    public void fixedArity3Marker() {
+        logger.debug(MARKER, "debug {} {} {}", p0, p1, p2);
+    }
+
+    @Benchmark
+    public void varargs3() {
+        logger.debug("debug {} {} {}", new Object[] {p0, p1, p2});
+    }
+
+    @Benchmark
+    public void supplier() {
+        logger.debug(() -> "debug " + p0);
+    }
+}
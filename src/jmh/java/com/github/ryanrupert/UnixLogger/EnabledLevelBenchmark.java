@@ -0,0 +1,81 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of each call shape at enabled levels, written through real appenders.
+ *
+ * <p>The {@code config} parameter selects the Log4j configuration: the
+ * shipped {@code log4j2.xml} (console and both files) or
+ * {@code log4j2-jmh.xml}, which keeps the file appenders but drops the
+ * console so the fork's output stays readable. A fresh JVM is forked per
+ * value because Log4j reads the configuration once.</p>
+ *
+ * <p>The {@code garbageFree} parameter sets {@code UnixLogger.GarbageFree},
+ * to compare the allocation rates with and without {@link ReusableMessage}.</p>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class EnabledLevelBenchmark {
+    private static final Marker MARKER = MarkerManager.getMarker("BENCH");
+
+    @Param({"log4j2-jmh.xml", "log4j2.xml"})
+    public String config;
+
+    @Param({"false", "true"})
+    public String garbageFree;
+
+    private Logger logger;
+    private Object p0 = "alpha";
+    private Object p1 = "beta";
+    private Object p2 = "gamma";
+
+    @Setup
+    public void setUp() {
+        System.setProperty("log4j.configurationFile", config);
+        System.setProperty("UnixLogger.GarbageFree", garbageFree);
+        logger = Logger.create(EnabledLevelBenchmark.class);
+    }
+
+    @Benchmark
+    public void noticeString() {
+        logger.notice("notice message");
+    }
+
+    @Benchmark
+    public void noticeStringMarker() {
+        logger.notice(MARKER, "notice message");
+    }
+
+    @Benchmark
+    public void noticeFixedArity3() {
+        logger.notice("notice {} {} {}", p0, p1, p2);
+    }
+
+    @Benchmark
+    public void noticeVarargs3() {
+        logger.notice("notice {} {} {}", new Object[] {p0, p1, p2});
+    }
+
+    @Benchmark
+    public void noticeFixedArity3Marker() {
+        logger.notice(MARKER, "notice {} {} {}", p0, p1, p2);
+    }
+
+    @Benchmark
+    public void errorFixedArity1() {
+        logger.error("error {}", p0);
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process syslog receiver for measuring the syslog appenders without a
+ * real daemon. It accepts RFC5425 octet-counted messages over TCP and RFC5426
+ * datagrams over UDP on an ephemeral loopback port and only counts what it
+ * receives.
+ */
+final class LocalSyslogServer implements Closeable {
+    private final ServerSocketChannel tcp;
+    private final DatagramChannel udp;
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private volatile boolean running = true;
+
+    LocalSyslogServer() throws IOException {
+        tcp = ServerSocketChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        udp = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        start("LocalSyslogServer-tcp", this::acceptLoop);
+        start("LocalSyslogServer-udp", this::receiveLoop);
+    }
+
+    int getTcpPort() throws IOException {
+        return ((InetSocketAddress) tcp.getLocalAddress()).getPort();
+    }
+
+    int getUdpPort() throws IOException {
+        return ((InetSocketAddress) udp.getLocalAddress()).getPort();
+    }
+
+    long getMessageCount() {
+        return messages.get();
+    }
+
+    long getByteCount() {
+        return bytes.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        tcp.close();
+        udp.close();
+    }
+
+    private static void start(final String name, final Runnable task) {
+        final Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                final SocketChannel client = tcp.accept();
+                start("LocalSyslogServer-client", () -> readFrames(client));
+            } catch (final IOException ex) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads {@code MSG-LEN SP SYSLOG-MSG} frames until the client disconnects.
+     */
+    private void readFrames(final SocketChannel client) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+        int length = -1;
+        try {
+            while (client.read(buffer) >= 0) {
+                buffer.flip();
+                for (;;) {
+                    if (length < 0) {
+                        final int start = buffer.position();
+                        int value = 0;
+                        while (buffer.hasRemaining()) {
+                            final byte b = buffer.get();
+                            if (b == ' ') {
+                                length = value;
+                                break;
+                            }
+                            value = value * 10 + b - '0';
+                        }
+                        if (length < 0) {
+                            buffer.position(start);
+                            break;
+                        }
+                    }
+                    if (buffer.remaining() < length) {
+                        break;
+                    }
+                    buffer.position(buffer.position() + length);
+                    messages.incrementAndGet();
+                    bytes.addAndGet(length);
+                    length = -1;
+                }
+                buffer.compact();
+            }
+        } catch (final IOException ex) {
+            // The client went away.
+        } finally {
+            try {
+                client.close();
+            } catch (final IOException ignored) {
+                // Nothing to do.
+            }
+        }
+    }
+
+    private void receiveLoop() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(65536);
+        while (running) {
+            try {
+                buffer.clear();
+                udp.receive(buffer);
+                messages.incrementAndGet();
+                bytes.addAndGet(buffer.position());
+            } catch (final IOException ex) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link NioSyslogAppender} against the in-process
+ * {@link LocalSyslogServer}, so no syslog daemon is needed. At the end of each
+ * trial the number of messages the server received is printed next to the
+ * number the appender dropped.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class SyslogAppenderBenchmark {
+    @Param({"TCP", "UDP"})
+    public String protocol;
+
+    private LocalSyslogServer server;
+    private NioSyslogAppender appender;
+    private LogEvent event;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new LocalSyslogServer();
+        final int port = "TCP".equals(protocol) ? server.getTcpPort() : server.getUdpPort();
+        appender = NioSyslogAppender.createAppender("bench", "127.0.0.1", port, protocol, 1024 * 1024, 100, true,
+                UnixRfc5424Layout.createLayout("LOCAL0", "bench-host", "bench", "1", null, null, 18060, false, true),
+                null);
+        appender.start();
+        event = new Log4jLogEvent(SyslogAppenderBenchmark.class.getName(), null, null, Severity.NOTICE.level(),
+                new SimpleMessage("notice message with a typical amount of text in it"), null);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        appender.stop();
+        System.out.println("received " + server.getMessageCount() + " messages, appender dropped "
+                + appender.getDroppedCount());
+        server.close();
+    }
+
+    @Benchmark
+    public void append() {
+        appender.append(event);
+    }
+}
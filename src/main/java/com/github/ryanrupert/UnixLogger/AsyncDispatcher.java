@@ -0,0 +1,395 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Hands events from the asynchronous Loggers to a single background writer.
+ *
+ * <p>Events are copied into a preallocated ring buffer of slots. Producers
+ * claim a slot with a CAS on the tail sequence, fill it and publish it by
+ * advancing the slot's own sequence number, so producers never take a lock.
+ * The writer thread drains slots in order, rebuilds the Log4j event with the
+ * timestamp and thread captured by the producer and passes it to the
+ * appenders of the logger's configuration.</p>
+ *
+ * <p>The following properties configure the shared dispatcher:</p>
+ * <ul>
+ * <li>{@code UnixLogger.RingBufferSize} - number of slots, rounded up to a
+ * power of two (default 262144).</li>
+ * <li>{@code UnixLogger.WaitStrategy} - how the writer waits for events, see
+ * {@link WaitStrategy} (default {@code SLEEP}).</li>
+ * <li>{@code UnixLogger.BlockingLevel}, {@code UnixLogger.DiscardThreshold}
+ * and {@code UnixLogger.SampleRate} - what to do when the buffer fills up,
+ * see {@link BackpressurePolicy}.</li>
+ * <li>{@code UnixLogger.IncludeLocation} - capture the caller location on the
+ * producer thread (default {@code false}; this is expensive). Call sites
+ * woven by the {@link LocationWeaver} always pass their location, at no
+ * cost.</li>
+ * <li>{@code UnixLogger.FormatMsgAsync} - format messages on the writer
+ * thread instead of the producer (default {@code false}). Only safe when
+ * message parameters are not modified after the call.</li>
+ * </ul>
+ */
+final class AsyncDispatcher {
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final int DEFAULT_RING_BUFFER_SIZE = 256 * 1024;
+    private static final int MIN_RING_BUFFER_SIZE = 128;
+    private static final int SPIN_TRIES = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 3000;
+
+    private static volatile AsyncDispatcher defaultDispatcher;
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final WaitStrategy waitStrategy;
+    private final BackpressurePolicy policy;
+    private final boolean includeLocation;
+    private final boolean formatMsgAsync;
+    private final Thread writer;
+    private volatile boolean writerParked;
+
+    AsyncDispatcher(final int capacity, final WaitStrategy waitStrategy, final BackpressurePolicy policy,
+            final boolean includeLocation, final boolean formatMsgAsync) {
+        final int size = ceilingPowerOfTwo(Math.max(capacity, MIN_RING_BUFFER_SIZE));
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+        this.policy = policy;
+        this.includeLocation = includeLocation;
+        this.formatMsgAsync = formatMsgAsync;
+        this.writer = new Thread(this::drain, "UnixLogger-AsyncWriter");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Returns the dispatcher shared by all asynchronous Loggers, starting it
+     * on first use.
+     *
+     * @return The shared dispatcher.
+     */
+    static AsyncDispatcher getDefault() {
+        AsyncDispatcher result = defaultDispatcher;
+        if (result == null) {
+            synchronized (AsyncDispatcher.class) {
+                result = defaultDispatcher;
+                if (result == null) {
+                    final PropertiesUtil props = PropertiesUtil.getProperties();
+                    final int capacity = ceilingPowerOfTwo(Math.max(MIN_RING_BUFFER_SIZE,
+                            props.getIntegerProperty("UnixLogger.RingBufferSize", DEFAULT_RING_BUFFER_SIZE)));
+                    result = new AsyncDispatcher(capacity,
+                            waitStrategy(props.getStringProperty("UnixLogger.WaitStrategy")),
+                            BackpressurePolicy.fromProperties(capacity),
+                            props.getBooleanProperty("UnixLogger.IncludeLocation", false),
+                            props.getBooleanProperty("UnixLogger.FormatMsgAsync", false));
+                    result.start();
+                    defaultDispatcher = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of slots in the ring buffer.
+     *
+     * @return The capacity.
+     */
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the number of events published but not yet written.
+     *
+     * @return The current queue depth.
+     */
+    int size() {
+        return (int) (tail.get() - head);
+    }
+
+    /**
+     * Returns the number of events of a severity dropped so far because the
+     * ring buffer was full or above that severity's watermark.
+     *
+     * @param severity The severity.
+     * @return The dropped count.
+     */
+    long droppedCount(final Severity severity) {
+        return policy.droppedCount(severity);
+    }
+
+    /**
+     * Returns the dropped count of the shared dispatcher without starting it.
+     *
+     * @param severity The severity.
+     * @return The dropped count, 0 if no asynchronous Logger has logged yet.
+     */
+    static long defaultDroppedCount(final Severity severity) {
+        final AsyncDispatcher dispatcher = defaultDispatcher;
+        return dispatcher == null ? 0 : dispatcher.droppedCount(severity);
+    }
+
+    /**
+     * Copies the event into the ring buffer. What happens when the buffer is
+     * filling up depends on the {@link BackpressurePolicy}: the event is
+     * either dropped or the producer waits for a free slot.
+     */
+    void publish(final ExtendedLogger logger, final String fqcn, final Level level, final Marker marker,
+            final Message message, final Throwable t) {
+        publish(logger, fqcn, level, marker, message, t, null, null, null, 0);
+    }
+
+    /**
+     * Copies an event logged on behalf of another thread into the ring
+     * buffer, like {@link #publish(ExtendedLogger, String, Level, Marker,
+     * Message, Throwable)}, with the name, thread context and time taken on
+     * that thread and no location.
+     */
+    void publish(final ExtendedLogger logger, final String fqcn, final Level level, final Marker marker,
+            final Message message, final String threadName, final Map<String, String> contextMap,
+            final ThreadContext.ContextStack contextStack, final long timeMillis) {
+        publish(logger, fqcn, level, marker, message, null, threadName, contextMap, contextStack, timeMillis);
+    }
+
+    private void publish(final ExtendedLogger logger, final String fqcn, final Level level, final Marker marker,
+            final Message message, final Throwable t, final String threadName, final Map<String, String> contextMap,
+            final ThreadContext.ContextStack contextStack, final long timeMillis) {
+        final Severity severity = Severity.of(level);
+        if (!policy.admit(severity, size())) {
+            Metrics.add(logger.getName(), level, Metric.DROPPED, 1);
+            return;
+        }
+        long sequence;
+        int idleCount = 0;
+        while ((sequence = tryClaim()) < 0) {
+            if (!policy.isBlocking(severity)) {
+                policy.drop(severity);
+                Metrics.add(logger.getName(), level, Metric.DROPPED, 1);
+                return;
+            }
+            idleCount = idle(idleCount);
+        }
+        final Slot slot = slots[(int) sequence & mask];
+        slot.logger = logger;
+        slot.fqcn = fqcn;
+        slot.level = level;
+        slot.marker = marker;
+        slot.message = message;
+        slot.thrown = t;
+        if (threadName != null) {
+            slot.threadName = threadName;
+            slot.timeMillis = timeMillis;
+            slot.contextMap = contextMap;
+            slot.contextStack = contextStack;
+        } else {
+            slot.threadName = Thread.currentThread().getName();
+            slot.timeMillis = System.currentTimeMillis();
+            slot.contextMap = ThreadContext.getImmutableContext();
+            slot.contextStack = ThreadContext.getImmutableStack();
+            final StackTraceElement location = SourceLocation.current();
+            slot.location = location != null ? location : includeLocation ? Log4jLogEvent.calcLocation(fqcn) : null;
+        }
+        if (!formatMsgAsync && message != null) {
+            message.getFormattedMessage();
+        }
+        // A volatile store, not lazySet: it must not be reordered with the read of writerParked, which the writer
+        // sets before checking the sequence again, or the writer may park through this event.
+        sequences.set((int) sequence & mask, sequence + 1);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Claims the next slot.
+     *
+     * @return The claimed sequence, or -1 if the ring buffer is full.
+     */
+    private long tryClaim() {
+        long sequence = tail.get();
+        for (;;) {
+            final long diff = sequences.get((int) sequence & mask) - sequence;
+            if (diff == 0) {
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+            } else if (diff < 0) {
+                return -1;
+            }
+            sequence = tail.get();
+        }
+    }
+
+    /**
+     * Starts the writer thread, with a shutdown hook that lets it write what
+     * is queued.
+     */
+    void start() {
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::awaitDrained, "UnixLogger-AsyncShutdown"));
+    }
+
+    private void drain() {
+        long next = head;
+        int idleCount = 0;
+        while (true) {
+            final int index = (int) next & mask;
+            if (sequences.get(index) != next + 1) {
+                idleCount = await(idleCount);
+                continue;
+            }
+            idleCount = 0;
+            final Slot slot = slots[index];
+            final boolean timed = Metrics.isEnabled() || LatencyHistograms.isEnabled();
+            final long start = timed ? System.nanoTime() : 0;
+            try {
+                write(slot);
+            } catch (final Throwable ex) {
+                LOGGER.error("Unable to write asynchronous log event", ex);
+            }
+            if (timed) {
+                final long nanos = System.nanoTime() - start;
+                Metrics.add(slot.logger.getName(), slot.level, Metric.APPENDER_NANOS, nanos);
+                LatencyHistograms.record(LatencyHistograms.Stage.APPENDER, slot.level, nanos);
+            }
+            slot.clear();
+            sequences.lazySet(index, next + slots.length);
+            head = ++next;
+        }
+    }
+
+    private static void write(final Slot slot) {
+        if (slot.logger instanceof org.apache.logging.log4j.core.Logger) {
+            final org.apache.logging.log4j.core.Logger logger = (org.apache.logging.log4j.core.Logger) slot.logger;
+            final Configuration config = logger.getContext().getConfiguration();
+            final Log4jLogEvent event = new Log4jLogEvent(logger.getName(), slot.marker, slot.fqcn, slot.level,
+                    slot.message, slot.thrown, slot.contextMap, slot.contextStack, slot.threadName, slot.location,
+                    slot.timeMillis);
+            config.getLoggerConfig(logger.getName()).log(event);
+        } else {
+            slot.logger.logMessage(slot.fqcn, slot.level, slot.marker, slot.message, slot.thrown);
+        }
+    }
+
+    /**
+     * Waits for the writer to catch up with the producers, for at most
+     * {@value #SHUTDOWN_TIMEOUT_MILLIS} ms.
+     */
+    void awaitDrained() {
+        final long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        while (head < tail.get() && System.currentTimeMillis() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Writer side wait used when the ring buffer is empty.
+     */
+    private int await(final int idleCount) {
+        switch (waitStrategy) {
+        case BUSY_SPIN:
+            return idleCount;
+        case YIELD:
+            if (idleCount >= SPIN_TRIES) {
+                Thread.yield();
+            }
+            return idleCount + 1;
+        case BLOCK:
+            writerParked = true;
+            if (sequences.get((int) head & mask) != head + 1) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(10));
+            }
+            writerParked = false;
+            return 0;
+        default:
+            return idle(idleCount);
+        }
+    }
+
+    /**
+     * Spins, then yields, then sleeps briefly, depending on how many times in
+     * a row the caller has found nothing to do.
+     */
+    private static int idle(final int idleCount) {
+        if (idleCount < SPIN_TRIES) {
+            return idleCount + 1;
+        }
+        if (idleCount < 2 * SPIN_TRIES) {
+            Thread.yield();
+            return idleCount + 1;
+        }
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        return idleCount;
+    }
+
+    private static WaitStrategy waitStrategy(final String name) {
+        if (name == null) {
+            return WaitStrategy.SLEEP;
+        }
+        try {
+            return WaitStrategy.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            LOGGER.warn("Unknown UnixLogger.WaitStrategy {}, using SLEEP", name);
+            return WaitStrategy.SLEEP;
+        }
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+        final int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+
+    /**
+     * A preallocated ring buffer entry. Fields are written by one producer
+     * and read by the writer; the slot sequence orders the two.
+     */
+    private static final class Slot {
+        private ExtendedLogger logger;
+        private String fqcn;
+        private Level level;
+        private Marker marker;
+        private Message message;
+        private Throwable thrown;
+        private String threadName;
+        private long timeMillis;
+        private Map<String, String> contextMap;
+        private ThreadContext.ContextStack contextStack;
+        private StackTraceElement location;
+
+        private void clear() {
+            logger = null;
+            fqcn = null;
+            level = null;
+            marker = null;
+            message = null;
+            thrown = null;
+            threadName = null;
+            contextMap = null;
+            contextStack = null;
+            location = null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.ryanrupert.UnixLogger;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+
+/**
+ * Wrapper used by {@link Logger#createAsync()} and friends. Level checks and
+ * rate limits apply as usual, but admitted events are published to the
+ * {@link AsyncDispatcher} instead of being handed to the appenders on the
+ * calling thread.
+ */
+final class AsyncLoggerWrapper extends UnixLoggerWrapper {
+    private static final long serialVersionUID = 3904758162350174371L;
+
+    AsyncLoggerWrapper(final ExtendedLogger logger) {
+        super(logger);
+    }
+
+    @Override
+    protected boolean keepsMessages() {
+        return true;
+    }
+
+    @Override
+    protected void deliver(final String fqcn, final Level level, final Marker marker, final Message message,
+            final Throwable t) {
+        AsyncDispatcher.getDefault().publish(logger, fqcn, level, marker, message, t);
+    }
+}
@@ -0,0 +1,189 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * The work that follows a rollover, done away from the logging threads.
+ *
+ * <p>Rolled over files are renamed to
+ * {@code <file name>.<yyyyMMdd-HHmmss-SSS>[-<n>]}, which only takes a rename
+ * on the thread that triggered the rollover. Compressing them with gzip and
+ * deleting the oldest ones then runs on a single, low priority background
+ * thread shared by all appenders. Its queue is bounded: when it is full,
+ * rolled over files are left uncompressed rather than making the logging
+ * thread wait. Compression can be throttled to a number of bytes per second,
+ * so that it does not compete with the appenders for disk bandwidth. The
+ * index of a file, if any, is deleted with it, and when it is compressed,
+ * since its offsets only apply to the uncompressed file.</p>
+ */
+final class BackgroundRollover {
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private BackgroundRollover() {
+    }
+
+    /**
+     * Queues a task on the background thread.
+     *
+     * @param task The task.
+     * @return The future of the task, or {@code null} if the queue is full.
+     */
+    static Future<?> submit(final Runnable task) {
+        try {
+            return EXECUTOR.submit(task);
+        } catch (final RejectedExecutionException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Renames the active file to its rolled over name.
+     *
+     * @param active The file being written.
+     * @param timeMillis The time the file was last written, for its new
+     *            name.
+     * @return The new path of the file.
+     * @throws IOException if the file cannot be renamed.
+     */
+    static Path rename(final Path active, final long timeMillis) throws IOException {
+        final String base = active.getFileName() + "." + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS")
+                .format(new Date(timeMillis));
+        Path rolled = active.resolveSibling(base);
+        int n = 0;
+        while (Files.exists(rolled) || Files.exists(gzipped(rolled))) {
+            rolled = active.resolveSibling(base + "-" + ++n);
+        }
+        return Files.move(active, rolled);
+    }
+
+    /**
+     * Compresses a rolled over file and deletes the oldest ones. Called on
+     * the background thread.
+     *
+     * @param active The file being written.
+     * @param rolled The rolled over file.
+     * @param compress Whether to gzip the rolled over file.
+     * @param bytesPerSecond Maximum compression rate, or 0 for no limit.
+     * @param maxFiles The number of rolled over files to keep, or 0 to keep
+     *            them all.
+     */
+    static void compressAndPrune(final Path active, final Path rolled, final boolean compress,
+            final long bytesPerSecond, final int maxFiles) {
+        try {
+            if (compress) {
+                gzip(rolled, bytesPerSecond);
+            }
+            if (maxFiles > 0) {
+                prune(active, maxFiles);
+            }
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to compress or prune rolled over file {}", rolled, ex);
+        }
+    }
+
+    /**
+     * Replaces a file by its gzipped version, reading at most
+     * {@code bytesPerSecond}.
+     */
+    private static void gzip(final Path source, final long bytesPerSecond) throws IOException {
+        final Path temp = source.resolveSibling(gzipped(source).getFileName() + TEMP_SUFFIX);
+        final byte[] chunk = new byte[CHUNK_SIZE];
+        final long start = System.nanoTime();
+        long total = 0;
+        try (InputStream in = Files.newInputStream(source);
+                OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), CHUNK_SIZE)) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                out.write(chunk, 0, read);
+                total += read;
+                if (bytesPerSecond > 0) {
+                    final long wait = start + (long) (total * 1e9 / bytesPerSecond) - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                }
+            }
+        } catch (final IOException | InterruptedException ex) {
+            Files.deleteIfExists(temp);
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while compressing " + source);
+            }
+            throw (IOException) ex;
+        }
+        Files.move(temp, gzipped(source), StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(source);
+        Files.deleteIfExists(LogQuery.indexOf(source));
+    }
+
+    /**
+     * Deletes the oldest rolled over files of the active file, keeping
+     * {@code maxFiles}.
+     */
+    private static void prune(final Path active, final int maxFiles) throws IOException {
+        final Pattern pattern = Pattern.compile(Pattern.quote(active.getFileName().toString())
+                + "\\.(\\d{8}-\\d{6}-\\d{3})(?:-(\\d+))?(?:" + Pattern.quote(GZIP_SUFFIX) + ")?");
+        final List<Matcher> rolled = new ArrayList<>();
+        final Path dir = active.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (final Path entry : entries) {
+                final Matcher matcher = pattern.matcher(entry.getFileName().toString());
+                if (matcher.matches()) {
+                    rolled.add(matcher);
+                }
+            }
+        }
+        if (rolled.size() <= maxFiles) {
+            return;
+        }
+        Collections.sort(rolled, Comparator.<Matcher, String>comparing(m -> m.group(1))
+                .thenComparingInt(m -> m.group(2) == null ? 0 : Integer.parseInt(m.group(2))));
+        for (final Matcher oldest : rolled.subList(0, rolled.size() - maxFiles)) {
+            Files.deleteIfExists(dir.resolve(oldest.group()));
+            Files.deleteIfExists(LogQuery.indexOf(dir.resolve(oldest.group())));
+        }
+    }
+
+    private static Path gzipped(final Path file) {
+        return file.resolveSibling(file.getFileName() + GZIP_SUFFIX);
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), task -> {
+                    final Thread thread = new Thread(task, "UnixLogger-Rollover");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Decides what happens to an asynchronous event when the ring buffer is
+ * filling up, based on the event's {@link Severity}.
+ *
+ * <ul>
+ * <li>Events at the blocking severity or more severe are never dropped; the
+ * producer waits for a free slot.</li>
+ * <li>Less severe events are shed once the buffer is filled past a watermark.
+ * {@code DEBUG} is shed first, at the discard threshold. Each more severe
+ * level gets a higher watermark, up to a completely full buffer for the level
+ * just below the blocking severity.</li>
+ * <li>With a sample rate of N, one in every N shed events of a level is still
+ * queued if there is room, so some of the shed traffic stays visible.</li>
+ * </ul>
+ *
+ * <p>Every dropped event is counted per severity. The following properties
+ * configure the policy of the shared dispatcher:</p>
+ * <ul>
+ * <li>{@code UnixLogger.BlockingLevel} - least severe level that blocks
+ * (default {@code CRIT}).</li>
+ * <li>{@code UnixLogger.DiscardThreshold} - buffer fill ratio at which
+ * {@code DEBUG} starts being shed (default 0.75).</li>
+ * <li>{@code UnixLogger.SampleRate} - keep one in N shed events (default 0,
+ * meaning shed events are all dropped).</li>
+ * </ul>
+ */
+final class BackpressurePolicy {
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final Severity[] SEVERITIES = Severity.values();
+
+    private final Severity blockingSeverity;
+    private final int[] watermarks = new int[SEVERITIES.length];
+    private final int sampleRate;
+    private final AtomicLongArray shedCounts = new AtomicLongArray(SEVERITIES.length);
+    private final LongAdder[] dropped = new LongAdder[SEVERITIES.length];
+
+    BackpressurePolicy(final int capacity, final Severity blockingSeverity, final double discardThreshold,
+            final int sampleRate) {
+        this.blockingSeverity = blockingSeverity;
+        this.sampleRate = sampleRate;
+        final double threshold = Math.min(1.0, Math.max(0.0, discardThreshold));
+        final int sheddable = SEVERITIES.length - 1 - blockingSeverity.ordinal();
+        for (final Severity severity : SEVERITIES) {
+            dropped[severity.ordinal()] = new LongAdder();
+            if (severity.ordinal() <= blockingSeverity.ordinal()) {
+                watermarks[severity.ordinal()] = Integer.MAX_VALUE;
+            } else {
+                // DEBUG sits at the discard threshold, the level below the blocking one at a full buffer.
+                final int rank = SEVERITIES.length - 1 - severity.ordinal();
+                final double ratio = sheddable <= 1 ? threshold
+                        : threshold + (1.0 - threshold) * rank / (sheddable - 1);
+                watermarks[severity.ordinal()] = (int) Math.min(capacity, Math.ceil(capacity * ratio));
+            }
+        }
+    }
+
+    /**
+     * Creates the policy from the {@code UnixLogger.*} properties.
+     *
+     * @param capacity The ring buffer capacity.
+     * @return The configured policy.
+     */
+    static BackpressurePolicy fromProperties(final int capacity) {
+        final PropertiesUtil props = PropertiesUtil.getProperties();
+        return new BackpressurePolicy(capacity,
+                severity(props.getStringProperty("UnixLogger.BlockingLevel"), Severity.CRIT),
+                ratio(props.getStringProperty("UnixLogger.DiscardThreshold"), 0.75),
+                props.getIntegerProperty("UnixLogger.SampleRate", 0));
+    }
+
+    /**
+     * Returns whether the producer should wait for room rather than drop the
+     * event when the buffer is full.
+     *
+     * @param severity The event severity.
+     * @return {@code true} if the event must not be dropped.
+     */
+    boolean isBlocking(final Severity severity) {
+        return severity.ordinal() <= blockingSeverity.ordinal();
+    }
+
+    /**
+     * Returns whether an event may be queued with the buffer at its current
+     * fill level. Rejected events are counted as dropped.
+     *
+     * @param severity The event severity.
+     * @param queued The number of events currently in the buffer.
+     * @return {@code true} to queue the event, {@code false} to drop it.
+     */
+    boolean admit(final Severity severity, final int queued) {
+        final int index = severity.ordinal();
+        if (queued < watermarks[index]) {
+            return true;
+        }
+        if (sampleRate > 0 && shedCounts.incrementAndGet(index) % sampleRate == 0) {
+            return true;
+        }
+        dropped[index].increment();
+        return false;
+    }
+
+    /**
+     * Counts an event dropped because the buffer was full.
+     *
+     * @param severity The event severity.
+     */
+    void drop(final Severity severity) {
+        dropped[severity.ordinal()].increment();
+    }
+
+    /**
+     * Returns the number of events of a severity dropped so far.
+     *
+     * @param severity The severity.
+     * @return The dropped count.
+     */
+    long droppedCount(final Severity severity) {
+        return dropped[severity.ordinal()].sum();
+    }
+
+    private static Severity severity(final String name, final Severity defaultSeverity) {
+        if (name == null) {
+            return defaultSeverity;
+        }
+        try {
+            return Severity.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            LOGGER.warn("Unknown UnixLogger.BlockingLevel {}, using {}", name, defaultSeverity);
+            return defaultSeverity;
+        }
+    }
+
+    private static double ratio(final String value, final double defaultRatio) {
+        if (value == null) {
+            return defaultRatio;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (final NumberFormatException ex) {
+            LOGGER.warn("Invalid UnixLogger.DiscardThreshold {}, using {}", value, defaultRatio);
+            return defaultRatio;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Moves encoded messages from appender threads to a channel written by a
+ * single background thread.
+ *
+ * <p>Producers copy each framed message into a staging buffer under a short
+ * lock and return; they never touch the channel. The writer thread swaps the
+ * staging buffer with the one it last wrote, which takes constant time, and
+ * then writes every message that accumulated in a single batch. While the
+ * channel is down the writer reconnects with a fixed delay and then resends
+ * the interrupted batch, or what was not sent of it if the subclass can
+ * tell, so a message may be delivered twice around a connection failure. A
+ * write that fails while stopping discards the batch. Producers keep filling the staging buffer meanwhile;
+ * once it is full further messages are dropped and counted instead of
+ * blocking the caller.</p>
+ *
+ * <p>Subclasses decide how messages are framed in the staging buffer and how
+ * a batch is written to the channel.</p>
+ */
+abstract class BatchingChannelWriter {
+    protected static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final long IDLE_WAIT_MILLIS = 250;
+
+    private final String name;
+    private final long reconnectDelayMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final LongAdder dropped = new LongAdder();
+    private ByteBuffer staging;
+    private ByteBuffer batch;
+    // The number of messages in each buffer, counted as dropped if they are discarded.
+    private int stagedCount;
+    private int batchCount;
+    private volatile boolean running;
+    private boolean retry;
+    private Thread thread;
+
+    /**
+     * @param name The name used for the writer thread and in status messages.
+     * @param bufferSize The size of each of the two staging buffers, in bytes.
+     * @param reconnectDelayMillis How long to wait between connection attempts.
+     */
+    protected BatchingChannelWriter(final String name, final int bufferSize, final long reconnectDelayMillis) {
+        this.name = name;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+        this.staging = ByteBuffer.allocateDirect(bufferSize);
+        this.batch = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Returns the number of bytes the framing of a message of the given
+     * length adds in the staging buffer.
+     */
+    protected abstract int frameOverhead(int length);
+
+    /**
+     * Writes the framed message to the staging buffer, which is known to have
+     * room for {@code message.remaining() + frameOverhead(...)} bytes.
+     */
+    protected abstract void putFrame(ByteBuffer staging, ByteBuffer message);
+
+    /**
+     * Opens the channel. Called on the writer thread only.
+     *
+     * @throws IOException if the destination cannot be reached.
+     */
+    protected abstract void open() throws IOException;
+
+    /**
+     * Returns whether the channel is currently open.
+     */
+    protected abstract boolean isOpen();
+
+    /**
+     * Writes the framed messages between the batch's position and limit.
+     * Called on the writer thread only.
+     *
+     * @throws IOException if the write fails; the channel is then closed and
+     *             reopened.
+     */
+    protected abstract void writeBatch(ByteBuffer batch) throws IOException;
+
+    /**
+     * Prepares a batch whose write failed to be written again on a new
+     * connection. By default the whole batch is sent again, since a partly
+     * written frame cannot be resumed.
+     *
+     * @param batch The batch, positioned where {@link #writeBatch} stopped.
+     * @return The number of messages that were written and will not be sent
+     *         again.
+     */
+    protected int rewindForRetry(final ByteBuffer batch) {
+        batch.rewind();
+        return 0;
+    }
+
+    /**
+     * Closes the channel, ignoring errors.
+     */
+    protected abstract void closeChannel();
+
+    /**
+     * Starts the writer thread.
+     */
+    void start() {
+        running = true;
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the writer thread after it has written what is staged, waiting at
+     * most the given time.
+     *
+     * @param timeoutMillis The maximum time to wait.
+     */
+    void stop(final long timeoutMillis) {
+        running = false;
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join(timeoutMillis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        closeChannel();
+    }
+
+    /**
+     * Stages one encoded message for writing.
+     *
+     * @param message The message, between its position and limit. It is
+     *            consumed.
+     * @return {@code false} if the staging buffer was full and the message
+     *         was dropped.
+     */
+    boolean offer(final ByteBuffer message) {
+        final int length = message.remaining();
+        lock.lock();
+        try {
+            if (staging.remaining() < length + frameOverhead(length)) {
+                dropped.increment();
+                return false;
+            }
+            final boolean wasEmpty = staging.position() == 0;
+            putFrame(staging, message);
+            stagedCount++;
+            if (wasEmpty) {
+                notEmpty.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Holds the staging lock for the messages of a {@link LogBatch}, so that
+     * each {@link #offer} only re-enters it and the writer thread only swaps
+     * the staging buffer once the whole batch is staged.
+     */
+    void beginBatch() {
+        lock.lock();
+    }
+
+    /**
+     * Releases the lock taken by {@link #beginBatch()}.
+     */
+    void endBatch() {
+        lock.unlock();
+    }
+
+    /**
+     * Returns the number of messages dropped because the staging buffer was
+     * full, or discarded because the channel could not be reached when
+     * stopping.
+     *
+     * @return The dropped count.
+     */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void run() {
+        while (running || retry || hasStaged()) {
+            if (!isOpen() && !reconnect()) {
+                continue;
+            }
+            if (!retry && !swap()) {
+                continue;
+            }
+            try {
+                writeBatch(batch);
+                batch.clear();
+                batchCount = 0;
+                retry = false;
+            } catch (final IOException ex) {
+                closeChannel();
+                batchCount -= rewindForRetry(batch);
+                retry = true;
+                if (!running) {
+                    LOGGER.error("{} unable to write to channel while stopping", name, ex);
+                    discardStaged();
+                    continue;
+                }
+                LOGGER.error("{} unable to write to channel, reconnecting in {} ms", name, reconnectDelayMillis, ex);
+                pause();
+            }
+        }
+    }
+
+    private boolean hasStaged() {
+        lock.lock();
+        try {
+            return staging.position() > 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for staged messages and exchanges the staging buffer with the
+     * batch buffer.
+     *
+     * @return {@code true} if the batch buffer now holds messages to write.
+     */
+    private boolean swap() {
+        lock.lock();
+        try {
+            if (staging.position() == 0) {
+                if (!running) {
+                    return false;
+                }
+                notEmpty.await(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                if (staging.position() == 0) {
+                    return false;
+                }
+            }
+            final ByteBuffer filled = staging;
+            staging = batch;
+            staging.clear();
+            batch = filled;
+            batch.flip();
+            batchCount = stagedCount;
+            stagedCount = 0;
+            return true;
+        } catch (final InterruptedException ex) {
+            interrupted();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean reconnect() {
+        try {
+            open();
+            return true;
+        } catch (final IOException | RuntimeException ex) {
+            // Also UnresolvedAddressException and the like, which would otherwise end the thread.
+            LOGGER.warn("{} unable to connect, retrying in {} ms: {}", name, reconnectDelayMillis, ex.toString());
+            closeChannel();
+            if (!running) {
+                // Nothing will ever drain the staged messages; count them as dropped.
+                discardStaged();
+                return false;
+            }
+            pause();
+            return false;
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (final InterruptedException ex) {
+            interrupted();
+        }
+    }
+
+    private void discardStaged() {
+        lock.lock();
+        try {
+            dropped.add(stagedCount + batchCount);
+            stagedCount = 0;
+            batchCount = 0;
+            staging.clear();
+            batch.clear();
+            retry = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the writer after it was interrupted. The interrupt is not kept:
+     * waiting would fail at once from then on, and an interrupted channel
+     * closes itself, so what is staged could not be written before the
+     * thread ends.
+     */
+    private void interrupted() {
+        LOGGER.warn("{} was interrupted, stopping", name);
+        running = false;
+    }
+}
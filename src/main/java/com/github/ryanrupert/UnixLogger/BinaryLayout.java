@@ -0,0 +1,275 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.AbstractLayout;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+/**
+ * Encodes events in a compact binary format, read back with
+ * {@link BinaryLogDecoder}.
+ *
+ * <p>Logger names, thread names and message templates are written once per
+ * file and then referred to by number, and only the parameters of a
+ * {@link ParameterizedMessage} or {@link PrimitiveMessage} are written with
+ * each event. Timestamps are written
+ * as the difference from the start of the current block; a new block starts
+ * whenever that difference would no longer fit in two bytes. A typical event
+ * takes a dozen bytes plus its parameters.</p>
+ *
+ * <p>A file starts with the header {@code ULB} followed by the format
+ * version, then holds a sequence of records, each starting with a tag byte.
+ * Numbers are unsigned LEB128 varints; strings are a varint of their UTF-8
+ * length plus one (0 for {@code null}) followed by the bytes; a name is a
+ * varint of its number plus one, or 0 followed by the string itself.</p>
+ * <ul>
+ * <li>{@code 1} block: the base time in milliseconds as 8 bytes.</li>
+ * <li>{@code 2} definition: the number of the name, then the string.</li>
+ * <li>{@code 3} event: time since the base, level, logger name, thread name,
+ * message template name, number of parameters, the parameters as strings,
+ * the printed stack trace of the throwable as a string, and the byte
+ * {@code 4}. The level is the {@link Severity} code as one byte, or 255
+ * followed by the level name and its {@code intLevel} for other levels.
+ * Messages without parameters are written in full, formatted, with a
+ * parameter count of 0; they are not kept in the dictionary. The last byte
+ * keeps an event from ending with a zero byte, which
+ * {@link MappedFileAppender} would take for unused space after a crash.</li>
+ * </ul>
+ *
+ * <p>Because events refer to names defined earlier in the file, they must be
+ * written in the order they were encoded: use this layout with
+ * {@link MappedFileAppender}, which encodes it while holding its lock. The
+ * dictionary starts over with each file, when the header is written, and is
+ * limited to {@code maxNames} entries; names past the limit are written
+ * out in full. Since the names of a file written by a previous run are not
+ * known, MappedFileAppender rolls such a file over instead of appending to
+ * it.</p>
+ *
+ * <pre>
+ * &lt;MappedFile name="binary" fileName="logs/combined.ulb"&gt;
+ *     &lt;BinaryLayout/&gt;
+ * &lt;/MappedFile&gt;
+ * </pre>
+ */
+@Plugin(name = "BinaryLayout", category = "Core", elementType = "layout", printObject = true)
+public final class BinaryLayout extends AbstractLayout<byte[]> {
+    static final byte[] MAGIC = {'U', 'L', 'B', 2};
+    static final int BLOCK = 1;
+    static final int DEFINITION = 2;
+    static final int EVENT = 3;
+    static final int EVENT_END = 4;
+    static final int OTHER_LEVEL = 255;
+    static final long MAX_DELTA_MILLIS = (1 << 14) - 1;
+
+    private static final long serialVersionUID = -2640316572981625794L;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final int maxNames;
+    private final Map<String, Integer> names = new HashMap<>();
+    private transient ByteBuffer buffer;
+    private long blockStart = Long.MIN_VALUE;
+
+    private BinaryLayout(final int maxNames) {
+        super(null, null);
+        this.maxNames = maxNames;
+    }
+
+    /**
+     * Creates a BinaryLayout.
+     *
+     * @param maxNames The maximum number of names kept in the dictionary of
+     *            each file, 65536 by default.
+     * @return The layout.
+     */
+    @PluginFactory
+    public static BinaryLayout createLayout(
+            @PluginAttribute(value = "maxNames", defaultInt = 65536) final int maxNames) {
+        return new BinaryLayout(Math.max(0, maxNames));
+    }
+
+    /**
+     * Returns the file header and starts a new dictionary, since the header
+     * is written at the start of every new file.
+     *
+     * @return The header.
+     */
+    @Override
+    public synchronized byte[] getHeader() {
+        names.clear();
+        blockStart = Long.MIN_VALUE;
+        return MAGIC.clone();
+    }
+
+    /**
+     * Encodes an event, preceded by the block and definition records it
+     * needs.
+     *
+     * @param event The event.
+     * @return A buffer holding the encoded records, only valid until the next
+     *         call.
+     */
+    synchronized ByteBuffer encode(final LogEvent event) {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        }
+        buffer.clear();
+        final long timeMillis = event.getTimeMillis();
+        final long delta = timeMillis - blockStart;
+        if (blockStart == Long.MIN_VALUE || delta < 0 || delta > MAX_DELTA_MILLIS) {
+            ensure(9);
+            buffer.put((byte) BLOCK).putLong(timeMillis);
+            blockStart = timeMillis;
+        }
+        final Message message = event.getMessage();
+        final Object[] params = message instanceof ParameterizedMessage || message instanceof PrimitiveMessage
+                ? message.getParameters() : null;
+        final int count = params == null ? 0
+                : Math.min(params.length, ParameterizedMessage.countArgumentPlaceholders(message.getFormat()));
+        final int loggerRef = reference(event.getLoggerName());
+        final int threadRef = reference(event.getThreadName());
+        final int templateRef = count > 0 ? reference(message.getFormat()) : 0;
+        final Level level = event.getLevel();
+        final Severity severity = Severity.of(level);
+        final int levelRef = severity.level() == level ? 0 : reference(level.name());
+
+        ensure(1);
+        buffer.put((byte) EVENT);
+        putVarint(timeMillis - blockStart);
+        ensure(1);
+        if (severity.level() == level) {
+            buffer.put((byte) severity.code());
+        } else {
+            buffer.put((byte) OTHER_LEVEL);
+            putName(levelRef, level.name());
+            putVarint(level.intLevel());
+        }
+        putName(loggerRef, event.getLoggerName());
+        putName(threadRef, event.getThreadName());
+        if (count > 0) {
+            putName(templateRef, message.getFormat());
+            putVarint(count);
+            for (int i = 0; i < count; i++) {
+                putString(ParameterizedMessage.deepToString(params[i]));
+            }
+        } else {
+            putName(0, message == null ? "" : message.getFormattedMessage());
+            putVarint(0);
+        }
+        putString(event.getThrown() == null ? null : stackTrace(event.getThrown()));
+        ensure(1);
+        buffer.put((byte) EVENT_END);
+        buffer.flip();
+        Metrics.add(event.getLoggerName(), level, Metric.BYTES, buffer.remaining());
+        return buffer;
+    }
+
+    @Override
+    public byte[] toByteArray(final LogEvent event) {
+        synchronized (this) {
+            final ByteBuffer encoded = encode(event);
+            final byte[] result = new byte[encoded.remaining()];
+            encoded.get(result);
+            return result;
+        }
+    }
+
+    @Override
+    public byte[] toSerializable(final LogEvent event) {
+        return toByteArray(event);
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    public Map<String, String> getContentFormat() {
+        final Map<String, String> result = new HashMap<>();
+        result.put("version", Integer.toString(MAGIC[3]));
+        return result;
+    }
+
+    /**
+     * Returns the number of a name plus one, writing its definition first if
+     * it is new, or 0 if the dictionary is full.
+     */
+    private int reference(final String name) {
+        if (name == null) {
+            return 0;
+        }
+        final Integer known = names.get(name);
+        if (known != null) {
+            return known + 1;
+        }
+        if (names.size() >= maxNames) {
+            return 0;
+        }
+        final int number = names.size();
+        names.put(name, number);
+        ensure(1);
+        buffer.put((byte) DEFINITION);
+        putVarint(number);
+        putString(name);
+        return number + 1;
+    }
+
+    private void putName(final int ref, final String name) {
+        putVarint(ref);
+        if (ref == 0) {
+            putString(name);
+        }
+    }
+
+    private void putString(final String value) {
+        if (value == null) {
+            putVarint(0);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarint(bytes.length + 1L);
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void putVarint(final long value) {
+        ensure(10);
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    private void ensure(final int length) {
+        if (buffer.remaining() < length) {
+            final ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2,
+                    buffer.position() + length));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    private static String stackTrace(final Throwable thrown) {
+        final StringWriter writer = new StringWriter();
+        thrown.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryLayout[maxNames=" + maxNames + "]";
+    }
+}
@@ -0,0 +1,283 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+
+/**
+ * Reads back the events written by {@link BinaryLayout}, one at a time.
+ *
+ * <p>Decoded events carry the time, level, logger name, thread name and
+ * message of the original event. The throwable, if any, is a stand-in whose
+ * {@code printStackTrace} methods print the original stack trace. Several
+ * files can be read as one stream, for example with {@code cat}: each header
+ * starts a new dictionary. Zero bytes left after the last event by a crash
+ * end the stream.</p>
+ *
+ * <p>Run as a program, it prints binary log files, or standard input, as text
+ * with a {@link PatternLayout} pattern, {@code %d %-7level %logger{36} -
+ * %msg%n} by default. Gzipped files are decompressed.</p>
+ *
+ * <pre>
+ * java -cp UnixLogger.jar:log4j-api.jar:log4j-core.jar com.github.ryanrupert.UnixLogger.BinaryLogDecoder \
+ *         [-pattern '%d %-7level %logger{36} - %msg%n'] logs/combined.ulb...
+ * </pre>
+ */
+public final class BinaryLogDecoder implements Closeable {
+    private static final String DEFAULT_PATTERN = "%d %-7level %logger{36} - %msg%n";
+
+    private final DataInputStream in;
+    private final List<String> names = new ArrayList<>();
+    private long blockStart;
+    private int version;
+
+    /**
+     * Creates a decoder.
+     *
+     * @param in The binary log, starting with its header.
+     */
+    public BinaryLogDecoder(final InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+    }
+
+    /**
+     * Reads the next event.
+     *
+     * @return The event, or {@code null} at the end of the stream.
+     * @throws IOException if the stream cannot be read or is not a valid
+     *             binary log, including when it ends in the middle of a
+     *             record.
+     */
+    public LogEvent next() throws IOException {
+        for (;;) {
+            final int tag = in.read();
+            switch (tag) {
+            case -1:
+            case 0:
+                return null;
+            case 'U':
+                readHeader();
+                break;
+            case BinaryLayout.BLOCK:
+                blockStart = in.readLong();
+                break;
+            case BinaryLayout.DEFINITION:
+                define((int) readVarint(), readString());
+                break;
+            case BinaryLayout.EVENT:
+                return readEvent();
+            default:
+                throw new IOException("Invalid record type " + tag);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Prints binary log files as text.
+     *
+     * @param args {@code [-pattern <pattern>] [file...]}; standard input is
+     *            read when no file is given.
+     * @throws IOException if a file cannot be read or decoded.
+     */
+    public static void main(final String[] args) throws IOException {
+        String pattern = DEFAULT_PATTERN;
+        final List<String> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("-pattern".equals(args[i]) && i + 1 < args.length) {
+                pattern = args[++i];
+            } else {
+                files.add(args[i]);
+            }
+        }
+        final PatternLayout layout = PatternLayout.createLayout(pattern, null, null, StandardCharsets.UTF_8, false,
+                false, null, null);
+        final Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try {
+            if (files.isEmpty()) {
+                print(new BinaryLogDecoder(System.in), layout, out);
+            }
+            for (final String file : files) {
+                InputStream stream = Files.newInputStream(Paths.get(file));
+                if (file.endsWith(".gz")) {
+                    stream = new GZIPInputStream(stream);
+                }
+                try (BinaryLogDecoder decoder = new BinaryLogDecoder(stream)) {
+                    print(decoder, layout, out);
+                }
+            }
+        } finally {
+            out.flush();
+        }
+    }
+
+    private static void print(final BinaryLogDecoder decoder, final PatternLayout layout, final Writer out)
+            throws IOException {
+        LogEvent event;
+        while ((event = decoder.next()) != null) {
+            out.write(layout.toSerializable(event));
+            if (event.getThrown() != null) {
+                event.getThrown().printStackTrace(new PrintWriter(out));
+            }
+        }
+    }
+
+    private void readHeader() throws IOException {
+        if (in.read() != 'L' || in.read() != 'B') {
+            throw new IOException("Not a binary log");
+        }
+        version = in.read();
+        // Version 1 did not end events with EVENT_END.
+        if (version != 1 && version != BinaryLayout.MAGIC[3]) {
+            throw new IOException("Unsupported binary log version " + version);
+        }
+        names.clear();
+    }
+
+    private LogEvent readEvent() throws IOException {
+        final long timeMillis = blockStart + readVarint();
+        final int levelCode = in.readUnsignedByte();
+        final Level level;
+        if (levelCode == BinaryLayout.OTHER_LEVEL) {
+            final String levelName = readName();
+            level = Level.forName(levelName, (int) readVarint());
+        } else if (levelCode < Severity.values().length) {
+            level = Severity.forCode(levelCode).level();
+        } else {
+            throw new IOException("Invalid level " + levelCode);
+        }
+        final String loggerName = readName();
+        final String threadName = readName();
+        final String text = readName();
+        final int count = (int) readVarint();
+        final Message message;
+        if (count == 0) {
+            message = new SimpleMessage(text);
+        } else {
+            final String[] params = new String[count];
+            for (int i = 0; i < count; i++) {
+                params[i] = readString();
+            }
+            message = new ParameterizedMessage(text, params, null);
+        }
+        final String stackTrace = readString();
+        if (version > 1 && in.readUnsignedByte() != BinaryLayout.EVENT_END) {
+            throw new IOException("Invalid end of event");
+        }
+        return new Log4jLogEvent(loggerName, null, null, level, message,
+                stackTrace == null ? null : new DecodedThrowable(stackTrace), Collections.<String, String>emptyMap(),
+                ThreadContext.EMPTY_STACK, threadName, null, timeMillis);
+    }
+
+    private void define(final int number, final String name) throws IOException {
+        if (number > names.size()) {
+            throw new IOException("Invalid definition of name " + number);
+        }
+        if (number == names.size()) {
+            names.add(name);
+        } else {
+            names.set(number, name);
+        }
+    }
+
+    private String readName() throws IOException {
+        final long ref = readVarint();
+        if (ref == 0) {
+            return readString();
+        }
+        if (ref > names.size()) {
+            throw new IOException("Undefined name " + (ref - 1));
+        }
+        return names.get((int) ref - 1);
+    }
+
+    private String readString() throws IOException {
+        final long length = readVarint();
+        if (length == 0) {
+            return null;
+        }
+        if (length - 1 > Integer.MAX_VALUE) {
+            throw new IOException("Invalid string length " + (length - 1));
+        }
+        final byte[] bytes = new byte[(int) length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated record");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid varint");
+    }
+
+    /**
+     * Stands in for a logged throwable, printing its original stack trace.
+     */
+    private static final class DecodedThrowable extends Throwable {
+        private static final long serialVersionUID = 4106257810943721837L;
+
+        private final String stackTrace;
+
+        DecodedThrowable(final String stackTrace) {
+            super(firstLine(stackTrace), null, false, false);
+            this.stackTrace = stackTrace;
+        }
+
+        @Override
+        public void printStackTrace(final PrintStream s) {
+            s.print(stackTrace);
+        }
+
+        @Override
+        public void printStackTrace(final PrintWriter s) {
+            s.print(stackTrace);
+            s.flush();
+        }
+
+        @Override
+        public String toString() {
+            return getMessage();
+        }
+
+        private static String firstLine(final String text) {
+            final int end = text.indexOf('\n');
+            return (end < 0 ? text : text.substring(0, end)).trim();
+        }
+    }
+}
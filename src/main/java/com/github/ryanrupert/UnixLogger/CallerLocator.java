@@ -0,0 +1,30 @@
+package com.github.ryanrupert.UnixLogger;
+
+import org.apache.logging.log4j.util.ReflectionUtil;
+
+/**
+ * Finds the class that called into the library, for naming Loggers after
+ * their caller.
+ *
+ * <p>This version uses Log4j's {@link ReflectionUtil}, which is fast on
+ * Java 8 but has to capture the whole stack trace on later versions. The
+ * multi-release jar carries a replacement under {@code META-INF/versions/9}
+ * that uses {@code StackWalker} and stops at the first matching frame.</p>
+ */
+final class CallerLocator {
+
+    private CallerLocator() {
+    }
+
+    /**
+     * Returns the class of the first frame below the frames of the anchor
+     * class.
+     *
+     * @param anchor The class whose caller is wanted.
+     * @return The calling class, or {@code Object.class} if there is none.
+     */
+    static Class<?> callerOf(final Class<?> anchor) {
+        final Class<?> caller = ReflectionUtil.getCallerClass(anchor);
+        return caller != null ? caller : Object.class;
+    }
+}
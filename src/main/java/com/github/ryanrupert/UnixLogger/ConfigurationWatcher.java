@@ -0,0 +1,86 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.apache.logging.log4j.core.LoggerContext;
+
+/**
+ * Tells every custom {@link Logger} whether its configuration has a
+ * context-wide filter, which may accept events below the logger level.
+ *
+ * <p>A single listener is registered on each {@link LoggerContext} in use.
+ * When the context installs a new configuration every Logger created for it
+ * checks it again. Levels are not cached here: {@code setLevel} and
+ * {@code updateLoggers} change them without notifying listeners, so Loggers
+ * read them from the Log4j Logger. Loggers are held weakly so that watching
+ * them does not keep them alive.</p>
+ */
+final class ConfigurationWatcher implements PropertyChangeListener {
+    private static final ConfigurationWatcher INSTANCE = new ConfigurationWatcher();
+
+    private final Map<Logger, org.apache.logging.log4j.Logger> loggers = new WeakHashMap<>();
+    private final Set<LoggerContext> contexts = Collections.newSetFromMap(new WeakHashMap<LoggerContext, Boolean>());
+
+    private ConfigurationWatcher() {
+    }
+
+    /**
+     * Starts tracking the given Logger and tells it whether its
+     * configuration has a filter.
+     *
+     * @param logger The custom Logger to keep up to date.
+     * @param delegate The Log4j Logger it wraps.
+     */
+    static void watch(final Logger logger, final org.apache.logging.log4j.Logger delegate) {
+        INSTANCE.add(logger, delegate);
+        logger.refreshFiltered(hasContextFilter(delegate));
+    }
+
+    /**
+     * Checks whether the configuration of the given Logger has a
+     * context-wide filter, in which case no level threshold can be applied.
+     *
+     * @param delegate The Log4j Logger.
+     * @return {@code true} if events below the logger level may be accepted.
+     */
+    static boolean hasContextFilter(final org.apache.logging.log4j.Logger delegate) {
+        if (delegate instanceof org.apache.logging.log4j.core.Logger) {
+            final LoggerContext context = ((org.apache.logging.log4j.core.Logger) delegate).getContext();
+            return context.getConfiguration().hasFilter();
+        }
+        return false;
+    }
+
+    private synchronized void add(final Logger logger, final org.apache.logging.log4j.Logger delegate) {
+        loggers.put(logger, delegate);
+        if (delegate instanceof org.apache.logging.log4j.core.Logger) {
+            final LoggerContext context = ((org.apache.logging.log4j.core.Logger) delegate).getContext();
+            if (contexts.add(context)) {
+                context.addPropertyChangeListener(this);
+            }
+        }
+    }
+
+    @Override
+    public void propertyChange(final PropertyChangeEvent evt) {
+        if (!LoggerContext.PROPERTY_CONFIG.equals(evt.getPropertyName())) {
+            return;
+        }
+        final List<Map.Entry<Logger, org.apache.logging.log4j.Logger>> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(loggers.entrySet());
+        }
+        for (final Map.Entry<Logger, org.apache.logging.log4j.Logger> entry : snapshot) {
+            final Logger logger = entry.getKey();
+            if (logger != null) {
+                logger.refreshFiltered(hasContextFilter(entry.getValue()));
+            }
+        }
+    }
+}
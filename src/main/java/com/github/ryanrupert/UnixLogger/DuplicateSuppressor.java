@@ -0,0 +1,309 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Collapses repeated events into a single summary, like syslogd's "last
+ * message repeated N times".
+ *
+ * <p>Events are keyed on logger name, level, message template (the format of
+ * the message, before parameters are substituted) and the class of the
+ * throwable. The first event of a key is logged and opens a window; further
+ * events with the same key during the window are only counted. When the
+ * window closes, a background thread logs one summary line at the same
+ * level with the repeat count, and the next event of the key is logged again
+ * and opens a new window. The summary carries the time, thread name and
+ * thread context of the last repeat, not those of the thread logging it.</p>
+ *
+ * <p>The number of keys tracked at once is bounded; while the map is full,
+ * events with new keys are logged without suppression. Idle keys are
+ * removed once their window has closed with nothing to report. The following
+ * properties configure the shared instance:</p>
+ * <ul>
+ * <li>{@code UnixLogger.DuplicateWindowMillis} - length of the window
+ * (default 0, which disables suppression).</li>
+ * <li>{@code UnixLogger.DuplicateMaxKeys} - number of keys tracked at once
+ * (default 10000).</li>
+ * </ul>
+ */
+final class DuplicateSuppressor {
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final int DEFAULT_MAX_KEYS = 10000;
+    private static final DuplicateSuppressor DEFAULT = fromProperties();
+    private static final ThreadLocal<Key> PROBES = new ThreadLocal<Key>() {
+        @Override
+        protected Key initialValue() {
+            return new Key();
+        }
+    };
+
+    private final long windowNanos;
+    private final int maxKeys;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    DuplicateSuppressor(final long windowMillis, final int maxKeys) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxKeys = maxKeys;
+        final Thread sweeper = new Thread(this::sweep, "UnixLogger-Duplicates");
+        sweeper.setDaemon(true);
+        sweeper.start();
+    }
+
+    /**
+     * Returns the suppressor configured by the {@code UnixLogger.*}
+     * properties.
+     *
+     * @return The shared suppressor, or {@code null} if suppression is
+     *         disabled.
+     */
+    static DuplicateSuppressor getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Decides whether an event is logged or counted as a repeat. A summary of
+     * the previous window is delivered first if it closed since.
+     *
+     * @param target The wrapper the event and any summary are delivered to.
+     * @return {@code true} if the event should be logged.
+     */
+    boolean admit(final UnixLoggerWrapper target, final String fqcn, final Level level, final Marker marker,
+            final Message message, final Throwable t) {
+        // Looked up with a reused key; a copy is only made for a new entry.
+        final Key probe = PROBES.get().set(target.getName(), level, message == null ? null : message.getFormat(),
+                t == null ? null : t.getClass());
+        final long now = System.nanoTime();
+        for (;;) {
+            Entry entry = entries.get(probe);
+            if (entry == null) {
+                if (entries.size() >= maxKeys) {
+                    return true;
+                }
+                final Key key = probe.copy();
+                entry = new Entry(key, target, fqcn, marker, now + windowNanos);
+                final Entry raced = entries.putIfAbsent(key, entry);
+                if (raced == null) {
+                    return true;
+                }
+                entry = raced;
+            }
+            final long windowEnd = entry.windowEnd.get();
+            if (now - windowEnd < 0) {
+                entry.lastRepeat = new Repeat();
+                if (entry.countRepeat()) {
+                    return false;
+                }
+                // Removed by the sweeper; look the key up again.
+                continue;
+            }
+            if (entry.windowEnd.compareAndSet(windowEnd, now + windowNanos)) {
+                entry.summarize();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Delivers the summaries of closed windows and removes idle keys.
+     */
+    private void sweep() {
+        final long interval = Math.max(TimeUnit.MILLISECONDS.toNanos(1), windowNanos / 2);
+        for (;;) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(interval);
+            } catch (final InterruptedException ex) {
+                return;
+            }
+            final long now = System.nanoTime();
+            for (final Map.Entry<Key, Entry> mapping : entries.entrySet()) {
+                final Entry entry = mapping.getValue();
+                if (now - entry.windowEnd.get() >= 0 && !entry.summarize() && entry.retire()) {
+                    entries.remove(mapping.getKey(), entry);
+                }
+            }
+        }
+    }
+
+    private static DuplicateSuppressor fromProperties() {
+        final PropertiesUtil props = PropertiesUtil.getProperties();
+        final long windowMillis = props.getLongProperty("UnixLogger.DuplicateWindowMillis", 0);
+        if (windowMillis <= 0) {
+            return null;
+        }
+        final int maxKeys = props.getIntegerProperty("UnixLogger.DuplicateMaxKeys", DEFAULT_MAX_KEYS);
+        if (maxKeys <= 0) {
+            LOGGER.warn("Invalid UnixLogger.DuplicateMaxKeys {}, using {}", maxKeys, DEFAULT_MAX_KEYS);
+            return new DuplicateSuppressor(windowMillis, DEFAULT_MAX_KEYS);
+        }
+        return new DuplicateSuppressor(windowMillis, maxKeys);
+    }
+
+    /**
+     * What makes two events repeats of each other. The keys in the map are
+     * never changed; each thread sets its own to look them up.
+     */
+    private static final class Key {
+        private String loggerName;
+        private Level level;
+        private String template;
+        private Class<?> thrownClass;
+        private int hash;
+
+        Key set(final String loggerName, final Level level, final String template, final Class<?> thrownClass) {
+            this.loggerName = loggerName;
+            this.level = level;
+            this.template = template;
+            this.thrownClass = thrownClass;
+            int result = loggerName == null ? 0 : loggerName.hashCode();
+            result = 31 * result + level.hashCode();
+            result = 31 * result + (template == null ? 0 : template.hashCode());
+            result = 31 * result + (thrownClass == null ? 0 : thrownClass.hashCode());
+            this.hash = result;
+            return this;
+        }
+
+        Key copy() {
+            final Key key = new Key();
+            key.loggerName = loggerName;
+            key.level = level;
+            key.template = template;
+            key.thrownClass = thrownClass;
+            key.hash = hash;
+            return key;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hash == other.hash && level == other.level && thrownClass == other.thrownClass
+                    && (loggerName == null ? other.loggerName == null : loggerName.equals(other.loggerName))
+                    && (template == null ? other.template == null : template.equals(other.template));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The current window of a key and the number of repeats seen in it. The
+     * count is {@link #RETIRED} once the sweeper has taken the entry out of
+     * the map, so that no repeat is counted on an entry nobody will report.
+     */
+    private static final class Entry {
+        private static final long RETIRED = -1;
+
+        private final Key key;
+        private final UnixLoggerWrapper target;
+        private final String fqcn;
+        private final Marker marker;
+        private final AtomicLong windowEnd;
+        private final AtomicLong repeats = new AtomicLong();
+        private volatile Repeat lastRepeat;
+
+        Entry(final Key key, final UnixLoggerWrapper target, final String fqcn, final Marker marker,
+                final long windowEnd) {
+            this.key = key;
+            this.target = target;
+            this.fqcn = fqcn;
+            this.marker = marker;
+            this.windowEnd = new AtomicLong(windowEnd);
+        }
+
+        /**
+         * Counts a repeat.
+         *
+         * @return {@code false} if the entry has been retired.
+         */
+        boolean countRepeat() {
+            for (;;) {
+                final long count = repeats.get();
+                if (count == RETIRED) {
+                    return false;
+                }
+                if (repeats.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Marks the entry for removal, unless a repeat was counted since the
+         * last summary.
+         *
+         * @return {@code true} if the entry was retired.
+         */
+        boolean retire() {
+            return repeats.compareAndSet(0, RETIRED);
+        }
+
+        /**
+         * Delivers the summary of the repeats counted so far, if any.
+         *
+         * @return {@code false} if there was nothing to report.
+         */
+        boolean summarize() {
+            long count;
+            do {
+                count = repeats.get();
+                if (count <= 0) {
+                    return false;
+                }
+            } while (!repeats.compareAndSet(count, 0));
+            final String text = "last message repeated " + count + (count == 1 ? " time: " : " times: ")
+                    + key.template;
+            final ExtendedLogger delegate = target.delegate();
+            final Repeat repeat = lastRepeat;
+            if (target instanceof AsyncLoggerWrapper) {
+                AsyncDispatcher.getDefault().publish(delegate, fqcn, key.level, marker, new SimpleMessage(text),
+                        repeat.threadName, repeat.context, repeat.stack, repeat.timeMillis);
+                return true;
+            }
+            if (!(delegate instanceof org.apache.logging.log4j.core.Logger)) {
+                target.deliver(fqcn, key.level, marker, new SimpleMessage(text), null);
+                return true;
+            }
+            final Configuration config = ((org.apache.logging.log4j.core.Logger) delegate).getContext()
+                    .getConfiguration();
+            final LoggerConfig loggerConfig = config.getLoggerConfig(target.getName());
+            target.deliver(loggerConfig, new Log4jLogEvent(target.getName(), marker, fqcn, key.level,
+                    new SimpleMessage(text), null, SourceLocation.contextMap(config, loggerConfig, repeat.context),
+                    repeat.stack, repeat.threadName, null, repeat.timeMillis));
+            return true;
+        }
+    }
+
+    /**
+     * The caller of a repeat, taken on its own thread so that the summary
+     * can be logged as if by it.
+     */
+    private static final class Repeat {
+        private final String threadName = Thread.currentThread().getName();
+        private final Map<String, String> context = ThreadContext.getImmutableContext();
+        private final ThreadContext.ContextStack stack = ThreadContext.getDepth() == 0 ? null
+                : ThreadContext.cloneStack();
+        private final long timeMillis = System.currentTimeMillis();
+    }
+}
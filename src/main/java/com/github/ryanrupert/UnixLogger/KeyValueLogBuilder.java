@@ -0,0 +1,195 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Arrays;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+
+/**
+ * The {@link LogBuilder} of enabled events, reused by each thread.
+ *
+ * <p>Fields are collected in arrays that grow as needed and are kept from one
+ * event to the next. Logging copies them into an immutable
+ * {@link KeyValueMessage}, since an asynchronous Logger hands the message to
+ * another thread. A builder started while the thread's builder is still in
+ * use, from a {@code toString} called while building for example, is a new
+ * one.</p>
+ */
+final class KeyValueLogBuilder implements LogBuilder {
+    /** The builder of disabled events. */
+    static final LogBuilder NOOP = new Noop();
+
+    private static final String FQCN = KeyValueLogBuilder.class.getName();
+    private static final int INITIAL_CAPACITY = 8;
+    private static final ThreadLocal<KeyValueLogBuilder> BUILDERS = new ThreadLocal<KeyValueLogBuilder>() {
+        @Override
+        protected KeyValueLogBuilder initialValue() {
+            return new KeyValueLogBuilder();
+        }
+    };
+
+    private UnixLoggerWrapper logger;
+    private Level level;
+    private Marker marker;
+    private Throwable thrown;
+    private boolean inUse;
+    private int size;
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private long[] primitives = new long[INITIAL_CAPACITY];
+    private Object[] objects = new Object[INITIAL_CAPACITY];
+
+    private KeyValueLogBuilder() {
+    }
+
+    /**
+     * Starts an event on this thread's builder. The caller has checked that
+     * the level is enabled.
+     *
+     * @param logger The wrapper to log through.
+     * @param level The level of the event.
+     * @return The builder.
+     */
+    static LogBuilder start(final UnixLoggerWrapper logger, final Level level) {
+        KeyValueLogBuilder builder = BUILDERS.get();
+        if (builder.inUse) {
+            builder = new KeyValueLogBuilder();
+        }
+        builder.inUse = true;
+        builder.logger = logger;
+        builder.level = level;
+        return builder;
+    }
+
+    @Override
+    public LogBuilder kv(final String key, final Object value) {
+        return add(key, KeyValueMessage.OBJECT, 0, value);
+    }
+
+    @Override
+    public LogBuilder kv(final String key, final long value) {
+        return add(key, KeyValueMessage.LONG, value, null);
+    }
+
+    @Override
+    public LogBuilder kv(final String key, final double value) {
+        return add(key, KeyValueMessage.DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    @Override
+    public LogBuilder kv(final String key, final boolean value) {
+        return add(key, KeyValueMessage.BOOLEAN, value ? 1 : 0, null);
+    }
+
+    @Override
+    public LogBuilder kv(final String key, final char value) {
+        return add(key, KeyValueMessage.CHAR, value, null);
+    }
+
+    @Override
+    public LogBuilder withMarker(final Marker marker) {
+        this.marker = marker;
+        return this;
+    }
+
+    @Override
+    public LogBuilder withThrowable(final Throwable t) {
+        this.thrown = t;
+        return this;
+    }
+
+    @Override
+    public void log(final String message) {
+        try {
+            final KeyValueMessage msg = new KeyValueMessage(message, size, keys, types, primitives, objects, thrown);
+            if (marker == null) {
+                logger.logMessage(FQCN, level, null, msg, thrown);
+            } else {
+                // The level was checked without the Marker.
+                logger.logIfEnabled(FQCN, level, marker, msg, thrown);
+            }
+        } finally {
+            reset();
+        }
+    }
+
+    @Override
+    public void log() {
+        log(null);
+    }
+
+    private LogBuilder add(final String key, final byte type, final long primitive, final Object object) {
+        if (size == keys.length) {
+            final int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            types = Arrays.copyOf(types, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        keys[size] = String.valueOf(key);
+        types[size] = type;
+        primitives[size] = primitive;
+        objects[size] = object;
+        size++;
+        return this;
+    }
+
+    private void reset() {
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+        logger = null;
+        level = null;
+        marker = null;
+        thrown = null;
+        inUse = false;
+    }
+
+    /**
+     * Ignores everything, for disabled events.
+     */
+    private static final class Noop implements LogBuilder {
+        @Override
+        public LogBuilder kv(final String key, final Object value) {
+            return this;
+        }
+
+        @Override
+        public LogBuilder kv(final String key, final long value) {
+            return this;
+        }
+
+        @Override
+        public LogBuilder kv(final String key, final double value) {
+            return this;
+        }
+
+        @Override
+        public LogBuilder kv(final String key, final boolean value) {
+            return this;
+        }
+
+        @Override
+        public LogBuilder kv(final String key, final char value) {
+            return this;
+        }
+
+        @Override
+        public LogBuilder withMarker(final Marker marker) {
+            return this;
+        }
+
+        @Override
+        public LogBuilder withThrowable(final Throwable t) {
+            return this;
+        }
+
+        @Override
+        public void log(final String message) {
+            // Disabled.
+        }
+
+        @Override
+        public void log() {
+            // Disabled.
+        }
+    }
+}
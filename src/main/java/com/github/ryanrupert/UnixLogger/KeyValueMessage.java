@@ -0,0 +1,191 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Arrays;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * A message with key-value fields, built with a {@link LogBuilder}.
+ *
+ * <p>The formatted message is the text followed by the fields as
+ * {@code key=value}, separated by spaces; values that are empty or contain a
+ * space, a quote, a backslash or {@code =} are quoted, escaping quotes and
+ * backslashes. {@link #getFormat()} returns the text alone, for layouts that
+ * write the fields separately, such as {@link UnixRfc5424Layout}. Primitive
+ * values are stored as such and only formatted, without boxing, when the
+ * message is.</p>
+ */
+public final class KeyValueMessage implements Message {
+    static final byte OBJECT = 0;
+    static final byte LONG = 1;
+    static final byte DOUBLE = 2;
+    static final byte BOOLEAN = 3;
+    static final byte CHAR = 4;
+
+    private static final long serialVersionUID = -3094472893711282167L;
+
+    private final String text;
+    private final int size;
+    private final String[] keys;
+    private final byte[] types;
+    private final long[] primitives;
+    private final Object[] objects;
+    private final Throwable thrown;
+    private transient String formatted;
+
+    /**
+     * Copies the first {@code size} fields of the arrays, which the caller
+     * keeps reusing.
+     */
+    KeyValueMessage(final String text, final int size, final String[] keys, final byte[] types,
+            final long[] primitives, final Object[] objects, final Throwable thrown) {
+        this.text = text == null ? "" : text;
+        this.size = size;
+        this.keys = Arrays.copyOf(keys, size);
+        this.types = Arrays.copyOf(types, size);
+        this.primitives = Arrays.copyOf(primitives, size);
+        this.objects = Arrays.copyOf(objects, size);
+        this.thrown = thrown;
+    }
+
+    /**
+     * Returns the number of fields.
+     *
+     * @return The number of fields.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the name of a field.
+     *
+     * @param index The index of the field, in the order they were added.
+     * @return The name.
+     */
+    public String getKey(final int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the value of a field, boxing primitive values.
+     *
+     * @param index The index of the field, in the order they were added.
+     * @return The value.
+     */
+    public Object getValue(final int index) {
+        final long bits = primitives[index];
+        switch (types[index]) {
+        case LONG:
+            return bits;
+        case DOUBLE:
+            return Double.longBitsToDouble(bits);
+        case BOOLEAN:
+            return bits != 0;
+        case CHAR:
+            return (char) bits;
+        default:
+            return objects[index];
+        }
+    }
+
+    /**
+     * Appends the value of a field, formatting primitive values without
+     * boxing them.
+     *
+     * @param index The index of the field, in the order they were added.
+     * @param sb The StringBuilder to append to.
+     */
+    public void appendValue(final int index, final StringBuilder sb) {
+        final long bits = primitives[index];
+        switch (types[index]) {
+        case LONG:
+            sb.append(bits);
+            break;
+        case DOUBLE:
+            sb.append(Double.longBitsToDouble(bits));
+            break;
+        case BOOLEAN:
+            sb.append(bits != 0);
+            break;
+        case CHAR:
+            sb.append((char) bits);
+            break;
+        default:
+            sb.append(objects[index]);
+            break;
+        }
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        if (formatted == null) {
+            final StringBuilder sb = new StringBuilder(text.length() + size * 16);
+            sb.append(text);
+            for (int i = 0; i < size; i++) {
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(keys[i]).append('=');
+                final int start = sb.length();
+                appendValue(i, sb);
+                quoteIfNeeded(sb, start);
+            }
+            formatted = sb.toString();
+        }
+        return formatted;
+    }
+
+    @Override
+    public String getFormat() {
+        return text;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        final Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = getValue(i);
+        }
+        return values;
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return thrown;
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+
+    /**
+     * Replaces the message by a copy holding the values as Strings, since
+     * they may not be serializable.
+     */
+    private Object writeReplace() {
+        final Object[] strings = new Object[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = types[i] == OBJECT ? String.valueOf(objects[i]) : null;
+        }
+        return new KeyValueMessage(text, size, keys, types, primitives, strings, thrown);
+    }
+
+    private static void quoteIfNeeded(final StringBuilder sb, final int start) {
+        boolean quote = sb.length() == start;
+        for (int i = start; i < sb.length() && !quote; i++) {
+            final char c = sb.charAt(i);
+            quote = c == ' ' || c == '"' || c == '\\' || c == '=';
+        }
+        if (!quote) {
+            return;
+        }
+        for (int i = sb.length() - 1; i >= start; i--) {
+            final char c = sb.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.insert(i, '\\');
+            }
+        }
+        sb.insert(start, '"').append('"');
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, lock-free histogram of durations in nanoseconds, with
+ * log-linear buckets in the manner of HdrHistogram.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} ns each have their own bucket. Above
+ * that, every power of two is split into {@value #HALF_SUB_BUCKETS} equal
+ * buckets, so a value is known to within 1/64 (about 1.6%) of itself.
+ * Values up to 2<sup>36</sup> ns (about 69 s) are tracked; longer ones are
+ * counted in the last bucket, and the exact maximum is kept separately.
+ * Recording is one atomic increment plus, rarely, a CAS on the maximum.</p>
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_VALUE_BITS = 36;
+    private static final long MAX_TRACKABLE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKETS = index(MAX_TRACKABLE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos The duration; negative values count as 0.
+     */
+    void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(index(Math.min(value, MAX_TRACKABLE)));
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Copies the histogram, optionally clearing it so the next snapshot
+     * covers the following interval only. Values recorded while the snapshot
+     * is taken go to either interval.
+     *
+     * @param reset Whether to clear the histogram.
+     * @return The snapshot.
+     */
+    LatencySnapshot snapshot(final boolean reset) {
+        final long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = reset ? counts.getAndSet(i, 0) : counts.get(i);
+        }
+        final long maxValue = reset ? max.getAndSet(0) : max.get();
+        return new LatencySnapshot(copy, maxValue);
+    }
+
+    /**
+     * Returns the bucket of a value no larger than {@link #MAX_TRACKABLE}.
+     */
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        final int mantissa = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (mantissa - HALF_SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     */
+    static long highestValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        final long mantissa = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.ryanrupert.UnixLogger;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Optional latency histograms of the logging path, one per {@link Severity}
+ * and {@link Stage}.
+ *
+ * <p>Enabled with the {@code UnixLogger.LatencyHistograms} property. Each
+ * histogram takes a fixed amount of memory and is updated without locks, see
+ * {@link LatencyHistogram}. Take a snapshot with {@link #snapshot}; passing
+ * {@code reset} clears the histogram so that periodic snapshots each cover
+ * one interval.</p>
+ */
+public final class LatencyHistograms {
+    private static final boolean ENABLED = PropertiesUtil.getProperties()
+            .getBooleanProperty("UnixLogger.LatencyHistograms");
+    private static final LatencyHistogram[] HISTOGRAMS;
+
+    static {
+        HISTOGRAMS = new LatencyHistogram[ENABLED ? Stage.values().length * Severity.values().length : 0];
+        for (int i = 0; i < HISTOGRAMS.length; i++) {
+            HISTOGRAMS[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * The part of the logging path a histogram measures.
+     */
+    public enum Stage {
+        /**
+         * An enabled Logger call, from the level check passing until the
+         * call returns, so building and formatting the message are included.
+         * For asynchronous Loggers this ends once the event is in the ring
+         * buffer. Events a {@link LogBatch} logs one by one are timed from
+         * their delivery.
+         */
+        CALL,
+        /**
+         * Handing one event to the appenders, on the calling thread or on the
+         * asynchronous writer thread.
+         */
+        APPENDER
+    }
+
+    private LatencyHistograms() {
+    }
+
+    /**
+     * Returns whether latencies are being recorded.
+     *
+     * @return The value of the {@code UnixLogger.LatencyHistograms} property.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Copies one histogram.
+     *
+     * @param stage The measured stage.
+     * @param severity The severity.
+     * @param reset Whether to clear the histogram after copying it.
+     * @return The snapshot, empty if histograms are disabled.
+     */
+    public static LatencySnapshot snapshot(final Stage stage, final Severity severity, final boolean reset) {
+        if (!ENABLED) {
+            return new LatencySnapshot(new long[0], 0);
+        }
+        return HISTOGRAMS[index(stage, severity)].snapshot(reset);
+    }
+
+    /**
+     * Records a duration. Does nothing if histograms are disabled.
+     */
+    static void record(final Stage stage, final Level level, final long nanos) {
+        if (ENABLED) {
+            HISTOGRAMS[index(stage, Severity.of(level))].record(nanos);
+        }
+    }
+
+    private static int index(final Stage stage, final Severity severity) {
+        return stage.ordinal() * Severity.values().length + severity.code();
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.ryanrupert.UnixLogger;
+
+/**
+ * An immutable copy of a latency histogram, in nanoseconds. Percentiles are
+ * the upper bound of the bucket they fall in, so they overstate the real
+ * value by at most about 1.6%.
+ */
+public final class LatencySnapshot {
+    private final long[] counts;
+    private final long max;
+    private final long count;
+
+    LatencySnapshot(final long[] counts, final long max) {
+        this.counts = counts;
+        this.max = max;
+        long total = 0;
+        for (final long bucket : counts) {
+            total += bucket;
+        }
+        this.count = total;
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return The maximum in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the duration that the given percentage of recorded durations
+     * do not exceed.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The duration in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return The median in nanoseconds.
+     */
+    public long getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    /**
+     * @return The 99th percentile in nanoseconds.
+     */
+    public long getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    /**
+     * @return The 99.9th percentile in nanoseconds.
+     */
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", p50=" + getP50() + "ns, p99=" + getP99() + "ns, p99.9=" + getP999()
+                + "ns, max=" + max + "ns";
+    }
+}
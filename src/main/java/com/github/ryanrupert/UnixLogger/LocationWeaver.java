@@ -0,0 +1,203 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Build step that precomputes the source location of every {@link Logger}
+ * call, see {@link SourceLocation}.
+ *
+ * <p>Rewrites the class files under the given directories in place: each
+ * call to a logging method of {@link Logger} or {@link LogBuilder} is
+ * replaced by an {@code invokedynamic} instruction with the class, method,
+ * file and line of the call as constants, which {@link SourceLocation} links
+ * to the same method called between {@link SourceLocation#enter} and
+ * {@link SourceLocation#exit()}. Linking the call this way rather than
+ * adding the calls around it lets {@code exit} run when the call throws
+ * without adding exception handlers, and their stack map frames, to the
+ * class. Classes that are already woven, and classes compiled for Java 6 or
+ * earlier, are left alone. Requires ASM on the class
+ * path; the Gradle build runs it after compiling when
+ * {@code -PweaveLocations} is set:</p>
+ *
+ * <pre>
+ * java -cp UnixLogger.jar:asm.jar com.github.ryanrupert.UnixLogger.LocationWeaver build/classes/java/main
+ * </pre>
+ */
+public final class LocationWeaver {
+    private static final String LOGGER = "com/github/ryanrupert/UnixLogger/Logger";
+    private static final String LOG_BUILDER = "com/github/ryanrupert/UnixLogger/LogBuilder";
+    private static final String SOURCE_LOCATION = "com/github/ryanrupert/UnixLogger/SourceLocation";
+    private static final Handle BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC, SOURCE_LOCATION, "bootstrap",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;"
+                    + "Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;I)Ljava/lang/invoke/CallSite;",
+            false);
+
+    private LocationWeaver() {
+    }
+
+    /**
+     * Weaves the class files under each directory.
+     *
+     * @param args The class directories.
+     * @throws IOException if a class file cannot be read or written.
+     */
+    public static void main(final String[] args) throws IOException {
+        int count = 0;
+        for (final String arg : args) {
+            count += weaveDirectory(Paths.get(arg));
+        }
+        System.out.println("Woven source locations into " + count + " classes");
+    }
+
+    /**
+     * Weaves the class files under a directory.
+     *
+     * @param dir The directory.
+     * @return The number of classes changed.
+     * @throws IOException if a class file cannot be read or written.
+     */
+    public static int weaveDirectory(final Path dir) throws IOException {
+        final int[] count = new int[1];
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                if (file.toString().endsWith(".class")) {
+                    final byte[] woven = weave(Files.readAllBytes(file));
+                    if (woven != null) {
+                        Files.write(file, woven);
+                        count[0]++;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Weaves a class.
+     *
+     * @param classFile The class file.
+     * @return The woven class file, or {@code null} if the class was left
+     *         unchanged.
+     */
+    public static byte[] weave(final byte[] classFile) {
+        final ClassReader reader = new ClassReader(classFile);
+        final String name = reader.getClassName();
+        if (name.equals(LOGGER) || name.startsWith(LOGGER + '$') || name.equals(SOURCE_LOCATION)
+                || (reader.readShort(6) & 0xFFFF) < Opcodes.V1_7) {
+            return null;
+        }
+        final Scanner scanner = new Scanner();
+        reader.accept(scanner, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        if (!scanner.callsLogger || scanner.woven) {
+            return null;
+        }
+        // Each call takes the same operands as before, so neither the frames nor the maximum stack size change.
+        final ClassWriter writer = new ClassWriter(reader, 0);
+        reader.accept(new Weaver(writer), 0);
+        return writer.toByteArray();
+    }
+
+    private static boolean isLoggingCall(final int opcode, final String owner, final String descriptor) {
+        return (opcode == Opcodes.INVOKEVIRTUAL && owner.equals(LOGGER)
+                || opcode == Opcodes.INVOKEINTERFACE && owner.equals(LOG_BUILDER)) && descriptor.endsWith(")V");
+    }
+
+    /**
+     * Finds out whether a class calls the Logger and whether it was woven
+     * before.
+     */
+    private static final class Scanner extends ClassVisitor {
+        private boolean callsLogger;
+        private boolean woven;
+
+        Scanner() {
+            super(Opcodes.ASM7);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(final int access, final String name, final String descriptor,
+                final String signature, final String[] exceptions) {
+            return new MethodVisitor(Opcodes.ASM7) {
+                @Override
+                public void visitMethodInsn(final int opcode, final String owner, final String methodName,
+                        final String methodDescriptor, final boolean isInterface) {
+                    callsLogger |= isLoggingCall(opcode, owner, methodDescriptor);
+                    woven |= owner.equals(SOURCE_LOCATION);
+                }
+
+                @Override
+                public void visitInvokeDynamicInsn(final String methodName, final String methodDescriptor,
+                        final Handle bootstrap, final Object... arguments) {
+                    woven |= bootstrap.getOwner().equals(SOURCE_LOCATION);
+                }
+            };
+        }
+    }
+
+    /**
+     * Replaces each Logger call by a call site that sets its location.
+     */
+    private static final class Weaver extends ClassVisitor {
+        private String className;
+        private String sourceFile = "";
+
+        Weaver(final ClassVisitor next) {
+            super(Opcodes.ASM7, next);
+        }
+
+        @Override
+        public void visit(final int version, final int access, final String name, final String signature,
+                final String superName, final String[] interfaces) {
+            className = name.replace('/', '.');
+            super.visit(version, access, name, signature, superName, interfaces);
+        }
+
+        @Override
+        public void visitSource(final String source, final String debug) {
+            sourceFile = source != null ? source : "";
+            super.visitSource(source, debug);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(final int access, final String name, final String descriptor,
+                final String signature, final String[] exceptions) {
+            final MethodVisitor next = super.visitMethod(access, name, descriptor, signature, exceptions);
+            return new MethodVisitor(Opcodes.ASM7, next) {
+                private int line = -1;
+
+                @Override
+                public void visitLineNumber(final int lineNumber, final Label start) {
+                    line = lineNumber;
+                    super.visitLineNumber(lineNumber, start);
+                }
+
+                @Override
+                public void visitMethodInsn(final int opcode, final String owner, final String methodName,
+                        final String methodDescriptor, final boolean isInterface) {
+                    if (!isLoggingCall(opcode, owner, methodDescriptor)) {
+                        super.visitMethodInsn(opcode, owner, methodName, methodDescriptor, isInterface);
+                        return;
+                    }
+                    // The receiver becomes the first argument of the call site.
+                    super.visitInvokeDynamicInsn(methodName, "(L" + owner + ';' + methodDescriptor.substring(1),
+                            BOOTSTRAP, className, name, sourceFile, line);
+                }
+            };
+        }
+    }
+}
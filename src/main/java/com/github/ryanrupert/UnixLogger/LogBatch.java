@@ -0,0 +1,265 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.appender.AbstractOutputStreamAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+
+/**
+ * Collects events of one {@link Logger} and writes them together, started
+ * with {@link Logger#batch()}:
+ *
+ * <pre>
+ * LogBatch batch = logger.batch();
+ * for (Record record : chunk) {
+ *     batch.add(Severity.INFO, "imported {}", record.getId());
+ * }
+ * batch.add(Severity.NOTICE, "chunk {} done", chunkId);
+ * batch.log();
+ * </pre>
+ *
+ * <p>Each event is checked against the level and the context-wide filters
+ * when it is added, and dropped right away if it is disabled; its message,
+ * timestamp and thread context are taken at that point too. {@link #log()}
+ * then passes the events through the duplicate suppression and rate limits
+ * and hands them to the logger configuration in the order they were added,
+ * without checking the level again. The appenders that take a lock,
+ * {@link MappedFileAppender}, {@link UnixSocketAppender} and
+ * {@link NioSyslogAppender}, take it once for the whole batch, in the order
+ * of their names, so the events of a batch are not interleaved with those of
+ * other threads; a MappedFileAppender forces the mapping at most once for
+ * the batch. Log4j's stream appenders are flushed once after the batch,
+ * which saves a flush per event when they have {@code immediateFlush="false"}.
+ * Appender references, their levels and filters, and additivity apply as
+ * usual.</p>
+ *
+ * <p>A batch belongs to the thread that uses it and can be reused once
+ * {@link #log()} returns. The source location of its events, when the layout
+ * asks for it, is the caller of {@code log()}. The events of an asynchronous
+ * Logger are published one by one to its ring buffer.</p>
+ */
+public final class LogBatch {
+    private static final String FQCN = LogBatch.class.getName();
+    private static final Comparator<Appender> BY_NAME = Comparator.comparing(Appender::getName);
+
+    private final UnixLoggerWrapper logger;
+    private final List<Pending> events = new ArrayList<>();
+
+    LogBatch(final UnixLoggerWrapper logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Adds an event if its level is enabled.
+     *
+     * @param severity The severity of the event.
+     * @param message The message to log.
+     * @return This batch.
+     */
+    public LogBatch add(final Severity severity, final String message) {
+        final Level level = severity.level();
+        logger.countCall(level);
+        if (logger.isEnabled(level, null, message)) {
+            final Message msg = logger.getMessageFactory().newMessage(message);
+            events.add(new Pending(level, null, msg, null));
+        }
+        return this;
+    }
+
+    /**
+     * Adds an event with parameters if its level is enabled. A Throwable
+     * after the last parameter used by the message is logged as the event's
+     * Throwable.
+     *
+     * @param severity The severity of the event.
+     * @param message The message pattern.
+     * @param params The parameters.
+     * @return This batch.
+     */
+    public LogBatch add(final Severity severity, final String message, final Object... params) {
+        return add(severity, null, message, params);
+    }
+
+    /**
+     * Adds an event with a Marker and parameters if its level is enabled.
+     *
+     * @param severity The severity of the event.
+     * @param marker The Marker.
+     * @param message The message pattern.
+     * @param params The parameters.
+     * @return This batch.
+     */
+    public LogBatch add(final Severity severity, final Marker marker, final String message,
+            final Object... params) {
+        final Level level = severity.level();
+        logger.countCall(level);
+        if (logger.isEnabled(level, marker, message, params)) {
+            final Message msg = logger.getMessageFactory().newMessage(message, params);
+            events.add(new Pending(level, marker, msg, msg.getThrowable()));
+        }
+        return this;
+    }
+
+    /**
+     * Adds an event with a prepared message if its level is enabled.
+     *
+     * @param severity The severity of the event.
+     * @param marker The Marker, or {@code null}.
+     * @param message The message.
+     * @param t The Throwable, or {@code null}.
+     * @return This batch.
+     */
+    public LogBatch add(final Severity severity, final Marker marker, final Message message, final Throwable t) {
+        final Level level = severity.level();
+        logger.countCall(level);
+        if (logger.isEnabled(level, marker, message, t)) {
+            events.add(new Pending(level, marker, message, t));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of events waiting to be logged.
+     *
+     * @return The number of enabled events added since the last
+     *         {@link #log()}.
+     */
+    public int size() {
+        return events.size();
+    }
+
+    /**
+     * Logs the events added so far and empties the batch.
+     */
+    public void log() {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            final ExtendedLogger delegate = logger.delegate();
+            if (logger.keepsMessages() || !(delegate instanceof org.apache.logging.log4j.core.Logger)) {
+                for (final Pending event : events) {
+                    logger.logMessage(FQCN, event.level, event.marker, event.message, event.thrown);
+                }
+                return;
+            }
+            boolean admitted = false;
+            for (final Pending event : events) {
+                event.admitted = logger.admit(FQCN, event.level, event.marker, event.message, event.thrown);
+                admitted |= event.admitted;
+            }
+            if (admitted) {
+                write((org.apache.logging.log4j.core.Logger) delegate);
+            }
+        } finally {
+            events.clear();
+        }
+    }
+
+    private void write(final org.apache.logging.log4j.core.Logger coreLogger) {
+        final Configuration config = coreLogger.getContext().getConfiguration();
+        config.getConfigurationMonitor().checkConfiguration();
+        final LoggerConfig loggerConfig = config.getLoggerConfig(coreLogger.getName());
+        final List<Appender> locked = new ArrayList<>();
+        final List<AbstractOutputStreamAppender<?>> streams = new ArrayList<>();
+        // Log4j's appenders are equal when they are in the same state, so they are told apart by identity.
+        final Set<Appender> seen = Collections.newSetFromMap(new IdentityHashMap<Appender, Boolean>());
+        for (LoggerConfig current = loggerConfig; current != null;
+                current = current.isAdditive() ? current.getParent() : null) {
+            for (final Appender appender : current.getAppenders().values()) {
+                if (!seen.add(appender)) {
+                    continue;
+                }
+                if (appender instanceof AbstractOutputStreamAppender) {
+                    streams.add((AbstractOutputStreamAppender<?>) appender);
+                } else if (appender instanceof MappedFileAppender || appender instanceof UnixSocketAppender
+                        || appender instanceof NioSyslogAppender) {
+                    locked.add(appender);
+                }
+            }
+        }
+        // A single order for every batch, so that two batches never wait for each other's locks.
+        locked.sort(BY_NAME);
+        int begun = 0;
+        try {
+            for (final Appender appender : locked) {
+                beginBatch(appender);
+                begun++;
+            }
+            for (final Pending event : events) {
+                if (event.admitted) {
+                    logger.deliver(loggerConfig, new Log4jLogEvent(coreLogger.getName(), event.marker, FQCN,
+                            event.level, event.message, event.thrown,
+                            SourceLocation.contextMap(config, loggerConfig, event.context), event.stack, null, null,
+                            event.timeMillis));
+                }
+            }
+        } finally {
+            while (begun > 0) {
+                endBatch(locked.get(--begun));
+            }
+        }
+        for (final AbstractOutputStreamAppender<?> stream : streams) {
+            if (stream.isStarted()) {
+                stream.getManager().flush();
+            }
+        }
+    }
+
+    private static void beginBatch(final Appender appender) {
+        if (appender instanceof MappedFileAppender) {
+            ((MappedFileAppender) appender).beginBatch();
+        } else if (appender instanceof UnixSocketAppender) {
+            ((UnixSocketAppender) appender).beginBatch();
+        } else {
+            ((NioSyslogAppender) appender).beginBatch();
+        }
+    }
+
+    private static void endBatch(final Appender appender) {
+        if (appender instanceof MappedFileAppender) {
+            ((MappedFileAppender) appender).endBatch();
+        } else if (appender instanceof UnixSocketAppender) {
+            ((UnixSocketAppender) appender).endBatch();
+        } else {
+            ((NioSyslogAppender) appender).endBatch();
+        }
+    }
+
+    /**
+     * An enabled event waiting for {@link #log()}.
+     */
+    private static final class Pending {
+        private final Level level;
+        private final Marker marker;
+        private final Message message;
+        private final Throwable thrown;
+        private final long timeMillis;
+        private final Map<String, String> context;
+        private final ThreadContext.ContextStack stack;
+        private boolean admitted;
+
+        private Pending(final Level level, final Marker marker, final Message message, final Throwable thrown) {
+            this.level = level;
+            this.marker = marker;
+            this.message = message;
+            this.thrown = thrown;
+            this.timeMillis = System.currentTimeMillis();
+            this.context = ThreadContext.getImmutableContext();
+            this.stack = ThreadContext.getDepth() == 0 ? null : ThreadContext.cloneStack();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.ryanrupert.UnixLogger;
+
+import org.apache.logging.log4j.Marker;
+
+/**
+ * Builds a structured event with key-value fields, started by one of the
+ * {@code at<Level>()} methods of {@link Logger}:
+ *
+ * <pre>
+ * logger.atNotice().kv("tenant", tenant).kv("ms", elapsed).log("request done");
+ * </pre>
+ *
+ * <p>When the level is disabled, a shared builder that ignores everything is
+ * returned, so building the event costs nothing but the calls. Otherwise the
+ * builder is reused by each thread and must be finished with one of the
+ * {@code log} methods before starting the next event. Primitive values are
+ * kept without boxing until the event is formatted. The event carries a
+ * {@link KeyValueMessage}: text layouts print the fields after the message
+ * as {@code key=value}, and {@link UnixRfc5424Layout} writes them as
+ * STRUCTURED-DATA.</p>
+ */
+public interface LogBuilder {
+    /**
+     * Adds a field.
+     *
+     * @param key The name of the field.
+     * @param value The value, formatted with {@link String#valueOf(Object)}.
+     * @return This builder.
+     */
+    LogBuilder kv(String key, Object value);
+
+    /**
+     * Adds a field.
+     *
+     * @param key The name of the field.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogBuilder kv(String key, long value);
+
+    /**
+     * Adds a field.
+     *
+     * @param key The name of the field.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogBuilder kv(String key, double value);
+
+    /**
+     * Adds a field.
+     *
+     * @param key The name of the field.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogBuilder kv(String key, boolean value);
+
+    /**
+     * Adds a field.
+     *
+     * @param key The name of the field.
+     * @param value The value.
+     * @return This builder.
+     */
+    LogBuilder kv(String key, char value);
+
+    /**
+     * Sets the Marker of the event.
+     *
+     * @param marker The Marker.
+     * @return This builder.
+     */
+    LogBuilder withMarker(Marker marker);
+
+    /**
+     * Sets the Throwable of the event.
+     *
+     * @param t The Throwable.
+     * @return This builder.
+     */
+    LogBuilder withThrowable(Throwable t);
+
+    /**
+     * Logs the event with a message.
+     *
+     * @param message The message text.
+     */
+    void log(String message);
+
+    /**
+     * Logs the event with its fields only.
+     */
+    void log();
+}
@@ -0,0 +1,453 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Follows a text log file as it is written, like {@code tail -F}, and passes
+ * each new event to a callback.
+ *
+ * <p>The file is read from the last offset each time it changes, so old data
+ * is never read again. Changes are noticed through a {@link WatchService} on
+ * its directory and by checking every {@code pollIntervalMillis}, since
+ * writes through a memory mapping, as {@link MappedFileAppender} makes them,
+ * do not trigger file system notifications. Reading stops at the first zero
+ * byte, where the unwritten part of a mapped file starts. A new file taking
+ * the name of the file, when it is rolled over, is opened as soon as it is
+ * noticed and read once the old files are done with, so no file is skipped
+ * even when reading is behind by several rollovers. A truncated file is read
+ * again from the start.</p>
+ *
+ * <p>Each line that matches the line pattern starts an event; the lines that
+ * follow it up to the next match, such as a stack trace, are added to its
+ * message. The pattern has the named groups {@code time}, {@code level},
+ * {@code logger} and {@code message}, and optionally {@code thread}. The
+ * default matches the {@code %d %-7level %logger{36} - %msg%n} layout of the
+ * default configuration. Levels are mapped back to the {@link Severity}
+ * levels of {@link Logger}.</p>
+ *
+ * <p>Events are read ahead into a queue of {@code bufferSize} events and
+ * passed to the callback on a separate thread, in order. When the callback
+ * falls behind, reading waits for it; nothing is dropped, since the file
+ * holds what has not been read yet. Binary logs cannot be followed.</p>
+ *
+ * <pre>
+ * try (LogFollower follower = new LogFollower(Paths.get("logs/combined.log")).start(event -&gt; ...)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class LogFollower implements Closeable {
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final Pattern DEFAULT_PATTERN = Pattern.compile(
+            "(?<time>\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2},\\d{3}) (?<level>\\S+) +(?<logger>\\S+)"
+                    + " - (?<message>.*)");
+    private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss,SSS";
+    private static final int READ_SIZE = 64 * 1024;
+
+    private final Path file;
+    private Pattern linePattern = DEFAULT_PATTERN;
+    private String dateFormat = DEFAULT_DATE_FORMAT;
+    private boolean fromStart;
+    private int bufferSize = 1024;
+    private long pollIntervalMillis = 200;
+    private volatile boolean closed;
+    private Thread reader;
+    private Thread deliverer;
+    private Thread watching;
+    private WatchService watcher;
+    // Files that took the name of the file, in order, opened by the watching thread.
+    private final Queue<FileChannel> nextFiles = new ConcurrentLinkedQueue<>();
+    private final Object changed = new Object();
+    // The file opened last, only used by the watching thread once started.
+    private boolean opened;
+    private Object fileKey;
+
+    // Reading state, only used by the reader thread.
+    private BlockingQueue<LogEvent> queue;
+    private SimpleDateFormat timeFormat;
+    private boolean hasThread;
+    private FileChannel channel;
+    private long position;
+    private ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+    private Matcher pending;
+    private StringBuilder pendingMessage;
+
+    /**
+     * Creates a follower of a file, which does not have to exist yet.
+     *
+     * @param file The log file.
+     */
+    public LogFollower(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the events already in the file first, instead of starting at its
+     * end.
+     *
+     * @return This follower.
+     */
+    public LogFollower fromStart() {
+        this.fromStart = true;
+        return this;
+    }
+
+    /**
+     * Sets how lines are parsed.
+     *
+     * @param pattern The line pattern, with the named groups described above.
+     * @param timeFormat The {@link SimpleDateFormat} of the {@code time}
+     *            group, or {@code null} if it is in milliseconds since the
+     *            epoch.
+     * @return This follower.
+     */
+    public LogFollower linePattern(final Pattern pattern, final String timeFormat) {
+        this.linePattern = Objects.requireNonNull(pattern, "pattern");
+        this.dateFormat = timeFormat;
+        return this;
+    }
+
+    /**
+     * Sets how many events are read ahead of the callback, 1024 by default.
+     *
+     * @param size The number of events.
+     * @return This follower.
+     */
+    public LogFollower bufferSize(final int size) {
+        this.bufferSize = Math.max(1, size);
+        return this;
+    }
+
+    /**
+     * Sets how often the file is checked for changes the watch service did
+     * not report, 200 ms by default.
+     *
+     * @param millis The interval in milliseconds.
+     * @return This follower.
+     */
+    public LogFollower pollIntervalMillis(final long millis) {
+        this.pollIntervalMillis = Math.max(1, millis);
+        return this;
+    }
+
+    /**
+     * Starts following the file.
+     *
+     * @param callback Receives each event, on a thread of the follower.
+     *            Exceptions it throws are logged.
+     * @return This follower.
+     * @throws IOException if the directory of the file cannot be watched.
+     */
+    public synchronized LogFollower start(final Consumer<? super LogEvent> callback) throws IOException {
+        if (reader != null) {
+            throw new IllegalStateException("Already started");
+        }
+        final Path dir = file.toAbsolutePath().getParent();
+        watcher = dir.getFileSystem().newWatchService();
+        dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        queue = new ArrayBlockingQueue<>(bufferSize);
+        timeFormat = dateFormat == null ? null : new SimpleDateFormat(dateFormat);
+        hasThread = linePattern.pattern().contains("(?<thread>");
+        try {
+            channel = openNext();
+            if (channel != null && !fromStart) {
+                position = dataLength(channel);
+            }
+        } catch (final IOException ex) {
+            watcher.close();
+            throw ex;
+        }
+        reader = new Thread(this::read, "UnixLogger-Follow-" + file.getFileName());
+        deliverer = new Thread(() -> deliver(callback), "UnixLogger-Deliver-" + file.getFileName());
+        watching = new Thread(this::watch, "UnixLogger-Watch-" + file.getFileName());
+        for (final Thread thread : new Thread[] {reader, deliverer, watching}) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return this;
+    }
+
+    /**
+     * Stops following the file. Events still buffered are dropped.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (reader != null) {
+            reader.interrupt();
+            deliverer.interrupt();
+            watching.interrupt();
+            try {
+                watcher.close();
+            } catch (final IOException ex) {
+                LOGGER.debug("Unable to close the watch service of {}", file, ex);
+            }
+        }
+    }
+
+    private void read() {
+        try {
+            while (!closed) {
+                if (readAvailable()) {
+                    continue;
+                }
+                final FileChannel next = nextFiles.poll();
+                if (next != null) {
+                    // The old file was complete before the new one was created, but maybe not when it was last read.
+                    while (readAvailable()) {
+                        continue;
+                    }
+                    emitPending();
+                    closeChannel();
+                    channel = next;
+                    position = 0;
+                    continue;
+                }
+                emitPending();
+                synchronized (changed) {
+                    changed.wait(pollIntervalMillis);
+                }
+            }
+        } catch (final InterruptedException ex) {
+            // Closed.
+        } catch (final IOException ex) {
+            if (!closed) {
+                LOGGER.error("Unable to follow {}", file, ex);
+            }
+        } finally {
+            closeChannel();
+            FileChannel next;
+            while ((next = nextFiles.poll()) != null) {
+                channel = next;
+                closeChannel();
+            }
+        }
+    }
+
+    /**
+     * Opens each new file taking the name of the file and wakes the reader up
+     * on every change, or every {@code pollIntervalMillis} at the latest.
+     */
+    private void watch() {
+        try {
+            while (!closed) {
+                final WatchKey key = watcher.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+                try {
+                    final FileChannel next = openNext();
+                    if (next != null) {
+                        nextFiles.add(next);
+                    }
+                } catch (final IOException ex) {
+                    LOGGER.warn("Unable to open {}", file, ex);
+                }
+                synchronized (changed) {
+                    changed.notifyAll();
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ex) {
+            // Closed.
+        }
+    }
+
+    private void deliver(final Consumer<? super LogEvent> callback) {
+        while (!closed) {
+            final LogEvent event;
+            try {
+                event = queue.take();
+            } catch (final InterruptedException ex) {
+                return;
+            }
+            try {
+                callback.accept(event);
+            } catch (final RuntimeException ex) {
+                LOGGER.error("Callback of follower of {} failed", file, ex);
+            }
+        }
+    }
+
+    /**
+     * Opens the file if it exists and is not the one opened last.
+     *
+     * @return The file, or {@code null}.
+     */
+    private FileChannel openNext() throws IOException {
+        final Object key;
+        try {
+            key = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        } catch (final NoSuchFileException ex) {
+            // Renamed, and the new file is not there yet.
+            return null;
+        }
+        if (opened && Objects.equals(key, fileKey)) {
+            return null;
+        }
+        final FileChannel next;
+        try {
+            next = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (final NoSuchFileException ex) {
+            return null;
+        }
+        opened = true;
+        fileKey = key;
+        return next;
+    }
+
+    /**
+     * Reads and parses the complete lines written since the last call.
+     *
+     * @return Whether anything was read.
+     */
+    private boolean readAvailable() throws IOException, InterruptedException {
+        if (channel == null) {
+            return false;
+        }
+        if (channel.size() < position) {
+            LOGGER.debug("{} was truncated, reading it from the start", file);
+            emitPending();
+            position = 0;
+        }
+        buffer.clear();
+        final int read = channel.read(buffer, position);
+        if (read <= 0) {
+            return false;
+        }
+        int end = 0;
+        while (end < read && buffer.get(end) != 0) {
+            end++;
+        }
+        int lineStart = 0;
+        for (int i = 0; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                final int lineEnd = i > lineStart && buffer.get(i - 1) == '\r' ? i - 1 : i;
+                parseLine(new String(buffer.array(), lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart == 0 && end == buffer.capacity()) {
+            // A single line longer than the buffer.
+            buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            return true;
+        }
+        position += lineStart;
+        return lineStart > 0;
+    }
+
+    private void parseLine(final String line) throws InterruptedException {
+        final Matcher matcher = linePattern.matcher(line);
+        if (matcher.matches()) {
+            emitPending();
+            pending = matcher;
+            pendingMessage = new StringBuilder(matcher.group("message"));
+        } else if (pending != null) {
+            pendingMessage.append(System.lineSeparator()).append(line);
+        }
+    }
+
+    /**
+     * Queues the last event read, whose continuation lines are all in once
+     * another event starts or the data runs out, since an event is always
+     * written at once.
+     */
+    private void emitPending() throws InterruptedException {
+        if (pending == null) {
+            return;
+        }
+        final Level level = levelOf(pending.group("level"));
+        queue.put(new Log4jLogEvent(pending.group("logger"), null, null, level,
+                new SimpleMessage(pendingMessage.toString()), null, Collections.<String, String>emptyMap(),
+                ThreadContext.EMPTY_STACK, hasThread ? pending.group("thread") : null, null,
+                parseTime(pending.group("time"))));
+        pending = null;
+        pendingMessage = null;
+    }
+
+    /**
+     * Maps a level name to its Severity's level. The names of the severities
+     * are matched first, since Log4j only knows them once {@link Severity}
+     * is loaded; other names, such as {@code WARN}, go to the nearest
+     * severity, and unknown ones to {@code INFO}.
+     */
+    private static Level levelOf(final String name) {
+        for (final Severity severity : Severity.values()) {
+            if (severity.name().equals(name)) {
+                return severity.level();
+            }
+        }
+        return Severity.of(Level.toLevel(name, Level.INFO)).level();
+    }
+
+    private long parseTime(final String text) {
+        try {
+            return timeFormat == null ? Long.parseLong(text.trim()) : timeFormat.parse(text).getTime();
+        } catch (final ParseException | NumberFormatException ex) {
+            return System.currentTimeMillis();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException ex) {
+                LOGGER.debug("Unable to close {}", file, ex);
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * Returns the offset of the first zero byte, or the size of the file.
+     * Text never contains zero bytes and the zero bytes of a mapped file all
+     * come after the data, so this is a binary search.
+     */
+    private static long dataLength(final FileChannel channel) throws IOException {
+        final ByteBuffer one = ByteBuffer.allocate(1);
+        long low = 0;
+        long high = channel.size();
+        while (low < high) {
+            final long middle = (low + high) >>> 1;
+            one.clear();
+            if (channel.read(one, middle) > 0 && one.get(0) != 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the sidecar index of a log file as the appender writes the log, see
+ * {@link LogQuery} for the format.
+ *
+ * <p>Events are collected in memory until they cover {@code interval} bytes of
+ * the log, then the block is appended to the index with a single write. The
+ * last, partial block is written by {@link #close()}; if the process dies
+ * first, the events it covered are missing from the index.</p>
+ */
+final class LogIndexWriter {
+    static final byte[] MAGIC = {'U', 'L', 'I', 1};
+
+    private final FileChannel channel;
+    private final int interval;
+    private final Map<String, Integer> names = new HashMap<>();
+    private ByteBuffer nameTable = ByteBuffer.allocate(1024);
+    private ByteBuffer table = ByteBuffer.allocate(16 * 1024);
+    private long blockOffset = -1;
+    private long blockLength;
+    private long firstTime;
+    private long minTime;
+    private long maxTime;
+    private int levels;
+    private int count;
+
+    /**
+     * Opens the index of a log file.
+     *
+     * @param path The index file.
+     * @param interval The number of log bytes covered by each block.
+     * @param append Whether to keep the blocks already in the index.
+     * @throws IOException if the index cannot be opened.
+     */
+    LogIndexWriter(final Path path, final int interval, final boolean append) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.interval = interval;
+        try {
+            if (!append || channel.size() < MAGIC.length) {
+                channel.truncate(0);
+                write(ByteBuffer.wrap(MAGIC));
+            }
+            channel.position(channel.size());
+        } catch (final IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Adds an event to the current block, writing the block out once it
+     * covers the interval.
+     *
+     * @param offset The offset of the event in the log.
+     * @param length The length of the event in bytes.
+     * @param timeMillis The time of the event.
+     * @param severity The severity of the event.
+     * @param loggerName The logger name of the event.
+     * @throws IOException if a full block cannot be written.
+     */
+    void add(final long offset, final int length, final long timeMillis, final Severity severity,
+            final String loggerName) throws IOException {
+        if (blockOffset >= 0 && offset != blockOffset + blockLength) {
+            // Something else, such as a footer, was written in between.
+            flush();
+        }
+        if (blockOffset < 0) {
+            blockOffset = offset;
+            firstTime = timeMillis;
+            minTime = timeMillis;
+            maxTime = timeMillis;
+        }
+        Integer name = names.get(loggerName == null ? "" : loggerName);
+        if (name == null) {
+            name = names.size();
+            names.put(loggerName == null ? "" : loggerName, name);
+            nameTable = putString(nameTable, loggerName == null ? "" : loggerName);
+        }
+        table = ensure(table, 3 * 10 + 1);
+        putVarint(table, length);
+        putVarint(table, zigzag(timeMillis - firstTime));
+        table.put((byte) severity.code());
+        putVarint(table, name);
+        blockLength += length;
+        minTime = Math.min(minTime, timeMillis);
+        maxTime = Math.max(maxTime, timeMillis);
+        levels |= 1 << severity.code();
+        count++;
+        if (blockLength >= interval) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the current block, if it holds any event.
+     *
+     * @throws IOException if the block cannot be written.
+     */
+    void flush() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        nameTable.flip();
+        table.flip();
+        ByteBuffer block = ByteBuffer.allocate(8 * 4 + 1 + 4 * 10 + nameTable.remaining() + table.remaining());
+        block.putLong(blockOffset).putLong(firstTime).putLong(minTime).putLong(maxTime).put((byte) levels);
+        putVarint(block, names.size());
+        block.put(nameTable);
+        putVarint(block, count);
+        putVarint(block, table.remaining());
+        block = ensure(block, table.remaining());
+        block.put(table);
+        block.flip();
+        write(block);
+        names.clear();
+        nameTable.clear();
+        table.clear();
+        blockOffset = -1;
+        blockLength = 0;
+        levels = 0;
+        count = 0;
+    }
+
+    /**
+     * Writes the last block and closes the index.
+     *
+     * @throws IOException if the block cannot be written.
+     */
+    void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void write(final ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static ByteBuffer putString(final ByteBuffer buffer, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer result = ensure(buffer, 10 + bytes.length);
+        putVarint(result, bytes.length);
+        result.put(bytes);
+        return result;
+    }
+
+    static void putVarint(final ByteBuffer buffer, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    private static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static ByteBuffer ensure(final ByteBuffer buffer, final int length) {
+        if (buffer.remaining() >= length) {
+            return buffer;
+        }
+        final ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+}
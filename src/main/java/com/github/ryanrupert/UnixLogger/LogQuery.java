@@ -0,0 +1,315 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Finds the events of a log file written by {@link MappedFileAppender} by
+ * time range, severity and logger, using the index the appender keeps next to
+ * it, without reading the rest of the file.
+ *
+ * <p>The index, {@code <file>.idx}, starts with {@code ULI} followed by the
+ * format version, then holds one block per {@code indexInterval} bytes of
+ * events. Each block has the offset of its first event in the log, the time
+ * of its first event, the earliest and latest times as 8 bytes each, a byte
+ * with bit {@code n} set if it holds events of severity code {@code n}, and
+ * the logger names of its events. Blocks that cannot match are skipped on
+ * that alone. The rest of the block is a table with, for each event, its
+ * length, its time as a difference from the first event, its severity code
+ * and the number of its logger name, so that the matching events of a block
+ * are found without parsing the layout. Numbers are unsigned LEB128 varints,
+ * time differences are zigzag encoded, and names are a varint of their
+ * UTF-8 length followed by the bytes. The matching parts of the log are then
+ * read through a memory mapping.</p>
+ *
+ * <p>Events written since the last full block are only indexed when the
+ * appender rolls the file over or stops, so they are not found in the file
+ * being written until then.</p>
+ *
+ * <p>Run as a program, it prints the matching events of each file. Times are
+ * local, as {@code 2026-10-16T14:05[:30[.250]]}, or milliseconds since the
+ * epoch:</p>
+ *
+ * <pre>
+ * java -cp UnixLogger.jar:log4j-api.jar com.github.ryanrupert.UnixLogger.LogQuery \
+ *         -from 2026-10-16T14:00 -to 2026-10-16T14:10 -level ERROR [-logger com.example] logs/combined.log...
+ * </pre>
+ */
+public final class LogQuery {
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final long WINDOW_LENGTH = 64L * 1024 * 1024;
+
+    private final Path file;
+    private long fromMillis = Long.MIN_VALUE;
+    private long toMillis = Long.MAX_VALUE;
+    private Severity severity = Severity.DEBUG;
+    private String loggerName;
+
+    /**
+     * Creates a query matching every event of a log file.
+     *
+     * @param file The log file, with its index next to it.
+     */
+    public LogQuery(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the index of a log file.
+     *
+     * @param file The log file.
+     * @return The path of its index.
+     */
+    public static Path indexOf(final Path file) {
+        return file.resolveSibling(file.getFileName() + INDEX_SUFFIX);
+    }
+
+    /**
+     * Only matches events at or after a time.
+     *
+     * @param timeMillis The time, inclusive.
+     * @return This query.
+     */
+    public LogQuery from(final long timeMillis) {
+        this.fromMillis = timeMillis;
+        return this;
+    }
+
+    /**
+     * Only matches events before a time.
+     *
+     * @param timeMillis The time, exclusive.
+     * @return This query.
+     */
+    public LogQuery to(final long timeMillis) {
+        this.toMillis = timeMillis;
+        return this;
+    }
+
+    /**
+     * Only matches events of a severity or more severe.
+     *
+     * @param severity The least severe Severity to match.
+     * @return This query.
+     */
+    public LogQuery atLeast(final Severity severity) {
+        this.severity = severity;
+        return this;
+    }
+
+    /**
+     * Only matches events of a logger or of its descendants.
+     *
+     * @param name The logger name, or {@code null} for any logger.
+     * @return This query.
+     */
+    public LogQuery logger(final String name) {
+        this.loggerName = name;
+        return this;
+    }
+
+    /**
+     * Passes each matching event to an action, in the order of the file.
+     *
+     * @param action Receives the bytes of each event as written by the
+     *            layout; the buffer is only valid during the call.
+     * @return The number of matching events.
+     * @throws IOException if the log or its index cannot be read, or a block
+     *             of the index other than a cut short last one is corrupt.
+     */
+    public long forEach(final Consumer<ByteBuffer> action) throws IOException {
+        long matched = 0;
+        try (FileChannel log = FileChannel.open(file, StandardOpenOption.READ);
+                FileChannel indexChannel = FileChannel.open(indexOf(file), StandardOpenOption.READ)) {
+            if (indexChannel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Index of " + file + " is too large");
+            }
+            final ByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+            final byte[] magic = new byte[LogIndexWriter.MAGIC.length];
+            if (index.remaining() < magic.length || !Arrays.equals(read(index, magic), LogIndexWriter.MAGIC)) {
+                throw new IOException("Not a log index: " + indexOf(file));
+            }
+            final long logLength = log.size();
+            final int levelMask = (2 << severity.code()) - 1;
+            MappedByteBuffer window = null;
+            long windowStart = 0;
+            int blockStart = index.position();
+            try {
+                while (index.hasRemaining()) {
+                    blockStart = index.position();
+                    final long offset = index.getLong();
+                    final long firstTime = index.getLong();
+                    final long minTime = index.getLong();
+                    final long maxTime = index.getLong();
+                    final int levels = index.get() & 0xFF;
+                    final boolean[] names = new boolean[checkedInt(readVarint(index))];
+                    boolean anyName = false;
+                    for (int i = 0; i < names.length; i++) {
+                        names[i] = matches(readString(index));
+                        anyName |= names[i];
+                    }
+                    final int count = checkedInt(readVarint(index));
+                    final int tableLength = checkedInt(readVarint(index));
+                    if (tableLength > index.remaining()) {
+                        throw new BufferUnderflowException();
+                    }
+                    final ByteBuffer table = index.slice();
+                    table.limit(tableLength);
+                    index.position(index.position() + tableLength);
+                    if (offset >= logLength) {
+                        // The log was truncated or replaced after it was indexed.
+                        break;
+                    }
+                    if (maxTime < fromMillis || minTime >= toMillis || (levels & levelMask) == 0 || !anyName) {
+                        continue;
+                    }
+                    final long[] lengths = new long[count];
+                    final long[] times = new long[count];
+                    final int[] codes = new int[count];
+                    final int[] nameRefs = new int[count];
+                    long blockEnd = offset;
+                    try {
+                        for (int i = 0; i < count; i++) {
+                            lengths[i] = readVarint(table);
+                            final long zigzag = readVarint(table);
+                            times[i] = firstTime + ((zigzag >>> 1) ^ -(zigzag & 1));
+                            codes[i] = table.get() & 0xFF;
+                            nameRefs[i] = checkedInt(readVarint(table));
+                            blockEnd += lengths[i];
+                        }
+                    } catch (final BufferUnderflowException ex) {
+                        throw new IllegalArgumentException("Table shorter than its " + count + " events", ex);
+                    }
+                    if (table.hasRemaining()) {
+                        throw new IllegalArgumentException("Table longer than its " + count + " events");
+                    }
+                    blockEnd = Math.min(blockEnd, logLength);
+                    if (window == null || offset < windowStart || blockEnd > windowStart + window.capacity()) {
+                        windowStart = offset;
+                        window = log.map(FileChannel.MapMode.READ_ONLY, offset,
+                                Math.min(Math.max(WINDOW_LENGTH, blockEnd - offset), logLength - offset));
+                    }
+                    long position = offset;
+                    for (int i = 0; i < count && position + lengths[i] <= blockEnd; i++) {
+                        if (times[i] >= fromMillis && times[i] < toMillis && codes[i] <= severity.code()
+                                && nameRefs[i] < names.length && names[nameRefs[i]]) {
+                            final ByteBuffer event = window.duplicate();
+                            event.position((int) (position - windowStart));
+                            event.limit((int) (position - windowStart + lengths[i]));
+                            action.accept(event.slice().asReadOnlyBuffer());
+                            matched++;
+                        }
+                        position += lengths[i];
+                    }
+                }
+            } catch (final BufferUnderflowException ex) {
+                // Only the last block can run past the end of the index: it was cut short by a crash while it was
+                // being written, and the blocks before it are complete.
+            } catch (final IllegalArgumentException ex) {
+                throw new IOException("Corrupt block at byte " + blockStart + " of " + indexOf(file), ex);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Prints the matching events of log files.
+     *
+     * @param args {@code [-from <time>] [-to <time>] [-level <severity>]
+     *            [-logger <name>] file...}; options apply to the files after
+     *            them, and index files are skipped so that a glob can be
+     *            given.
+     * @throws IOException if a file or its index cannot be read.
+     */
+    public static void main(final String[] args) throws IOException {
+        long from = Long.MIN_VALUE;
+        long to = Long.MAX_VALUE;
+        Severity level = Severity.DEBUG;
+        String logger = null;
+        final WritableByteChannel out = Channels.newChannel(new BufferedOutputStream(System.out, 64 * 1024));
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if ("-from".equals(args[i]) && i + 1 < args.length) {
+                    from = parseTime(args[++i]);
+                } else if ("-to".equals(args[i]) && i + 1 < args.length) {
+                    to = parseTime(args[++i]);
+                } else if ("-level".equals(args[i]) && i + 1 < args.length) {
+                    level = Severity.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                } else if ("-logger".equals(args[i]) && i + 1 < args.length) {
+                    logger = args[++i];
+                } else if (!args[i].endsWith(INDEX_SUFFIX)) {
+                    new LogQuery(Paths.get(args[i])).from(from).to(to).atLeast(level).logger(logger).forEach(event -> {
+                        try {
+                            while (event.hasRemaining()) {
+                                out.write(event);
+                            }
+                        } catch (final IOException ex) {
+                            throw new IllegalStateException("Unable to write to standard output", ex);
+                        }
+                    });
+                }
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private boolean matches(final String name) {
+        return loggerName == null || name.equals(loggerName)
+                || name.startsWith(loggerName) && name.charAt(loggerName.length()) == '.';
+    }
+
+    private static long parseTime(final String text) {
+        if (text.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(text);
+        }
+        return LocalDateTime.parse(text).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static byte[] read(final ByteBuffer buffer, final byte[] bytes) {
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = checkedInt(readVarint(buffer));
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return new String(read(buffer, new byte[length]), StandardCharsets.UTF_8);
+    }
+
+    private static long readVarint(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid varint");
+    }
+
+    private static int checkedInt(final long value) {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid length " + value);
+        }
+        return (int) value;
+    }
+}
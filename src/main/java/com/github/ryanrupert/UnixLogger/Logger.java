@@ -1,13 +1,17 @@
 package com.github.ryanrupert.UnixLogger;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.apache.logging.log4j.spi.AbstractLogger;
-import org.apache.logging.log4j.spi.ExtendedLoggerWrapper;
+import org.apache.logging.log4j.spi.ExtendedLogger;
 
 /**
  * Custom Logger interface with convenience methods for
@@ -15,7 +19,8 @@ import org.apache.logging.log4j.spi.ExtendedLoggerWrapper;
  */
 public final class Logger implements Serializable {
     private static final long serialVersionUID = 685727341505000L;
-    private final ExtendedLoggerWrapper logger;
+    private final UnixLoggerWrapper logger;
+    private transient volatile boolean filtered;
 
     private static final String FQCN = Logger.class.getName();
     private static final Level EMERG = Level.forName("EMERG", 50);
@@ -28,17 +33,92 @@ public final class Logger implements Serializable {
     private static final Level DEBUG = Level.forName("DEBUG", 400);
 
     private Logger(final org.apache.logging.log4j.Logger logger) {
-        this.logger = new ExtendedLoggerWrapper((AbstractLogger) logger, logger.getName(), logger.getMessageFactory());
+        this(new UnixLoggerWrapper((AbstractLogger) logger), logger);
+    }
+
+    private Logger(final UnixLoggerWrapper wrapper, final org.apache.logging.log4j.Logger logger) {
+        this.logger = wrapper;
+        ConfigurationWatcher.watch(this, logger);
+    }
+
+    private static Logger async(final org.apache.logging.log4j.Logger logger) {
+        return new Logger(new AsyncLoggerWrapper((AbstractLogger) logger), logger);
+    }
+
+    /**
+     * Returns the cached Logger named after the class, creating it in the
+     * class's logger context on first use.
+     */
+    private static Logger cached(final Class<?> clazz, final MessageFactory factory, final boolean async) {
+        return cached(clazz.getName(), LoggerCache.forClass(clazz), factory, async);
+    }
+
+    /**
+     * Returns the cached Logger with the name, in the context
+     * {@code LogManager.getLogger(String)} would use, or named after the
+     * calling class if the name is null.
+     */
+    private static Logger cached(final String name, final MessageFactory factory, final boolean async) {
+        if (name == null) {
+            return cached(CallerLocator.callerOf(Logger.class), factory, async);
+        }
+        return cached(name, LoggerCache.forName(), factory, async);
+    }
+
+    private static Logger cached(final String name, final LoggerCache cache, final MessageFactory factory,
+            final boolean async) {
+        final Logger existing = factory == null ? cache.get(name, async) : cache.get(name, factory, async);
+        if (existing != null) {
+            return existing;
+        }
+        final ExtendedLogger wrapped = cache.getContext().getLogger(name, factory);
+        final Logger created = async ? async(wrapped) : new Logger(wrapped);
+        return factory == null ? cache.put(name, async, created) : cache.put(name, factory, async, created);
+    }
+
+    /**
+     * Records whether the configuration has a context-wide filter. Called
+     * whenever the Log4j configuration is replaced.
+     *
+     * @param filtered {@code true} if events below the logger level may be
+     *            accepted by a filter.
+     */
+    void refreshFiltered(final boolean filtered) {
+        this.filtered = filtered;
+    }
+
+    /**
+     * Returns the {@code intLevel} of the most specific level enabled for this
+     * Logger. The level is read from the Log4j Logger on every call, so that
+     * {@code setLevel} and {@code updateLoggers} take effect at once; with a
+     * context-wide filter, no level can be ruled out.
+     */
+    private int threshold() {
+        if (filtered) {
+            return Integer.MAX_VALUE;
+        }
+        final Level level = logger.getLevel();
+        return level == null ? Integer.MAX_VALUE : level.intLevel();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        ConfigurationWatcher.watch(this, LogManager.getLogger(logger.getName(), logger.getMessageFactory()));
     }
 
     /**
      * Returns a custom Logger with the name of the calling class.
      *
+     * <p>Loggers are cached by logger context, name and message factory, so
+     * every {@code create} method returns the same instance for the same name
+     * in the same context. This
+     * one still has to find the calling class on the stack each time; prefer
+     * {@link #create(Class)} where Loggers are created often.</p>
+     *
      * @return The custom Logger for the calling class.
      */
     public static Logger create() {
-        final org.apache.logging.log4j.Logger wrapped = LogManager.getLogger();
-        return new Logger(wrapped);
+        return cached(CallerLocator.callerOf(Logger.class), null, false);
     }
 
     /**
@@ -50,8 +130,7 @@ public final class Logger implements Serializable {
      * @return The custom Logger.
      */
     public static Logger create(final Class<?> loggerName) {
-        final org.apache.logging.log4j.Logger wrapped = LogManager.getLogger(loggerName);
-        return new Logger(wrapped);
+        return cached(loggerName != null ? loggerName : CallerLocator.callerOf(Logger.class), null, false);
     }
 
     /**
@@ -66,8 +145,7 @@ public final class Logger implements Serializable {
      * @return The custom Logger.
      */
     public static Logger create(final Class<?> loggerName, final MessageFactory factory) {
-        final org.apache.logging.log4j.Logger wrapped = LogManager.getLogger(loggerName, factory);
-        return new Logger(wrapped);
+        return cached(loggerName != null ? loggerName : CallerLocator.callerOf(Logger.class), factory, false);
     }
 
     /**
@@ -80,8 +158,7 @@ public final class Logger implements Serializable {
      * @return The custom Logger.
      */
     public static Logger create(final Object value) {
-        final org.apache.logging.log4j.Logger wrapped = LogManager.getLogger(value);
-        return new Logger(wrapped);
+        return cached(value != null ? value.getClass() : CallerLocator.callerOf(Logger.class), null, false);
     }
 
     /**
@@ -97,8 +174,7 @@ public final class Logger implements Serializable {
      * @return The custom Logger.
      */
     public static Logger create(final Object value, final MessageFactory factory) {
-        final org.apache.logging.log4j.Logger wrapped = LogManager.getLogger(value, factory);
-        return new Logger(wrapped);
+        return cached(value != null ? value.getClass() : CallerLocator.callerOf(Logger.class), factory, false);
     }
 
     /**
@@ -109,8 +185,7 @@ public final class Logger implements Serializable {
      * @return The custom Logger.
      */
     public static Logger create(final String name) {
-        final org.apache.logging.log4j.Logger wrapped = LogManager.getLogger(name);
-        return new Logger(wrapped);
+        return cached(name, null, false);
     }
 
     /**
@@ -124,1090 +199,5691 @@ public final class Logger implements Serializable {
      * @return The custom Logger.
      */
     public static Logger create(final String name, final MessageFactory factory) {
-        final org.apache.logging.log4j.Logger wrapped = LogManager.getLogger(name, factory);
-        return new Logger(wrapped);
+        return cached(name, factory, false);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code EMERG} level.
+     * Returns an asynchronous custom Logger with the name of the calling class.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     */
-    public void emerg(final Marker marker, final Message msg) {
-        logger.logIfEnabled(FQCN, EMERG, marker, msg, (Throwable) null);
-    }
-
-    /**
-     * Logs a message with the specific Marker at the {@code EMERG} level.
+     * <p>Asynchronous Loggers check levels and filters on the calling thread
+     * as usual, but hand enabled events to a lock-free ring buffer drained by
+     * a single background writer, so callers do not wait for appender I/O.
+     * The {@code UnixLogger.RingBufferSize} property sets the buffer capacity
+     * and {@code UnixLogger.WaitStrategy} chooses how the writer waits, see
+     * {@link WaitStrategy}.</p>
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * <p>Asynchronous Loggers are cached like the ones returned by
+     * {@link #create()}.</p>
+     *
+     * @return The asynchronous custom Logger for the calling class.
      */
-    public void emerg(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, EMERG, marker, msg, t);
+    public static Logger createAsync() {
+        return cached(CallerLocator.callerOf(Logger.class), null, true);
     }
 
     /**
-     * Logs a message object with the {@code EMERG} level.
+     * Returns an asynchronous custom Logger using the fully qualified name of the Class as
+     * the Logger name.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param loggerName The Class whose name should be used as the Logger name.
+     *            If null it will default to the calling class.
+     * @return The asynchronous custom Logger.
      */
-    public void emerg(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, EMERG, marker, message, (Throwable) null);
+    public static Logger createAsync(final Class<?> loggerName) {
+        return cached(loggerName != null ? loggerName : CallerLocator.callerOf(Logger.class), null, true);
     }
 
     /**
-     * Logs a message at the {@code EMERG} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Returns an asynchronous custom Logger using the fully qualified name of the Class as
+     * the Logger name.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param loggerName The Class whose name should be used as the Logger name.
+     *            If null it will default to the calling class.
+     * @param messageFactory The message factory is used only when creating a
+     *            logger, subsequent use does not change the logger but will log
+     *            a warning if mismatched.
+     * @return The asynchronous custom Logger.
      */
-    public void emerg(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, EMERG, marker, message, t);
+    public static Logger createAsync(final Class<?> loggerName, final MessageFactory factory) {
+        return cached(loggerName != null ? loggerName : CallerLocator.callerOf(Logger.class), factory, true);
     }
 
     /**
-     * Logs a message object with the {@code EMERG} level.
+     * Returns an asynchronous custom Logger using the fully qualified class name of the value
+     * as the Logger name.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param value The value whose class name should be used as the Logger
+     *            name. If null the name of the calling class will be used as
+     *            the logger name.
+     * @return The asynchronous custom Logger.
      */
-    public void emerg(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, EMERG, marker, message, (Throwable) null);
+    public static Logger createAsync(final Object value) {
+        return cached(value != null ? value.getClass() : CallerLocator.callerOf(Logger.class), null, true);
     }
 
     /**
-     * Logs a message with parameters at the {@code EMERG} level.
+     * Returns an asynchronous custom Logger using the fully qualified class name of the value
+     * as the Logger name.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
-     * @see #getMessageFactory()
+     * @param value The value whose class name should be used as the Logger
+     *            name. If null the name of the calling class will be used as
+     *            the logger name.
+     * @param messageFactory The message factory is used only when creating a
+     *            logger, subsequent use does not change the logger but will log
+     *            a warning if mismatched.
+     * @return The asynchronous custom Logger.
      */
-    public void emerg(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, EMERG, marker, message, params);
+    public static Logger createAsync(final Object value, final MessageFactory factory) {
+        return cached(value != null ? value.getClass() : CallerLocator.callerOf(Logger.class), factory, true);
     }
 
     /**
-     * Logs a message at the {@code EMERG} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Returns an asynchronous custom Logger with the specified name.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param name The logger name. If null the name of the calling class will
+     *            be used.
+     * @return The asynchronous custom Logger.
      */
-    public void emerg(final Marker marker, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, EMERG, marker, message, t);
+    public static Logger createAsync(final String name) {
+        return cached(name, null, true);
     }
 
     /**
-     * Logs the specified Message at the {@code EMERG} level.
+     * Returns an asynchronous custom Logger with the specified name.
      *
-     * @param msg the message string to be logged
+     * @param name The logger name. If null the name of the calling class will
+     *            be used.
+     * @param messageFactory The message factory is used only when creating a
+     *            logger, subsequent use does not change the logger but will log
+     *            a warning if mismatched.
+     * @return The asynchronous custom Logger.
      */
-    public void emerg(final Message msg) {
-        logger.logIfEnabled(FQCN, EMERG, null, msg, (Throwable) null);
+    public static Logger createAsync(final String name, final MessageFactory factory) {
+        return cached(name, factory, true);
     }
 
     /**
-     * Logs the specified Message at the {@code EMERG} level.
+     * Returns how many events of the given severity the asynchronous Loggers
+     * have dropped because the ring buffer was full or filling up.
      *
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param severity The severity to report.
+     * @return The number of dropped events.
      */
-    public void emerg(final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, EMERG, null, msg, t);
+    public static long getAsyncDroppedCount(final Severity severity) {
+        return AsyncDispatcher.defaultDroppedCount(severity);
     }
 
     /**
-     * Logs a message object with the {@code EMERG} level.
+     * Returns how many enabled events of the given severity the
+     * {@code UnixLogger.RateLimit.*} and {@code UnixLogger.Sampling.*} rules
+     * have suppressed, across all Loggers.
      *
-     * @param message the message object to log.
+     * @param severity The severity to report.
+     * @return The number of suppressed events.
      */
-    public void emerg(final Object message) {
-        logger.logIfEnabled(FQCN, EMERG, null, message, (Throwable) null);
+    public static long getSuppressedCount(final Severity severity) {
+        return RateLimiter.suppressedCount(severity);
     }
 
     /**
-     * Logs a message at the {@code EMERG} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Starts a batch of events of this Logger, written together when its
+     * {@code log()} method is called, see {@link LogBatch}.
      *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @return A new, empty batch.
      */
-    public void emerg(final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, EMERG, null, message, t);
+    public LogBatch batch() {
+        return new LogBatch(logger);
     }
 
     /**
-     * Logs a message object with the {@code EMERG} level.
+     * Checks whether this Logger is enabled for the {@code EMERG} level.
      *
-     * @param message the message object to log.
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code EMERG}, {@code false} otherwise.
      */
-    public void emerg(final String message) {
-        logger.logIfEnabled(FQCN, EMERG, null, message, (Throwable) null);
+    public boolean isEmergEnabled() {
+        return EMERG.intLevel() <= threshold();
     }
 
     /**
-     * Logs a message with parameters at the {@code EMERG} level.
+     * Starts a structured event at the {@code EMERG} level, see
+     * {@link LogBuilder}.
      *
-     * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
-     * @see #getMessageFactory()
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
      */
-    public void emerg(final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, EMERG, null, message, params);
+    public LogBuilder atEmerg() {
+        return builder(EMERG);
     }
 
     /**
-     * Logs a message at the {@code EMERG} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Checks whether this Logger is enabled for the {@code EMERG} level and the
+     * given Marker.
      *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code EMERG} and the Marker, {@code false} otherwise.
      */
-    public void emerg(final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, EMERG, null, message, t);
+    public boolean isEmergEnabled(final Marker marker) {
+        return EMERG.intLevel() <= threshold() && logger.isEnabled(EMERG, marker, (Object) null, null);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code ALERT} level.
+     * Logs a message with the specific Marker at the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
      * @param msg the message string to be logged
      */
-    public void alert(final Marker marker, final Message msg) {
-        logger.logIfEnabled(FQCN, ALERT, marker, msg, (Throwable) null);
+    public void emerg(final Marker marker, final Message msg) {
+        logger.logIfEnabled(FQCN, EMERG, marker, msg, (Throwable) null);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code ALERT} level.
+     * Logs a message with the specific Marker at the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
      * @param msg the message string to be logged
      * @param t A Throwable or null.
      */
-    public void alert(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALERT, marker, msg, t);
+    public void emerg(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, EMERG, marker, msg, t);
     }
 
     /**
-     * Logs a message object with the {@code ALERT} level.
+     * Logs a message object with the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message object to log.
      */
-    public void alert(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, ALERT, marker, message, (Throwable) null);
+    public void emerg(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, EMERG, marker, message, (Throwable) null);
     }
 
     /**
-     * Logs a message at the {@code ALERT} level including the stack trace of
+     * Logs a message at the {@code EMERG} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message to log.
      * @param t the exception to log, including its stack trace.
      */
-    public void alert(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALERT, marker, message, t);
+    public void emerg(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, EMERG, marker, message, t);
     }
 
     /**
-     * Logs a message object with the {@code ALERT} level.
+     * Logs a message object with the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message object to log.
      */
-    public void alert(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, ALERT, marker, message, (Throwable) null);
+    public void emerg(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, EMERG, marker, message, (Throwable) null);
     }
 
     /**
-     * Logs a message with parameters at the {@code ALERT} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
      */
-    public void alert(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALERT, marker, message, params);
+    public void emerg(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, EMERG, marker, message, params);
     }
 
     /**
-     * Logs a message at the {@code ALERT} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void alert(final Marker marker, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALERT, marker, message, t);
+    public void emerg(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0);
+        }
     }
 
     /**
-     * Logs the specified Message at the {@code ALERT} level.
+     * Logs a message with a {@code long} parameter at the {@code EMERG} level,
+     * without boxing it.
      *
-     * @param msg the message string to be logged
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void alert(final Message msg) {
-        logger.logIfEnabled(FQCN, ALERT, null, msg, (Throwable) null);
+    public void emerg(final Marker marker, final String message, final long p0) {
+        if (isEnabled(EMERG, marker, message)) {
+            logPrimitive(EMERG, marker, message, PrimitiveMessage.LONG, p0);
+        }
     }
 
     /**
-     * Logs the specified Message at the {@code ALERT} level.
+     * Logs a message with a {@code double} parameter at the {@code EMERG} level,
+     * without boxing it.
      *
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void alert(final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALERT, null, msg, t);
+    public void emerg(final Marker marker, final String message, final double p0) {
+        if (isEnabled(EMERG, marker, message)) {
+            logPrimitive(EMERG, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
     }
 
     /**
-     * Logs a message object with the {@code ALERT} level.
+     * Logs a message with a {@code char} parameter at the {@code EMERG} level,
+     * without boxing it.
      *
-     * @param message the message object to log.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void alert(final Object message) {
-        logger.logIfEnabled(FQCN, ALERT, null, message, (Throwable) null);
+    public void emerg(final Marker marker, final String message, final char p0) {
+        if (isEnabled(EMERG, marker, message)) {
+            logPrimitive(EMERG, marker, message, PrimitiveMessage.CHAR, p0);
+        }
     }
 
     /**
-     * Logs a message at the {@code ALERT} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void alert(final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALERT, null, message, t);
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1);
+        }
     }
 
     /**
-     * Logs a message object with the {@code ALERT} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param message the message object to log.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void alert(final String message) {
-        logger.logIfEnabled(FQCN, ALERT, null, message, (Throwable) null);
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2);
+        }
     }
 
     /**
-     * Logs a message with parameters at the {@code ALERT} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
+     * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
      * @see #getMessageFactory()
      */
-    public void alert(final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALERT, null, message, params);
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2, p3);
+        }
     }
 
     /**
-     * Logs a message at the {@code ALERT} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void alert(final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALERT, null, message, t);
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code CRIT} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void crit(final Marker marker, final Message msg) {
-        logger.logIfEnabled(FQCN, CRIT, marker, msg, (Throwable) null);
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code CRIT} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void crit(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, CRIT, marker, msg, t);
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
-     * Logs a message object with the {@code CRIT} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void crit(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, CRIT, marker, message, (Throwable) null);
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
-     * Logs a message at the {@code CRIT} level including the stack trace of
+     * Logs a message with parameters at the {@code EMERG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code EMERG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void emerg(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(EMERG, marker, message)) {
+            logParams(EMERG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code EMERG} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message to log.
      * @param t the exception to log, including its stack trace.
      */
-    public void crit(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, CRIT, marker, message, t);
+    public void emerg(final Marker marker, final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, EMERG, marker, message, t);
     }
 
     /**
-     * Logs a message object with the {@code CRIT} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param msgSupplier A function, which when called, produces the desired log message.
      */
-    public void crit(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, CRIT, marker, message, (Throwable) null);
+    public void emerg(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(EMERG, marker, msgSupplier, (Throwable) null);
     }
 
     /**
-     * Logs a message with parameters at the {@code CRIT} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void emerg(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(EMERG, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
-     * @see #getMessageFactory()
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
      */
-    public void crit(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, CRIT, marker, message, params);
+    public void emerg(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(EMERG, marker, message, paramSuppliers);
     }
 
     /**
-     * Logs a message at the {@code CRIT} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message to log.
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void emerg(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(EMERG, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
      * @param t the exception to log, including its stack trace.
      */
-    public void crit(final Marker marker, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, CRIT, marker, message, t);
+    public void emerg(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(EMERG, marker, msgSupplier, t);
     }
 
     /**
-     * Logs the specified Message at the {@code CRIT} level.
+     * Logs the specified Message at the {@code EMERG} level.
      *
      * @param msg the message string to be logged
      */
-    public void crit(final Message msg) {
-        logger.logIfEnabled(FQCN, CRIT, null, msg, (Throwable) null);
+    public void emerg(final Message msg) {
+        logger.logIfEnabled(FQCN, EMERG, null, msg, (Throwable) null);
     }
 
     /**
-     * Logs the specified Message at the {@code CRIT} level.
+     * Logs the specified Message at the {@code EMERG} level.
      *
      * @param msg the message string to be logged
      * @param t A Throwable or null.
      */
-    public void crit(final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, CRIT, null, msg, t);
+    public void emerg(final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, EMERG, null, msg, t);
     }
 
     /**
-     * Logs a message object with the {@code CRIT} level.
+     * Logs a message object with the {@code EMERG} level.
      *
      * @param message the message object to log.
      */
-    public void crit(final Object message) {
-        logger.logIfEnabled(FQCN, CRIT, null, message, (Throwable) null);
+    public void emerg(final Object message) {
+        logger.logIfEnabled(FQCN, EMERG, null, message, (Throwable) null);
     }
 
     /**
-     * Logs a message at the {@code CRIT} level including the stack trace of
+     * Logs a message at the {@code EMERG} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
      *
      * @param message the message to log.
      * @param t the exception to log, including its stack trace.
      */
-    public void crit(final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, CRIT, null, message, t);
+    public void emerg(final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, EMERG, null, message, t);
     }
 
     /**
-     * Logs a message object with the {@code CRIT} level.
+     * Logs a message object with the {@code EMERG} level.
      *
      * @param message the message object to log.
      */
-    public void crit(final String message) {
-        logger.logIfEnabled(FQCN, CRIT, null, message, (Throwable) null);
+    public void emerg(final String message) {
+        logger.logIfEnabled(FQCN, EMERG, null, message, (Throwable) null);
     }
 
     /**
-     * Logs a message with parameters at the {@code CRIT} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
      */
-    public void crit(final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, CRIT, null, message, params);
-    }
-
-    /**
-     * Logs a message at the {@code CRIT} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
-     *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
-     */
-    public void crit(final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, CRIT, null, message, t);
+    public void emerg(final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, EMERG, null, message, params);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Marker marker, final Message msg) {
-        logger.logIfEnabled(FQCN, ERROR, marker, msg, (Throwable) null);
+    public void emerg(final String message, final Object p0) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0);
+        }
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code ERROR} level.
+     * Logs a message with a {@code long} parameter at the {@code EMERG} level,
+     * without boxing it.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, marker, msg, t);
+    public void emerg(final String message, final long p0) {
+        if (isEnabled(EMERG, null, message)) {
+            logPrimitive(EMERG, null, message, PrimitiveMessage.LONG, p0);
+        }
     }
 
     /**
-     * Logs a message object with the {@code ERROR} level.
+     * Logs a message with a {@code double} parameter at the {@code EMERG} level,
+     * without boxing it.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, marker, message, (Throwable) null);
+    public void emerg(final String message, final double p0) {
+        if (isEnabled(EMERG, null, message)) {
+            logPrimitive(EMERG, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
     }
 
     /**
-     * Logs a message at the {@code ERROR} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with a {@code char} parameter at the {@code EMERG} level,
+     * without boxing it.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, marker, message, t);
+    public void emerg(final String message, final char p0) {
+        if (isEnabled(EMERG, null, message)) {
+            logPrimitive(EMERG, null, message, PrimitiveMessage.CHAR, p0);
+        }
     }
 
     /**
-     * Logs a message object with the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, ERROR, marker, message, (Throwable) null);
+    public void emerg(final String message, final Object p0, final Object p1) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1);
+        }
     }
 
     /**
-     * Logs a message with parameters at the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
      * @see #getMessageFactory()
      */
-    public void error(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, marker, message, params);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2);
+        }
     }
 
     /**
-     * Logs a message at the {@code ERROR} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Marker marker, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, marker, message, t);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2, p3);
+        }
     }
 
     /**
-     * Logs the specified Message at the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param msg the message string to be logged
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Message msg) {
-        logger.logIfEnabled(FQCN, ERROR, null, msg, (Throwable) null);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
-     * Logs the specified Message at the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, null, msg, t);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
-     * Logs a message object with the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, null, message, (Throwable) null);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
-     * Logs a message at the {@code ERROR} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, null, message, t);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
-     * Logs a message object with the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void error(final String message) {
-        logger.logIfEnabled(FQCN, ERROR, null, message, (Throwable) null);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
-     * Logs a message with parameters at the {@code ERROR} level.
+     * Logs a message with parameters at the {@code EMERG} level.
      *
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
      * @see #getMessageFactory()
      */
-    public void error(final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, null, message, params);
+    public void emerg(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(EMERG, null, message)) {
+            logParams(EMERG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
-     * Logs a message at the {@code ERROR} level including the stack trace of
+     * Logs a message at the {@code EMERG} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
      *
      * @param message the message to log.
      * @param t the exception to log, including its stack trace.
      */
-    public void error(final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, null, message, t);
+    public void emerg(final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, EMERG, null, message, t);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code WARNING} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param msgSupplier A function, which when called, produces the desired log message.
      */
-    public void warning(final Marker marker, final Message msg) {
-        logger.logIfEnabled(FQCN, WARNING, marker, msg, (Throwable) null);
+    public void emerg(final MessageSupplier msgSupplier) {
+        logSupplied(EMERG, null, msgSupplier, (Throwable) null);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code WARNING} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param msgSupplier A function, which when called, produces the desired log message.
      * @param t A Throwable or null.
      */
-    public void warning(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARNING, marker, msg, t);
+    public void emerg(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(EMERG, null, msgSupplier, t);
     }
 
     /**
-     * Logs a message object with the {@code WARNING} level.
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code EMERG} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
      */
-    public void warning(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, WARNING, marker, message, (Throwable) null);
+    public void emerg(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(EMERG, null, message, paramSuppliers);
     }
 
     /**
-     * Logs a message at the {@code WARNING} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
      */
-    public void warning(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARNING, marker, message, t);
+    public void emerg(final Supplier<?> msgSupplier) {
+        logSupplied(EMERG, null, msgSupplier, (Throwable) null);
     }
 
     /**
-     * Logs a message object with the {@code WARNING} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code EMERG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
      */
-    public void warning(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, WARNING, marker, message, (Throwable) null);
+    public void emerg(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(EMERG, null, msgSupplier, t);
     }
 
     /**
-     * Logs a message with parameters at the {@code WARNING} level.
+     * Checks whether this Logger is enabled for the {@code ALERT} level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
-     * @see #getMessageFactory()
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code ALERT}, {@code false} otherwise.
      */
-    public void warning(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARNING, marker, message, params);
+    public boolean isAlertEnabled() {
+        return ALERT.intLevel() <= threshold();
     }
 
     /**
-     * Logs a message at the {@code WARNING} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Starts a structured event at the {@code ALERT} level, see
+     * {@link LogBuilder}.
      *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
      */
-    public void warning(final Marker marker, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARNING, marker, message, t);
+    public LogBuilder atAlert() {
+        return builder(ALERT);
     }
 
     /**
-     * Logs the specified Message at the {@code WARNING} level.
+     * Checks whether this Logger is enabled for the {@code ALERT} level and the
+     * given Marker.
      *
-     * @param msg the message string to be logged
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code ALERT} and the Marker, {@code false} otherwise.
      */
-    public void warning(final Message msg) {
-        logger.logIfEnabled(FQCN, WARNING, null, msg, (Throwable) null);
+    public boolean isAlertEnabled(final Marker marker) {
+        return ALERT.intLevel() <= threshold() && logger.isEnabled(ALERT, marker, (Object) null, null);
     }
 
     /**
-     * Logs the specified Message at the {@code WARNING} level.
+     * Logs a message with the specific Marker at the {@code ALERT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     */
+    public void alert(final Marker marker, final Message msg) {
+        logger.logIfEnabled(FQCN, ALERT, marker, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code ALERT} level.
      *
+     * @param marker the marker data specific to this log statement
      * @param msg the message string to be logged
      * @param t A Throwable or null.
      */
-    public void warning(final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARNING, null, msg, t);
+    public void alert(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, ALERT, marker, msg, t);
     }
 
     /**
-     * Logs a message object with the {@code WARNING} level.
+     * Logs a message object with the {@code ALERT} level.
      *
+     * @param marker the marker data specific to this log statement
      * @param message the message object to log.
      */
-    public void warning(final Object message) {
-        logger.logIfEnabled(FQCN, WARNING, null, message, (Throwable) null);
+    public void alert(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, ALERT, marker, message, (Throwable) null);
     }
 
     /**
-     * Logs a message at the {@code WARNING} level including the stack trace of
+     * Logs a message at the {@code ALERT} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
      *
+     * @param marker the marker data specific to this log statement
      * @param message the message to log.
      * @param t the exception to log, including its stack trace.
      */
-    public void warning(final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARNING, null, message, t);
+    public void alert(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ALERT, marker, message, t);
     }
 
     /**
-     * Logs a message object with the {@code WARNING} level.
+     * Logs a message object with the {@code ALERT} level.
      *
+     * @param marker the marker data specific to this log statement
      * @param message the message object to log.
      */
-    public void warning(final String message) {
-        logger.logIfEnabled(FQCN, WARNING, null, message, (Throwable) null);
+    public void alert(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, ALERT, marker, message, (Throwable) null);
     }
 
     /**
-     * Logs a message with parameters at the {@code WARNING} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
+     * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
      */
-    public void warning(final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARNING, null, message, params);
-    }
-
-    /**
-     * Logs a message at the {@code WARNING} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
-     *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
-     */
-    public void warning(final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARNING, null, message, t);
+    public void alert(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, ALERT, marker, message, params);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Marker marker, final Message msg) {
-        logger.logIfEnabled(FQCN, NOTICE, marker, msg, (Throwable) null);
+    public void alert(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0);
+        }
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code NOTICE} level.
+     * Logs a message with a {@code long} parameter at the {@code ALERT} level,
+     * without boxing it.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, NOTICE, marker, msg, t);
+    public void alert(final Marker marker, final String message, final long p0) {
+        if (isEnabled(ALERT, marker, message)) {
+            logPrimitive(ALERT, marker, message, PrimitiveMessage.LONG, p0);
+        }
     }
 
     /**
-     * Logs a message object with the {@code NOTICE} level.
+     * Logs a message with a {@code double} parameter at the {@code ALERT} level,
+     * without boxing it.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, NOTICE, marker, message, (Throwable) null);
+    public void alert(final Marker marker, final String message, final double p0) {
+        if (isEnabled(ALERT, marker, message)) {
+            logPrimitive(ALERT, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
     }
 
     /**
-     * Logs a message at the {@code NOTICE} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with a {@code char} parameter at the {@code ALERT} level,
+     * without boxing it.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, NOTICE, marker, message, t);
+    public void alert(final Marker marker, final String message, final char p0) {
+        if (isEnabled(ALERT, marker, message)) {
+            logPrimitive(ALERT, marker, message, PrimitiveMessage.CHAR, p0);
+        }
     }
 
     /**
-     * Logs a message object with the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, NOTICE, marker, message, (Throwable) null);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1);
+        }
     }
 
     /**
-     * Logs a message with parameters at the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
      * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
      * @see #getMessageFactory()
      */
-    public void notice(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, NOTICE, marker, message, params);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2);
+        }
     }
 
     /**
-     * Logs a message at the {@code NOTICE} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Marker marker, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, NOTICE, marker, message, t);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2, p3);
+        }
     }
 
     /**
-     * Logs the specified Message at the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
-     * @param msg the message string to be logged
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Message msg) {
-        logger.logIfEnabled(FQCN, NOTICE, null, msg, (Throwable) null);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
-     * Logs the specified Message at the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, NOTICE, null, msg, t);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
-     * Logs a message object with the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
-     * @param message the message object to log.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Object message) {
-        logger.logIfEnabled(FQCN, NOTICE, null, message, (Throwable) null);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
-     * Logs a message at the {@code NOTICE} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, NOTICE, null, message, t);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
-     * Logs a message object with the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
-     * @param message the message object to log.
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void notice(final String message) {
-        logger.logIfEnabled(FQCN, NOTICE, null, message, (Throwable) null);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
-     * Logs a message with parameters at the {@code NOTICE} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
+     * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
      * @see #getMessageFactory()
      */
-    public void notice(final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, NOTICE, null, message, params);
+    public void alert(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(ALERT, marker, message)) {
+            logParams(ALERT, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
-     * Logs a message at the {@code NOTICE} level including the stack trace of
+     * Logs a message at the {@code ALERT} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
      *
+     * @param marker the marker data specific to this log statement
      * @param message the message to log.
      * @param t the exception to log, including its stack trace.
      */
-    public void notice(final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, NOTICE, null, message, t);
+    public void alert(final Marker marker, final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ALERT, marker, message, t);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code INFO} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param msgSupplier A function, which when called, produces the desired log message.
      */
-    public void info(final Marker marker, final Message msg) {
-        logger.logIfEnabled(FQCN, INFO, marker, msg, (Throwable) null);
+    public void alert(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(ALERT, marker, msgSupplier, (Throwable) null);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code INFO} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
+     * @param msgSupplier A function, which when called, produces the desired log message.
      * @param t A Throwable or null.
      */
-    public void info(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, marker, msg, t);
-    }
-
-    /**
-     * Logs a message object with the {@code INFO} level.
-     *
-     * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
-     */
-    public void info(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, INFO, marker, message, (Throwable) null);
-    }
-
-    /**
-     * Logs a message at the {@code INFO} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
-     *
-     * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
-     */
-    public void info(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, marker, message, t);
+    public void alert(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(ALERT, marker, msgSupplier, t);
     }
 
     /**
-     * Logs a message object with the {@code INFO} level.
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code ALERT} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
      */
-    public void info(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, INFO, marker, message, (Throwable) null);
+    public void alert(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(ALERT, marker, message, paramSuppliers);
     }
 
     /**
-     * Logs a message with parameters at the {@code INFO} level.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
-     * @see #getMessageFactory()
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
      */
-    public void info(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, marker, message, params);
+    public void alert(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(ALERT, marker, msgSupplier, (Throwable) null);
     }
 
     /**
-     * Logs a message at the {@code INFO} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message to log.
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
      * @param t the exception to log, including its stack trace.
      */
-    public void info(final Marker marker, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, marker, message, t);
+    public void alert(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(ALERT, marker, msgSupplier, t);
     }
 
     /**
-     * Logs the specified Message at the {@code INFO} level.
+     * Logs the specified Message at the {@code ALERT} level.
      *
      * @param msg the message string to be logged
      */
-    public void info(final Message msg) {
-        logger.logIfEnabled(FQCN, INFO, null, msg, (Throwable) null);
+    public void alert(final Message msg) {
+        logger.logIfEnabled(FQCN, ALERT, null, msg, (Throwable) null);
     }
 
     /**
-     * Logs the specified Message at the {@code INFO} level.
+     * Logs the specified Message at the {@code ALERT} level.
      *
      * @param msg the message string to be logged
      * @param t A Throwable or null.
      */
-    public void info(final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, null, msg, t);
+    public void alert(final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, ALERT, null, msg, t);
     }
 
     /**
-     * Logs a message object with the {@code INFO} level.
+     * Logs a message object with the {@code ALERT} level.
      *
      * @param message the message object to log.
      */
-    public void info(final Object message) {
-        logger.logIfEnabled(FQCN, INFO, null, message, (Throwable) null);
+    public void alert(final Object message) {
+        logger.logIfEnabled(FQCN, ALERT, null, message, (Throwable) null);
     }
 
     /**
-     * Logs a message at the {@code INFO} level including the stack trace of
+     * Logs a message at the {@code ALERT} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
      *
      * @param message the message to log.
      * @param t the exception to log, including its stack trace.
      */
-    public void info(final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, null, message, t);
+    public void alert(final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ALERT, null, message, t);
     }
 
     /**
-     * Logs a message object with the {@code INFO} level.
+     * Logs a message object with the {@code ALERT} level.
      *
      * @param message the message object to log.
      */
-    public void info(final String message) {
-        logger.logIfEnabled(FQCN, INFO, null, message, (Throwable) null);
+    public void alert(final String message) {
+        logger.logIfEnabled(FQCN, ALERT, null, message, (Throwable) null);
     }
 
     /**
-     * Logs a message with parameters at the {@code INFO} level.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
      * @param message the message to log; the format depends on the message factory.
      * @param params parameters to the message.
      * @see #getMessageFactory()
      */
-    public void info(final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, null, message, params);
+    public void alert(final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, ALERT, null, message, params);
     }
 
     /**
-     * Logs a message at the {@code INFO} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code ALERT} level.
      *
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void info(final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, null, message, t);
+    public void alert(final String message, final Object p0) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0);
+        }
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code DEBUG} level.
+     * Logs a message with a {@code long} parameter at the {@code ALERT} level,
+     * without boxing it.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     */
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final long p0) {
+        if (isEnabled(ALERT, null, message)) {
+            logPrimitive(ALERT, null, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code ALERT} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final double p0) {
+        if (isEnabled(ALERT, null, message)) {
+            logPrimitive(ALERT, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code ALERT} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final char p0) {
+        if (isEnabled(ALERT, null, message)) {
+            logPrimitive(ALERT, null, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void alert(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(ALERT, null, message)) {
+            logParams(ALERT, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code ALERT} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void alert(final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ALERT, null, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void alert(final MessageSupplier msgSupplier) {
+        logSupplied(ALERT, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void alert(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(ALERT, null, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code ALERT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void alert(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(ALERT, null, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void alert(final Supplier<?> msgSupplier) {
+        logSupplied(ALERT, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ALERT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void alert(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(ALERT, null, msgSupplier, t);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code CRIT} level.
+     *
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code CRIT}, {@code false} otherwise.
+     */
+    public boolean isCritEnabled() {
+        return CRIT.intLevel() <= threshold();
+    }
+
+    /**
+     * Starts a structured event at the {@code CRIT} level, see
+     * {@link LogBuilder}.
+     *
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
+     */
+    public LogBuilder atCrit() {
+        return builder(CRIT);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code CRIT} level and the
+     * given Marker.
+     *
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code CRIT} and the Marker, {@code false} otherwise.
+     */
+    public boolean isCritEnabled(final Marker marker) {
+        return CRIT.intLevel() <= threshold() && logger.isEnabled(CRIT, marker, (Object) null, null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     */
+    public void crit(final Marker marker, final Message msg) {
+        logger.logIfEnabled(FQCN, CRIT, marker, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void crit(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, CRIT, marker, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void crit(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, CRIT, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code CRIT} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void crit(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, CRIT, marker, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void crit(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, CRIT, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, CRIT, marker, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code CRIT} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final long p0) {
+        if (isEnabled(CRIT, marker, message)) {
+            logPrimitive(CRIT, marker, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code CRIT} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final double p0) {
+        if (isEnabled(CRIT, marker, message)) {
+            logPrimitive(CRIT, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code CRIT} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final char p0) {
+        if (isEnabled(CRIT, marker, message)) {
+            logPrimitive(CRIT, marker, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(CRIT, marker, message)) {
+            logParams(CRIT, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code CRIT} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void crit(final Marker marker, final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, CRIT, marker, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void crit(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(CRIT, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void crit(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(CRIT, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void crit(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(CRIT, marker, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void crit(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(CRIT, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void crit(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(CRIT, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs the specified Message at the {@code CRIT} level.
+     *
+     * @param msg the message string to be logged
+     */
+    public void crit(final Message msg) {
+        logger.logIfEnabled(FQCN, CRIT, null, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs the specified Message at the {@code CRIT} level.
+     *
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void crit(final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, CRIT, null, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code CRIT} level.
+     *
+     * @param message the message object to log.
+     */
+    public void crit(final Object message) {
+        logger.logIfEnabled(FQCN, CRIT, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code CRIT} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void crit(final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, CRIT, null, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code CRIT} level.
+     *
+     * @param message the message object to log.
+     */
+    public void crit(final String message) {
+        logger.logIfEnabled(FQCN, CRIT, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, CRIT, null, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code CRIT} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final long p0) {
+        if (isEnabled(CRIT, null, message)) {
+            logPrimitive(CRIT, null, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code CRIT} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final double p0) {
+        if (isEnabled(CRIT, null, message)) {
+            logPrimitive(CRIT, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code CRIT} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final char p0) {
+        if (isEnabled(CRIT, null, message)) {
+            logPrimitive(CRIT, null, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void crit(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(CRIT, null, message)) {
+            logParams(CRIT, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code CRIT} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void crit(final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, CRIT, null, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void crit(final MessageSupplier msgSupplier) {
+        logSupplied(CRIT, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void crit(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(CRIT, null, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code CRIT} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void crit(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(CRIT, null, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void crit(final Supplier<?> msgSupplier) {
+        logSupplied(CRIT, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code CRIT} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void crit(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(CRIT, null, msgSupplier, t);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code ERROR} level.
+     *
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code ERROR}, {@code false} otherwise.
+     */
+    public boolean isErrorEnabled() {
+        return ERROR.intLevel() <= threshold();
+    }
+
+    /**
+     * Starts a structured event at the {@code ERROR} level, see
+     * {@link LogBuilder}.
+     *
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
+     */
+    public LogBuilder atError() {
+        return builder(ERROR);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code ERROR} level and the
+     * given Marker.
+     *
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code ERROR} and the Marker, {@code false} otherwise.
+     */
+    public boolean isErrorEnabled(final Marker marker) {
+        return ERROR.intLevel() <= threshold() && logger.isEnabled(ERROR, marker, (Object) null, null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     */
+    public void error(final Marker marker, final Message msg) {
+        logger.logIfEnabled(FQCN, ERROR, marker, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void error(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, ERROR, marker, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void error(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, ERROR, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code ERROR} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void error(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ERROR, marker, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void error(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, ERROR, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, ERROR, marker, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code ERROR} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final long p0) {
+        if (isEnabled(ERROR, marker, message)) {
+            logPrimitive(ERROR, marker, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code ERROR} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final double p0) {
+        if (isEnabled(ERROR, marker, message)) {
+            logPrimitive(ERROR, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code ERROR} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final char p0) {
+        if (isEnabled(ERROR, marker, message)) {
+            logPrimitive(ERROR, marker, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(ERROR, marker, message)) {
+            logParams(ERROR, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code ERROR} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void error(final Marker marker, final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ERROR, marker, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void error(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(ERROR, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void error(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(ERROR, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void error(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(ERROR, marker, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void error(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(ERROR, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void error(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(ERROR, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs the specified Message at the {@code ERROR} level.
+     *
+     * @param msg the message string to be logged
+     */
+    public void error(final Message msg) {
+        logger.logIfEnabled(FQCN, ERROR, null, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs the specified Message at the {@code ERROR} level.
+     *
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void error(final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, ERROR, null, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code ERROR} level.
+     *
+     * @param message the message object to log.
+     */
+    public void error(final Object message) {
+        logger.logIfEnabled(FQCN, ERROR, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code ERROR} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void error(final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ERROR, null, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code ERROR} level.
+     *
+     * @param message the message object to log.
+     */
+    public void error(final String message) {
+        logger.logIfEnabled(FQCN, ERROR, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, ERROR, null, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code ERROR} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final long p0) {
+        if (isEnabled(ERROR, null, message)) {
+            logPrimitive(ERROR, null, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code ERROR} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final double p0) {
+        if (isEnabled(ERROR, null, message)) {
+            logPrimitive(ERROR, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code ERROR} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final char p0) {
+        if (isEnabled(ERROR, null, message)) {
+            logPrimitive(ERROR, null, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void error(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(ERROR, null, message)) {
+            logParams(ERROR, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code ERROR} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void error(final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, ERROR, null, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void error(final MessageSupplier msgSupplier) {
+        logSupplied(ERROR, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void error(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(ERROR, null, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void error(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(ERROR, null, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void error(final Supplier<?> msgSupplier) {
+        logSupplied(ERROR, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code ERROR} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void error(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(ERROR, null, msgSupplier, t);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code WARNING} level.
+     *
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code WARNING}, {@code false} otherwise.
+     */
+    public boolean isWarningEnabled() {
+        return WARNING.intLevel() <= threshold();
+    }
+
+    /**
+     * Starts a structured event at the {@code WARNING} level, see
+     * {@link LogBuilder}.
+     *
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
+     */
+    public LogBuilder atWarning() {
+        return builder(WARNING);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code WARNING} level and the
+     * given Marker.
+     *
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code WARNING} and the Marker, {@code false} otherwise.
+     */
+    public boolean isWarningEnabled(final Marker marker) {
+        return WARNING.intLevel() <= threshold() && logger.isEnabled(WARNING, marker, (Object) null, null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     */
+    public void warning(final Marker marker, final Message msg) {
+        logger.logIfEnabled(FQCN, WARNING, marker, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void warning(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, WARNING, marker, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void warning(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, WARNING, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code WARNING} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void warning(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, WARNING, marker, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void warning(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, WARNING, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, WARNING, marker, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code WARNING} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final long p0) {
+        if (isEnabled(WARNING, marker, message)) {
+            logPrimitive(WARNING, marker, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code WARNING} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final double p0) {
+        if (isEnabled(WARNING, marker, message)) {
+            logPrimitive(WARNING, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code WARNING} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final char p0) {
+        if (isEnabled(WARNING, marker, message)) {
+            logPrimitive(WARNING, marker, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(WARNING, marker, message)) {
+            logParams(WARNING, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code WARNING} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void warning(final Marker marker, final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, WARNING, marker, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void warning(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(WARNING, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void warning(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(WARNING, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void warning(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(WARNING, marker, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void warning(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(WARNING, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void warning(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(WARNING, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs the specified Message at the {@code WARNING} level.
+     *
+     * @param msg the message string to be logged
+     */
+    public void warning(final Message msg) {
+        logger.logIfEnabled(FQCN, WARNING, null, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs the specified Message at the {@code WARNING} level.
+     *
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void warning(final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, WARNING, null, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code WARNING} level.
+     *
+     * @param message the message object to log.
+     */
+    public void warning(final Object message) {
+        logger.logIfEnabled(FQCN, WARNING, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code WARNING} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void warning(final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, WARNING, null, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code WARNING} level.
+     *
+     * @param message the message object to log.
+     */
+    public void warning(final String message) {
+        logger.logIfEnabled(FQCN, WARNING, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, WARNING, null, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code WARNING} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final long p0) {
+        if (isEnabled(WARNING, null, message)) {
+            logPrimitive(WARNING, null, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code WARNING} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final double p0) {
+        if (isEnabled(WARNING, null, message)) {
+            logPrimitive(WARNING, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code WARNING} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final char p0) {
+        if (isEnabled(WARNING, null, message)) {
+            logPrimitive(WARNING, null, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void warning(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(WARNING, null, message)) {
+            logParams(WARNING, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code WARNING} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void warning(final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, WARNING, null, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void warning(final MessageSupplier msgSupplier) {
+        logSupplied(WARNING, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void warning(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(WARNING, null, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code WARNING} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void warning(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(WARNING, null, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void warning(final Supplier<?> msgSupplier) {
+        logSupplied(WARNING, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code WARNING} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void warning(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(WARNING, null, msgSupplier, t);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code NOTICE} level.
+     *
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code NOTICE}, {@code false} otherwise.
+     */
+    public boolean isNoticeEnabled() {
+        return NOTICE.intLevel() <= threshold();
+    }
+
+    /**
+     * Starts a structured event at the {@code NOTICE} level, see
+     * {@link LogBuilder}.
+     *
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
+     */
+    public LogBuilder atNotice() {
+        return builder(NOTICE);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code NOTICE} level and the
+     * given Marker.
+     *
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code NOTICE} and the Marker, {@code false} otherwise.
+     */
+    public boolean isNoticeEnabled(final Marker marker) {
+        return NOTICE.intLevel() <= threshold() && logger.isEnabled(NOTICE, marker, (Object) null, null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     */
+    public void notice(final Marker marker, final Message msg) {
+        logger.logIfEnabled(FQCN, NOTICE, marker, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void notice(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, NOTICE, marker, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void notice(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, NOTICE, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code NOTICE} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void notice(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, NOTICE, marker, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void notice(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, NOTICE, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, NOTICE, marker, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code NOTICE} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final long p0) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logPrimitive(NOTICE, marker, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code NOTICE} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final double p0) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logPrimitive(NOTICE, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code NOTICE} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final char p0) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logPrimitive(NOTICE, marker, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(NOTICE, marker, message)) {
+            logParams(NOTICE, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code NOTICE} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void notice(final Marker marker, final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, NOTICE, marker, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void notice(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(NOTICE, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void notice(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(NOTICE, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void notice(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(NOTICE, marker, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void notice(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(NOTICE, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void notice(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(NOTICE, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs the specified Message at the {@code NOTICE} level.
+     *
+     * @param msg the message string to be logged
+     */
+    public void notice(final Message msg) {
+        logger.logIfEnabled(FQCN, NOTICE, null, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs the specified Message at the {@code NOTICE} level.
+     *
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void notice(final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, NOTICE, null, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code NOTICE} level.
+     *
+     * @param message the message object to log.
+     */
+    public void notice(final Object message) {
+        logger.logIfEnabled(FQCN, NOTICE, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code NOTICE} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void notice(final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, NOTICE, null, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code NOTICE} level.
+     *
+     * @param message the message object to log.
+     */
+    public void notice(final String message) {
+        logger.logIfEnabled(FQCN, NOTICE, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, NOTICE, null, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code NOTICE} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final long p0) {
+        if (isEnabled(NOTICE, null, message)) {
+            logPrimitive(NOTICE, null, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code NOTICE} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final double p0) {
+        if (isEnabled(NOTICE, null, message)) {
+            logPrimitive(NOTICE, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code NOTICE} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final char p0) {
+        if (isEnabled(NOTICE, null, message)) {
+            logPrimitive(NOTICE, null, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void notice(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(NOTICE, null, message)) {
+            logParams(NOTICE, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code NOTICE} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void notice(final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, NOTICE, null, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void notice(final MessageSupplier msgSupplier) {
+        logSupplied(NOTICE, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void notice(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(NOTICE, null, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code NOTICE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void notice(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(NOTICE, null, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void notice(final Supplier<?> msgSupplier) {
+        logSupplied(NOTICE, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code NOTICE} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void notice(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(NOTICE, null, msgSupplier, t);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code INFO} level.
+     *
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code INFO}, {@code false} otherwise.
+     */
+    public boolean isInfoEnabled() {
+        return INFO.intLevel() <= threshold();
+    }
+
+    /**
+     * Starts a structured event at the {@code INFO} level, see
+     * {@link LogBuilder}.
+     *
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
+     */
+    public LogBuilder atInfo() {
+        return builder(INFO);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code INFO} level and the
+     * given Marker.
+     *
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code INFO} and the Marker, {@code false} otherwise.
+     */
+    public boolean isInfoEnabled(final Marker marker) {
+        return INFO.intLevel() <= threshold() && logger.isEnabled(INFO, marker, (Object) null, null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     */
+    public void info(final Marker marker, final Message msg) {
+        logger.logIfEnabled(FQCN, INFO, marker, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void info(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, INFO, marker, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void info(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, INFO, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code INFO} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void info(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, INFO, marker, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void info(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, INFO, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, INFO, marker, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code INFO} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final long p0) {
+        if (isEnabled(INFO, marker, message)) {
+            logPrimitive(INFO, marker, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code INFO} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final double p0) {
+        if (isEnabled(INFO, marker, message)) {
+            logPrimitive(INFO, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code INFO} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final char p0) {
+        if (isEnabled(INFO, marker, message)) {
+            logPrimitive(INFO, marker, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(INFO, marker, message)) {
+            logParams(INFO, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code INFO} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void info(final Marker marker, final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, INFO, marker, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void info(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(INFO, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void info(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(INFO, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void info(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(INFO, marker, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void info(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(INFO, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void info(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(INFO, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs the specified Message at the {@code INFO} level.
+     *
+     * @param msg the message string to be logged
+     */
+    public void info(final Message msg) {
+        logger.logIfEnabled(FQCN, INFO, null, msg, (Throwable) null);
+    }
+
+    /**
+     * Logs the specified Message at the {@code INFO} level.
+     *
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void info(final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, INFO, null, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code INFO} level.
+     *
+     * @param message the message object to log.
+     */
+    public void info(final Object message) {
+        logger.logIfEnabled(FQCN, INFO, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code INFO} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void info(final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, INFO, null, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code INFO} level.
+     *
+     * @param message the message object to log.
+     */
+    public void info(final String message) {
+        logger.logIfEnabled(FQCN, INFO, null, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, INFO, null, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code INFO} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final long p0) {
+        if (isEnabled(INFO, null, message)) {
+            logPrimitive(INFO, null, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code INFO} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final double p0) {
+        if (isEnabled(INFO, null, message)) {
+            logPrimitive(INFO, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code INFO} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final char p0) {
+        if (isEnabled(INFO, null, message)) {
+            logPrimitive(INFO, null, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void info(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(INFO, null, message)) {
+            logParams(INFO, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
+    /**
+     * Logs a message at the {@code INFO} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void info(final String message, final Throwable t) {
+        logger.logIfEnabled(FQCN, INFO, null, message, t);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void info(final MessageSupplier msgSupplier) {
+        logSupplied(INFO, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void info(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(INFO, null, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void info(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(INFO, null, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void info(final Supplier<?> msgSupplier) {
+        logSupplied(INFO, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code INFO} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void info(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(INFO, null, msgSupplier, t);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code DEBUG} level.
+     *
+     * <p>This only compares the level with the Log4j Logger's level and does
+     * not run the filters.</p>
+     *
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code DEBUG}, {@code false} otherwise.
+     */
+    public boolean isDebugEnabled() {
+        return DEBUG.intLevel() <= threshold();
+    }
+
+    /**
+     * Starts a structured event at the {@code DEBUG} level, see
+     * {@link LogBuilder}.
+     *
+     * @return A builder for the event; a shared builder that ignores
+     *         everything if the level is disabled.
+     */
+    public LogBuilder atDebug() {
+        return builder(DEBUG);
+    }
+
+    /**
+     * Checks whether this Logger is enabled for the {@code DEBUG} level and the
+     * given Marker.
+     *
+     * @param marker the marker data specific to this log statement
+     * @return boolean - {@code true} if this Logger is enabled for level
+     *         {@code DEBUG} and the Marker, {@code false} otherwise.
+     */
+    public boolean isDebugEnabled(final Marker marker) {
+        return DEBUG.intLevel() <= threshold() && logger.isEnabled(DEBUG, marker, (Object) null, null);
+    }
+
+    /**
+     * Logs a message with the specific Marker at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     */
     public void debug(final Marker marker, final Message msg) {
         logger.logIfEnabled(FQCN, DEBUG, marker, msg, (Throwable) null);
     }
 
     /**
-     * Logs a message with the specific Marker at the {@code DEBUG} level.
+     * Logs a message with the specific Marker at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg the message string to be logged
+     * @param t A Throwable or null.
+     */
+    public void debug(final Marker marker, final Message msg, final Throwable t) {
+        logger.logIfEnabled(FQCN, DEBUG, marker, msg, t);
+    }
+
+    /**
+     * Logs a message object with the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void debug(final Marker marker, final Object message) {
+        logger.logIfEnabled(FQCN, DEBUG, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message at the {@code DEBUG} level including the stack trace of
+     * the {@link Throwable} {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void debug(final Marker marker, final Object message, final Throwable t) {
+        logger.logIfEnabled(FQCN, DEBUG, marker, message, t);
+    }
+
+    /**
+     * Logs a message object with the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message object to log.
+     */
+    public void debug(final Marker marker, final String message) {
+        logger.logIfEnabled(FQCN, DEBUG, marker, message, (Throwable) null);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param params parameters to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final Object... params) {
+        logger.logIfEnabled(FQCN, DEBUG, marker, message, params);
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final Object p0) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code DEBUG} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final long p0) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logPrimitive(DEBUG, marker, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code DEBUG} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final double p0) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logPrimitive(DEBUG, marker, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code DEBUG} level,
+     * without boxing it.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final char p0) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logPrimitive(DEBUG, marker, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param msg the message string to be logged
-     * @param t A Throwable or null.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void debug(final Marker marker, final Message msg, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, marker, msg, t);
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
-     * Logs a message object with the {@code DEBUG} level.
+     * Logs a message with parameters at the {@code DEBUG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void debug(final Marker marker, final Object message) {
-        logger.logIfEnabled(FQCN, DEBUG, marker, message, (Throwable) null);
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
-     * Logs a message at the {@code DEBUG} level including the stack trace of
-     * the {@link Throwable} {@code t} passed as parameter.
+     * Logs a message with parameters at the {@code DEBUG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message to log.
-     * @param t the exception to log, including its stack trace.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void debug(final Marker marker, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, marker, message, t);
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
-     * Logs a message object with the {@code DEBUG} level.
+     * Logs a message with parameters at the {@code DEBUG} level.
      *
      * @param marker the marker data specific to this log statement
-     * @param message the message object to log.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
      */
-    public void debug(final Marker marker, final String message) {
-        logger.logIfEnabled(FQCN, DEBUG, marker, message, (Throwable) null);
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -1215,11 +5891,22 @@ public final class Logger implements Serializable {
      *
      * @param marker the marker data specific to this log statement
      * @param message the message to log; the format depends on the message factory.
-     * @param params parameters to the message.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
      * @see #getMessageFactory()
      */
-    public void debug(final Marker marker, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, DEBUG, marker, message, params);
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(DEBUG, marker, message)) {
+            logParams(DEBUG, marker, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -1234,6 +5921,68 @@ public final class Logger implements Serializable {
         logger.logIfEnabled(FQCN, DEBUG, marker, message, t);
     }
 
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void debug(final Marker marker, final MessageSupplier msgSupplier) {
+        logSupplied(DEBUG, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void debug(final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(DEBUG, marker, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void debug(final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(DEBUG, marker, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void debug(final Marker marker, final Supplier<?> msgSupplier) {
+        logSupplied(DEBUG, marker, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void debug(final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(DEBUG, marker, msgSupplier, t);
+    }
+
     /**
      * Logs the specified Message at the {@code DEBUG} level.
      *
@@ -1293,6 +6042,223 @@ public final class Logger implements Serializable {
         logger.logIfEnabled(FQCN, DEBUG, null, message, params);
     }
 
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code long} parameter at the {@code DEBUG} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final long p0) {
+        if (isEnabled(DEBUG, null, message)) {
+            logPrimitive(DEBUG, null, message, PrimitiveMessage.LONG, p0);
+        }
+    }
+
+    /**
+     * Logs a message with a {@code double} parameter at the {@code DEBUG} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final double p0) {
+        if (isEnabled(DEBUG, null, message)) {
+            logPrimitive(DEBUG, null, message, PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(p0));
+        }
+    }
+
+    /**
+     * Logs a message with a {@code char} parameter at the {@code DEBUG} level,
+     * without boxing it.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final char p0) {
+        if (isEnabled(DEBUG, null, message)) {
+            logPrimitive(DEBUG, null, message, PrimitiveMessage.CHAR, p0);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2, p3);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2, p3, p4);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2, p3, p4, p5);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
+    }
+
+    /**
+     * Logs a message with parameters at the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 parameter to the message.
+     * @param p1 parameter to the message.
+     * @param p2 parameter to the message.
+     * @param p3 parameter to the message.
+     * @param p4 parameter to the message.
+     * @param p5 parameter to the message.
+     * @param p6 parameter to the message.
+     * @param p7 parameter to the message.
+     * @param p8 parameter to the message.
+     * @param p9 parameter to the message.
+     * @see #getMessageFactory()
+     */
+    public void debug(final String message, final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5, final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (isEnabled(DEBUG, null, message)) {
+            logParams(DEBUG, null, message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
+    }
+
     /**
      * Logs a message at the {@code DEBUG} level including the stack trace of
      * the {@link Throwable} {@code t} passed as parameter.
@@ -1303,4 +6269,337 @@ public final class Logger implements Serializable {
     public void debug(final String message, final Throwable t) {
         logger.logIfEnabled(FQCN, DEBUG, null, message, t);
     }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     */
+    public void debug(final MessageSupplier msgSupplier) {
+        logSupplied(DEBUG, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message.
+     * @param t A Throwable or null.
+     */
+    public void debug(final MessageSupplier msgSupplier, final Throwable t) {
+        logSupplied(DEBUG, null, msgSupplier, t);
+    }
+
+    /**
+     * Logs a message with parameters which are only to be constructed if the
+     * logging level is the {@code DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param paramSuppliers An array of functions, which when called, produce the desired log message parameters.
+     */
+    public void debug(final String message, final Supplier<?>... paramSuppliers) {
+        logSupplied(DEBUG, null, message, paramSuppliers);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     */
+    public void debug(final Supplier<?> msgSupplier) {
+        logSupplied(DEBUG, null, msgSupplier, (Throwable) null);
+    }
+
+    /**
+     * Logs a message which is only to be constructed if the logging level is the
+     * {@code DEBUG} level including the stack trace of the {@link Throwable}
+     * {@code t} passed as parameter.
+     *
+     * @param msgSupplier A function, which when called, produces the desired log message;
+     *            the format depends on the message factory.
+     * @param t the exception to log, including its stack trace.
+     */
+    public void debug(final Supplier<?> msgSupplier, final Throwable t) {
+        logSupplied(DEBUG, null, msgSupplier, t);
+    }
+
+    /**
+     * Counts the call, then checks the Logger's level before asking Log4j
+     * whether the event is enabled, and starts timing the call if it is.
+     */
+    private boolean isEnabled(final Level level, final Marker marker, final String message) {
+        logger.countCall(level);
+        if (level.intLevel() <= threshold() && logger.isEnabled(level, marker, message)) {
+            logger.startCall();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the call, then checks the Logger's level before asking Log4j
+     * whether the event is enabled, and starts timing the call if it is.
+     */
+    private boolean isEnabled(final Level level, final Marker marker, final Throwable t) {
+        logger.countCall(level);
+        if (level.intLevel() <= threshold() && logger.isEnabled(level, marker, (Object) null, t)) {
+            logger.startCall();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the call and returns this thread's builder if the level is
+     * enabled, or the no-op builder.
+     */
+    private LogBuilder builder(final Level level) {
+        if (isEnabled(level, null, (Throwable) null)) {
+            return KeyValueLogBuilder.start(logger, level);
+        }
+        return KeyValueLogBuilder.NOOP;
+    }
+
+    /**
+     * Builds the parameterized message and logs it. Callers check the level
+     * first so that the parameter array is only created for enabled events.
+     */
+    private void logParams(final Level level, final Marker marker, final String message, final Object... params) {
+        final Message msg = logger.getMessageFactory().newMessage(message, params);
+        logger.logMessage(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    /**
+     * Logs a message with a fixed number of parameters, filling in this
+     * thread's {@link ReusableMessage} when messages are reused so that no
+     * parameter array is created either.
+     */
+    private void logParams(final Level level, final Marker marker, final String message, final Object p0) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 1);
+        params[0] = p0;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 2);
+        params[0] = p0;
+        params[1] = p1;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 3);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2, p3});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 4);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2, p3, p4});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 5);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 6);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+            final Object p6) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 7);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+            final Object p6, final Object p7) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 8);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+            final Object p6, final Object p7, final Object p8) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 9);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        params[8] = p8;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    private void logParams(final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2, final Object p3, final Object p4, final Object p5,
+            final Object p6, final Object p7, final Object p8, final Object p9) {
+        if (!logger.reusesMessages()) {
+            logParams(level, marker, message, new Object[] {p0, p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            return;
+        }
+        final ReusableMessage msg = ReusableMessage.acquire();
+        final Object[] params = msg.parameters(message, 10);
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        params[3] = p3;
+        params[4] = p4;
+        params[5] = p5;
+        params[6] = p6;
+        params[7] = p7;
+        params[8] = p8;
+        params[9] = p9;
+        logger.logReusable(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    /**
+     * Logs a message with a single primitive parameter, without boxing it
+     * unless the Logger has a message factory other than the default one.
+     */
+    private void logPrimitive(final Level level, final Marker marker, final String message, final byte type,
+            final long bits) {
+        if (logger.reusesMessages()) {
+            final ReusableMessage msg = ReusableMessage.acquire();
+            msg.setPrimitive(message, type, bits);
+            logger.logReusable(FQCN, level, marker, msg, null);
+            return;
+        }
+        final MessageFactory factory = logger.getMessageFactory();
+        final Message msg = factory instanceof ParameterizedMessageFactory
+                ? new PrimitiveMessage(message, type, bits)
+                : factory.newMessage(message, PrimitiveMessage.box(type, bits));
+        logger.logMessage(FQCN, level, marker, msg, msg.getThrowable());
+    }
+
+    /**
+     * Logs the message produced by the supplier, calling it only when the
+     * level is enabled.
+     */
+    private void logSupplied(final Level level, final Marker marker, final Supplier<?> msgSupplier, final Throwable t) {
+        if (isEnabled(level, marker, t)) {
+            final Object supplied = msgSupplier == null ? null : msgSupplier.get();
+            final Message msg = supplied instanceof Message
+                    ? (Message) supplied : logger.getMessageFactory().newMessage(supplied);
+            logger.logMessage(FQCN, level, marker, msg, t);
+        }
+    }
+
+    /**
+     * Logs the message produced by the supplier, calling it only when the
+     * level is enabled.
+     */
+    private void logSupplied(final Level level, final Marker marker, final MessageSupplier msgSupplier, final Throwable t) {
+        if (isEnabled(level, marker, t)) {
+            final Message msg = msgSupplier == null ? null : msgSupplier.get();
+            logger.logMessage(FQCN, level, marker, msg, t);
+        }
+    }
+
+    /**
+     * Logs the parameterized message, calling the parameter suppliers only
+     * when the level is enabled.
+     */
+    private void logSupplied(final Level level, final Marker marker, final String message, final Supplier<?>... paramSuppliers) {
+        if (isEnabled(level, marker, message)) {
+            final Object[] params = new Object[paramSuppliers == null ? 0 : paramSuppliers.length];
+            for (int i = 0; i < params.length; i++) {
+                params[i] = paramSuppliers[i] == null ? null : paramSuppliers[i].get();
+            }
+            logParams(level, marker, message, params);
+        }
+    }
 }
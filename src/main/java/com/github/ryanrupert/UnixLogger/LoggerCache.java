@@ -0,0 +1,210 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.impl.Log4jContextFactory;
+import org.apache.logging.log4j.core.selector.BasicContextSelector;
+import org.apache.logging.log4j.core.selector.ClassLoaderContextSelector;
+import org.apache.logging.log4j.core.selector.ContextSelector;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.spi.LoggerContext;
+import org.apache.logging.log4j.spi.LoggerContextFactory;
+
+/**
+ * The custom {@link Logger}s already created in one Log4j
+ * {@link LoggerContext}, so that {@code Logger.create} only returns a Logger
+ * of the context Log4j would have used.
+ *
+ * <p>The context is found as {@code LogManager} finds it: from the class
+ * loader of the class for Loggers named after a class, and from the caller
+ * for Loggers created by name. Looking it up costs far more than the rest of
+ * a cache hit, so with the default context selectors, which give the same
+ * context for a class loader until the context stops, the cache is also
+ * remembered per class loader. The caches of stopped contexts are dropped
+ * whenever a cache is added.</p>
+ *
+ * <p>Loggers with their own message factory are only cached up to
+ * {@value #MAX_FACTORY_LOGGERS} per context; past that they are created on
+ * every call, so that new factories cannot grow the cache without bound.</p>
+ */
+final class LoggerCache {
+    private static final int MAX_FACTORY_LOGGERS = 1000;
+    private static final ClassLoader LIBRARY_LOADER = LoggerCache.class.getClassLoader();
+    private static final boolean BY_LOADER_ENABLED = selectsByLoader();
+    // Caches by class loader, when that determines the context; and by context, compared by identity.
+    private static final ConcurrentMap<ClassLoader, LoggerCache> BY_LOADER = new ConcurrentHashMap<>();
+    private static final Map<LoggerContext, LoggerCache> BY_CONTEXT = new IdentityHashMap<>();
+
+    private final LoggerContext context;
+    private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Logger> asyncLoggers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, Logger> factoryLoggers = new ConcurrentHashMap<>();
+
+    private LoggerCache(final LoggerContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Returns the cache for Loggers named after the class.
+     *
+     * @param clazz The class.
+     * @return The cache of the context of the class's loader.
+     */
+    static LoggerCache forClass(final Class<?> clazz) {
+        final ClassLoader loader = clazz.getClassLoader();
+        return lookup(loader, loader);
+    }
+
+    /**
+     * Returns the cache for Loggers created by name, in the context
+     * {@code LogManager.getLogger(String)} would use.
+     *
+     * @return The cache of the calling context.
+     */
+    static LoggerCache forName() {
+        // The ClassLoader selector gives the context of the class calling LogManager, which is ours.
+        return lookup(LIBRARY_LOADER, null);
+    }
+
+    private static LoggerCache lookup(final ClassLoader key, final ClassLoader loader) {
+        if (BY_LOADER_ENABLED && key != null) {
+            final LoggerCache cached = BY_LOADER.get(key);
+            if (cached != null && cached.isLive()) {
+                return cached;
+            }
+        }
+        final LoggerContext context = loader == null ? LogManager.getContext(false)
+                : LogManager.getContext(loader, false);
+        final LoggerCache cache = forContext(context);
+        if (BY_LOADER_ENABLED && key != null) {
+            BY_LOADER.put(key, cache);
+        }
+        return cache;
+    }
+
+    private static LoggerCache forContext(final LoggerContext context) {
+        synchronized (BY_CONTEXT) {
+            LoggerCache cache = BY_CONTEXT.get(context);
+            if (cache == null) {
+                dropStopped();
+                cache = new LoggerCache(context);
+                BY_CONTEXT.put(context, cache);
+            }
+            return cache;
+        }
+    }
+
+    private static void dropStopped() {
+        for (final Iterator<LoggerCache> it = BY_CONTEXT.values().iterator(); it.hasNext();) {
+            if (!it.next().isLive()) {
+                it.remove();
+            }
+        }
+        for (final Iterator<LoggerCache> it = BY_LOADER.values().iterator(); it.hasNext();) {
+            if (!it.next().isLive()) {
+                it.remove();
+            }
+        }
+    }
+
+    private static boolean selectsByLoader() {
+        final LoggerContextFactory factory = LogManager.getFactory();
+        if (factory instanceof Log4jContextFactory) {
+            final ContextSelector selector = ((Log4jContextFactory) factory).getSelector();
+            return selector instanceof ClassLoaderContextSelector || selector instanceof BasicContextSelector;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the context the cached Loggers belong to.
+     */
+    LoggerContext getContext() {
+        return context;
+    }
+
+    /**
+     * Returns the cached Logger for the default message factory.
+     *
+     * @return The Logger, or {@code null} if there is none yet.
+     */
+    Logger get(final String name, final boolean async) {
+        return (async ? asyncLoggers : loggers).get(name);
+    }
+
+    /**
+     * Caches a Logger for the default message factory, unless another thread
+     * did first.
+     *
+     * @return The Logger in the cache.
+     */
+    Logger put(final String name, final boolean async, final Logger logger) {
+        final Logger raced = (async ? asyncLoggers : loggers).putIfAbsent(name, logger);
+        return raced != null ? raced : logger;
+    }
+
+    /**
+     * Returns the cached Logger for a message factory.
+     *
+     * @return The Logger, or {@code null} if there is none yet.
+     */
+    Logger get(final String name, final MessageFactory factory, final boolean async) {
+        return factoryLoggers.get(new Key(name, factory, async));
+    }
+
+    /**
+     * Caches a Logger for a message factory, unless another thread did first
+     * or the cache is full.
+     *
+     * @return The Logger to use.
+     */
+    Logger put(final String name, final MessageFactory factory, final boolean async, final Logger logger) {
+        if (factoryLoggers.size() >= MAX_FACTORY_LOGGERS) {
+            return logger;
+        }
+        final Logger raced = factoryLoggers.putIfAbsent(new Key(name, factory, async), logger);
+        return raced != null ? raced : logger;
+    }
+
+    private boolean isLive() {
+        if (context instanceof org.apache.logging.log4j.core.LoggerContext) {
+            final org.apache.logging.log4j.core.LoggerContext core =
+                    (org.apache.logging.log4j.core.LoggerContext) context;
+            return !core.isStopping() && !core.isStopped();
+        }
+        return true;
+    }
+
+    /**
+     * The name, message factory and mode of a Logger.
+     */
+    private static final class Key {
+        private final String name;
+        private final MessageFactory factory;
+        private final boolean async;
+
+        Key(final String name, final MessageFactory factory, final boolean async) {
+            this.name = name;
+            this.factory = factory;
+            this.async = async;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return async == other.async && name.equals(other.name) && factory.equals(other.factory);
+        }
+
+        @Override
+        public int hashCode() {
+            return (name.hashCode() * 31 + factory.hashCode()) * 31 + (async ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,810 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * Writes events to a file through a memory mapping, so that appending an
+ * event is a copy into memory rather than a write system call.
+ *
+ * <p>The file is mapped one region at a time, starting at the end of the
+ * data. Encoded events are copied straight into the mapping; when an event
+ * does not fit in what is left of the region, the next region is mapped from
+ * the current end of the data, growing the file ahead of the writes. On stop
+ * the file is truncated to the data actually written. If the process dies
+ * first, the unused part of the last region is left as zero bytes, which are
+ * skipped when the file is opened again in append mode. A file written with
+ * a {@link BinaryLayout} is rolled over instead, since the names its events
+ * refer to are only known to the run that wrote it.</p>
+ *
+ * <p>The operating system writes dirty pages back on its own schedule. To
+ * bound what a crash of the machine can lose, a background thread forces the
+ * mapping to disk every {@code forceIntervalMillis}, and events at
+ * {@code forceLevel} or more severe are forced before {@code append}
+ * returns, or once at the end of a {@link LogBatch}.</p>
+ *
+ * <p>The file can be rolled over once it reaches {@code maxFileSize} bytes or
+ * at the start of each hour or day ({@code rolloverInterval}), including
+ * when it is opened again after the limit was crossed. The logging thread
+ * that triggers a rollover only renames the file and maps a new one; forcing,
+ * unmapping and truncating the old file, compressing it and deleting the
+ * oldest files past {@code maxFiles} are left to the
+ * {@link BackgroundRollover} thread. Renaming a mapped file requires a POSIX
+ * file system.</p>
+ *
+ * <p>With {@code indexInterval} set, a sparse index of the file is kept next
+ * to it in {@code <fileName>.idx}, one block per {@code indexInterval} bytes
+ * of events, so that {@link LogQuery} can find the events of a time range,
+ * level or logger without reading the whole file. The index is rolled over
+ * with the file and deleted when the file is compressed. It is not kept for a
+ * {@link BinaryLayout}, whose events cannot be read on their own.</p>
+ *
+ * <pre>
+ * &lt;MappedFile name="combined" fileName="logs/combined.log" regionLength="33554432"
+ *         forceIntervalMillis="1000" forceLevel="ERROR" maxFileSize="104857600" rolloverInterval="DAILY"
+ *         maxFiles="7" compress="true" compressBytesPerSecond="16777216" indexInterval="65536"&gt;
+ *     &lt;PatternLayout pattern="%d %-7level %logger{36} - %msg%n"/&gt;
+ * &lt;/MappedFile&gt;
+ * </pre>
+ */
+@Plugin(name = "MappedFile", category = "Core", elementType = "appender", printObject = true)
+public final class MappedFileAppender extends AbstractAppender {
+    private static final long serialVersionUID = 2873402985347820417L;
+    private static final int MIN_REGION_LENGTH = 4096;
+    private static final int SCAN_CHUNK_SIZE = 8192;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+    private static final long REOPEN_DELAY_MILLIS = 1000;
+
+    private final String fileName;
+    private final int regionLength;
+    private final long forceIntervalMillis;
+    private final Severity forceSeverity;
+    private final long maxFileSize;
+    private final RolloverInterval rolloverInterval;
+    private final int maxFiles;
+    private final boolean compress;
+    private final long compressBytesPerSecond;
+    private final int indexInterval;
+    private final transient ReentrantLock lock = new ReentrantLock();
+    private final transient Condition stopping = lock.newCondition();
+    private final transient Condition forced = lock.newCondition();
+    // Regions that have been filled but not yet unmapped. With a forcing thread,
+    // only that thread unmaps them, since it may be forcing one of them unlocked.
+    private final transient List<MappedByteBuffer> retired = new ArrayList<>();
+    private transient FileChannel channel;
+    private transient MappedByteBuffer region;
+    private long regionStart;
+    private boolean dirty;
+    // Whether the forcing thread is using a region without holding the lock.
+    private boolean forcing;
+    private transient Thread forcer;
+    private long nextRolloverMillis = Long.MAX_VALUE;
+    // The time of the last event written to the file, which names it when it is rolled over.
+    private long lastWriteMillis;
+    private boolean rolloverFailed;
+    // Set when a rollover could not open the new file; appends try again at most every REOPEN_DELAY_MILLIS.
+    private boolean reopenNeeded;
+    private long nextReopenMillis;
+    // Nesting of beginBatch calls, and whether an event of the batch is waiting to be forced.
+    private int batchDepth;
+    private boolean forcePending;
+    // How many times events at forceLevel forced the mapping.
+    private long forceCount;
+    private transient LogIndexWriter index;
+    // Background work of rollovers that may still be running, waited for on stop.
+    private final transient List<Future<?>> rollovers = new ArrayList<>();
+
+    private MappedFileAppender(final String name, final Filter filter, final Layout<? extends Serializable> layout,
+            final boolean ignoreExceptions, final String fileName, final int regionLength,
+            final long forceIntervalMillis, final Severity forceSeverity, final long maxFileSize,
+            final RolloverInterval rolloverInterval, final int maxFiles, final boolean compress,
+            final long compressBytesPerSecond, final int indexInterval) {
+        super(name, filter, layout, ignoreExceptions);
+        this.fileName = fileName;
+        this.regionLength = regionLength;
+        this.forceIntervalMillis = forceIntervalMillis;
+        this.forceSeverity = forceSeverity;
+        this.maxFileSize = maxFileSize;
+        this.rolloverInterval = rolloverInterval;
+        this.maxFiles = maxFiles;
+        this.compress = compress;
+        this.compressBytesPerSecond = compressBytesPerSecond;
+        this.indexInterval = indexInterval;
+    }
+
+    /**
+     * Creates a MappedFileAppender.
+     *
+     * @param name The name of the Appender.
+     * @param fileName The name of the file to write to.
+     * @param append If {@code "true"} (default) events are appended to an
+     *            existing file, otherwise it is truncated.
+     * @param regionLength The length of each mapped region in bytes, 32 MB by
+     *            default.
+     * @param forceIntervalMillis How often to force written data to disk, 1000
+     *            ms by default. 0 leaves it to the operating system.
+     * @param forceLevel Events at this severity or more severe are forced to
+     *            disk before returning, {@code ERROR} by default. {@code OFF}
+     *            disables this.
+     * @param maxFileSize Roll the file over before it grows past this many
+     *            bytes, 0 (default) for no limit.
+     * @param rolloverInterval {@code NONE} (default), {@code HOURLY} or
+     *            {@code DAILY}: roll the file over at the start of each period.
+     * @param maxFiles The number of rolled over files to keep, 7 by default. 0
+     *            keeps them all.
+     * @param compress If {@code "true"} (default) rolled over files are
+     *            gzipped.
+     * @param compressBytesPerSecond Maximum rate at which rolled over files
+     *            are read for compression, 16 MB/s by default. 0 removes the
+     *            limit.
+     * @param indexInterval Keep an index of the file with one block per this
+     *            many bytes of events, 0 (default) for no index.
+     * @param ignoreExceptions If {@code "true"} (default) exceptions encountered
+     *            when appending events are logged; otherwise they are
+     *            propagated to the caller.
+     * @param layout The layout, {@code %m%n} by default.
+     * @param filter The Filter or null.
+     * @return The MappedFileAppender.
+     */
+    @PluginFactory
+    public static MappedFileAppender createAppender(
+            @PluginAttribute("name") final String name,
+            @PluginAttribute("fileName") final String fileName,
+            @PluginAttribute(value = "append", defaultBoolean = true) final boolean append,
+            @PluginAttribute(value = "regionLength", defaultInt = 32 * 1024 * 1024) final int regionLength,
+            @PluginAttribute(value = "forceIntervalMillis", defaultLong = 1000) final long forceIntervalMillis,
+            @PluginAttribute(value = "forceLevel", defaultString = "ERROR") final String forceLevel,
+            @PluginAttribute(value = "maxFileSize", defaultLong = 0) final long maxFileSize,
+            @PluginAttribute(value = "rolloverInterval", defaultString = "NONE") final String rolloverInterval,
+            @PluginAttribute(value = "maxFiles", defaultInt = 7) final int maxFiles,
+            @PluginAttribute(value = "compress", defaultBoolean = true) final boolean compress,
+            @PluginAttribute(value = "compressBytesPerSecond", defaultLong = 16 * 1024 * 1024)
+            final long compressBytesPerSecond,
+            @PluginAttribute(value = "indexInterval", defaultInt = 0) final int indexInterval,
+            @PluginAttribute(value = "ignoreExceptions", defaultBoolean = true) final boolean ignoreExceptions,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") final Filter filter) {
+        if (name == null) {
+            LOGGER.error("No name provided for MappedFileAppender");
+            return null;
+        }
+        if (fileName == null) {
+            LOGGER.error("No filename provided for MappedFileAppender {}", name);
+            return null;
+        }
+        Severity forceSeverity = null;
+        if (!"OFF".equalsIgnoreCase(forceLevel)) {
+            try {
+                forceSeverity = Severity.valueOf(forceLevel.toUpperCase(Locale.ROOT));
+            } catch (final IllegalArgumentException ex) {
+                LOGGER.error("Invalid forceLevel {} for MappedFileAppender {}", forceLevel, name);
+                return null;
+            }
+        }
+        final RolloverInterval interval;
+        try {
+            interval = RolloverInterval.valueOf(rolloverInterval.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            LOGGER.error("Invalid rolloverInterval {} for MappedFileAppender {}", rolloverInterval, name);
+            return null;
+        }
+        if (layout == null) {
+            layout = PatternLayout.createLayout(null, null, null, null, true, false, null, null);
+        }
+        if (indexInterval > 0 && layout instanceof BinaryLayout) {
+            LOGGER.warn("MappedFileAppender {} does not index binary logs, ignoring indexInterval", name);
+        }
+        final MappedFileAppender appender = new MappedFileAppender(name, filter, layout, ignoreExceptions, fileName,
+                Math.max(regionLength, MIN_REGION_LENGTH), forceIntervalMillis, forceSeverity, maxFileSize, interval,
+                maxFiles, compress, compressBytesPerSecond,
+                layout instanceof BinaryLayout ? 0 : Math.max(0, indexInterval));
+        try {
+            appender.open(append);
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to open {} for MappedFileAppender {}", fileName, name, ex);
+            return null;
+        }
+        return appender;
+    }
+
+    /**
+     * Returns the name of the file being written.
+     *
+     * @return The file name.
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public void start() {
+        if (forceIntervalMillis > 0) {
+            forcer = new Thread(this::forcePeriodically, "MappedFile-" + getName());
+            forcer.setDaemon(true);
+            forcer.start();
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        final Thread thread = forcer;
+        if (thread != null) {
+            lock.lock();
+            try {
+                forcer = null;
+                stopping.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                thread.join(STOP_TIMEOUT_MILLIS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final List<Future<?>> pending;
+        lock.lock();
+        try {
+            // The join may have timed out while the forcing thread was still forcing a region unlocked.
+            while (forcing) {
+                forced.awaitUninterruptibly();
+            }
+            reopenNeeded = false;
+            close();
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to close {}", fileName, ex);
+        } finally {
+            pending = new ArrayList<>(rollovers);
+            rollovers.clear();
+            lock.unlock();
+        }
+        awaitRollovers(pending);
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        // A BinaryLayout refers to names it wrote before, so it has to encode in the order events are written.
+        final BinaryLayout binary = getLayout() instanceof BinaryLayout ? (BinaryLayout) getLayout() : null;
+        ByteBuffer encoded = binary == null ? UnixRfc5424Layout.toByteBuffer(getLayout(), event) : null;
+        final boolean force = forceSeverity != null
+                && Severity.of(event.getLevel()).code() <= forceSeverity.code();
+        lock.lock();
+        try {
+            if (region == null) {
+                reopen(event.getTimeMillis());
+            }
+            if (binary != null) {
+                encoded = binary.encode(event);
+            }
+            if (isRolloverDue(event.getTimeMillis(), encoded.remaining())) {
+                rollover(event.getTimeMillis());
+                if (binary != null) {
+                    // The new file starts a new dictionary.
+                    encoded = binary.encode(event);
+                }
+            }
+            final long offset = regionStart + region.position();
+            final int length = encoded.remaining();
+            write(encoded);
+            lastWriteMillis = event.getTimeMillis();
+            if (index != null) {
+                addToIndex(event, offset, length);
+            }
+            if (force) {
+                if (batchDepth > 0) {
+                    forcePending = true;
+                } else {
+                    forceNow();
+                }
+            }
+        } catch (final IOException ex) {
+            throw new AppenderLoggingException("Unable to write to " + fileName, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens the file again after a rollover failed to, or throws if the
+     * appender is closed. Called with the lock held.
+     */
+    private void reopen(final long timeMillis) throws IOException {
+        if (!reopenNeeded) {
+            throw new AppenderLoggingException("MappedFileAppender " + getName() + " is closed");
+        }
+        if (timeMillis < nextReopenMillis) {
+            throw new AppenderLoggingException("MappedFileAppender " + getName() + " could not open " + fileName);
+        }
+        nextReopenMillis = timeMillis + REOPEN_DELAY_MILLIS;
+        open(false);
+        reopenNeeded = false;
+        LOGGER.info("Reopened {} for MappedFileAppender {}", fileName, getName());
+    }
+
+    /**
+     * Starts writing the events of a {@link LogBatch}. The lock is held until
+     * {@link #endBatch()}, so {@code append} only re-enters it, and events at
+     * {@code forceLevel} are forced once at the end of the batch.
+     */
+    void beginBatch() {
+        lock.lock();
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by {@link #beginBatch()}, forcing the mapping if
+     * one of its events asked for it.
+     */
+    void endBatch() {
+        try {
+            if (--batchDepth == 0 && forcePending) {
+                forcePending = false;
+                if (region != null) {
+                    forceNow();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the filled regions and the current one. Called with the lock
+     * held.
+     */
+    private void forceNow() {
+        for (final MappedByteBuffer full : retired) {
+            full.force();
+        }
+        region.force();
+        dirty = false;
+        forceCount++;
+    }
+
+    /**
+     * Returns how many times events at {@code forceLevel} have forced the
+     * mapping: once per event, or once per batch holding any.
+     */
+    long getForceCount() {
+        lock.lock();
+        try {
+            return forceCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open(final boolean append) throws IOException {
+        final File file = new File(fileName);
+        final File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (!append) {
+                channel.truncate(0);
+            }
+            regionStart = dataLength(channel);
+            final long now = System.currentTimeMillis();
+            // A BinaryLayout cannot continue a file, since the names it defined there are not known.
+            if (regionStart > 0 && (getLayout() instanceof BinaryLayout
+                    || maxFileSize > 0 && regionStart >= maxFileSize
+                    || rolloverInterval.next(file.lastModified()) <= now)) {
+                // Left over from a previous run that should have rolled it over already, or binary.
+                channel.truncate(regionStart);
+                channel.close();
+                final Path rolled = BackgroundRollover.rename(file.toPath(), file.lastModified());
+                rollIndex(rolled);
+                submitRollover(() -> BackgroundRollover.compressAndPrune(file.toPath(), rolled, compress,
+                        compressBytesPerSecond, maxFiles));
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                regionStart = 0;
+            }
+            nextRolloverMillis = rolloverInterval.next(now);
+            lastWriteMillis = regionStart > 0 ? file.lastModified() : now;
+            if (indexInterval > 0) {
+                index = openIndex(regionStart > 0);
+            }
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionLength);
+            if (regionStart == 0) {
+                // Only asked for a new file: a BinaryLayout starts a new dictionary with its header.
+                final byte[] header = getLayout().getHeader();
+                if (header != null) {
+                    write(ByteBuffer.wrap(header));
+                }
+            }
+        } catch (final IOException ex) {
+            closeIndex();
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns whether the file has to be rolled over before writing an event.
+     * Called with the lock held.
+     */
+    private boolean isRolloverDue(final long timeMillis, final int length) {
+        if (rolloverFailed) {
+            return false;
+        }
+        final long written = regionStart + region.position();
+        return written > 0 && (timeMillis >= nextRolloverMillis || maxFileSize > 0 && written + length > maxFileSize);
+    }
+
+    /**
+     * Renames the file, writes its footer and starts a new file, leaving the
+     * rest of the work on the old file to the background thread. Called with
+     * the lock held.
+     */
+    private void rollover(final long timeMillis) throws IOException {
+        final Path active = new File(fileName).toPath();
+        final Path rolled;
+        try {
+            // Named after the period it holds, not the one of the event that closed it.
+            rolled = BackgroundRollover.rename(active, lastWriteMillis);
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to roll over {}, it will keep growing", fileName, ex);
+            rolloverFailed = true;
+            return;
+        }
+        final byte[] footer = getLayout().getFooter();
+        if (footer != null) {
+            write(ByteBuffer.wrap(footer));
+        }
+        closeIndex();
+        rollIndex(rolled);
+        final FileChannel oldChannel = channel;
+        final List<MappedByteBuffer> oldRegions = new ArrayList<>(retired);
+        oldRegions.add(region);
+        final long oldLength = regionStart + region.position();
+        retired.clear();
+        region = null;
+        final Future<?> closed = submitRollover(() -> {
+            if (closeRolledOver(rolled, oldChannel, oldRegions, oldLength)) {
+                BackgroundRollover.compressAndPrune(active, rolled, compress, compressBytesPerSecond, maxFiles);
+            }
+        });
+        if (closed == null) {
+            LOGGER.warn("Rollover queue is full, leaving {} uncompressed", rolled);
+            closeRolledOver(rolled, oldChannel, oldRegions, oldLength);
+        }
+        try {
+            open(false);
+        } catch (final IOException ex) {
+            // The old file is gone to the background thread, so the next events try to open the new one again.
+            reopenNeeded = true;
+            nextReopenMillis = timeMillis + REOPEN_DELAY_MILLIS;
+            throw ex;
+        }
+    }
+
+    /**
+     * Forces and unmaps the regions of a rolled over file and truncates it to
+     * the data written, once the forcing thread is done with them.
+     *
+     * @return {@code false} if the file could not be closed.
+     */
+    private boolean closeRolledOver(final Path rolled, final FileChannel oldChannel,
+            final List<MappedByteBuffer> oldRegions, final long length) {
+        lock.lock();
+        try {
+            while (forcing) {
+                forced.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            for (final MappedByteBuffer old : oldRegions) {
+                old.force();
+                unmap(old);
+            }
+            try {
+                oldChannel.truncate(length);
+            } finally {
+                oldChannel.close();
+            }
+            return true;
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to close rolled over file {}", rolled, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Queues background rollover work, keeping its future for
+     * {@link #stop()}. Called with the lock held or before the appender is
+     * started.
+     *
+     * @return The future, or {@code null} if the queue is full.
+     */
+    private Future<?> submitRollover(final Runnable task) {
+        rollovers.removeIf(Future::isDone);
+        final Future<?> future = BackgroundRollover.submit(task);
+        if (future != null) {
+            rollovers.add(future);
+        }
+        return future;
+    }
+
+    private void awaitRollovers(final List<Future<?>> pending) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STOP_TIMEOUT_MILLIS);
+        try {
+            for (final Future<?> future : pending) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | TimeoutException ex) {
+            LOGGER.warn("Rollover of {} did not complete", fileName, ex);
+        }
+    }
+
+    /**
+     * Opens the index of the file, starting it over unless the file already
+     * holds events. Failing to open it only disables indexing.
+     */
+    private LogIndexWriter openIndex(final boolean append) {
+        try {
+            return new LogIndexWriter(LogQuery.indexOf(new File(fileName).toPath()), indexInterval, append);
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to open the index of {}, it will not be indexed", fileName, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Adds a written event to the index, giving up on the index if it cannot
+     * be written. Called with the lock held.
+     */
+    private void addToIndex(final LogEvent event, final long offset, final int length) {
+        try {
+            index.add(offset, length, event.getTimeMillis(), Severity.of(event.getLevel()), event.getLoggerName());
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to write the index of {}, it will no longer be indexed", fileName, ex);
+            closeIndex();
+        }
+    }
+
+    /**
+     * Writes the last block of the index and closes it. Called with the lock
+     * held.
+     */
+    private void closeIndex() {
+        if (index == null) {
+            return;
+        }
+        try {
+            index.close();
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to close the index of {}", fileName, ex);
+        }
+        index = null;
+    }
+
+    /**
+     * Moves the index of the active file next to the rolled over file.
+     */
+    private void rollIndex(final Path rolled) {
+        final Path active = LogQuery.indexOf(new File(fileName).toPath());
+        try {
+            if (Files.exists(active)) {
+                Files.move(active, LogQuery.indexOf(rolled), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to roll over the index of {}", fileName, ex);
+        }
+    }
+
+    /**
+     * Copies the bytes into the current region, mapping the next region first
+     * if they do not fit. Called with the lock held.
+     */
+    private void write(final ByteBuffer bytes) throws IOException {
+        if (bytes.remaining() > region.remaining()) {
+            final MappedByteBuffer full = region;
+            regionStart += full.position();
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart,
+                    Math.max(regionLength, bytes.remaining()));
+            retired.add(full);
+            if (forceIntervalMillis <= 0) {
+                forceRetired();
+            }
+        }
+        region.put(bytes);
+        dirty = true;
+    }
+
+    private void forcePeriodically() {
+        final List<MappedByteBuffer> toForce = new ArrayList<>();
+        lock.lock();
+        try {
+            while (forcer != null) {
+                stopping.await(forceIntervalMillis, TimeUnit.MILLISECONDS);
+                if (!dirty && retired.isEmpty()) {
+                    continue;
+                }
+                toForce.addAll(retired);
+                retired.clear();
+                final MappedByteBuffer current = region;
+                dirty = false;
+                forcing = true;
+                // msync can take a while, so producers are let through meanwhile. The current
+                // region is safe to use unlocked: it is only unmapped once this thread is done.
+                lock.unlock();
+                try {
+                    for (final MappedByteBuffer full : toForce) {
+                        full.force();
+                        unmap(full);
+                    }
+                    toForce.clear();
+                    if (current != null) {
+                        current.force();
+                    }
+                } finally {
+                    lock.lock();
+                    forcing = false;
+                    forced.signalAll();
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces and unmaps the regions that have been filled. Called with the
+     * lock held, when there is no forcing thread or after it stopped.
+     */
+    private void forceRetired() {
+        for (final MappedByteBuffer full : retired) {
+            full.force();
+            unmap(full);
+        }
+        retired.clear();
+    }
+
+    /**
+     * Writes the footer, forces everything and truncates the file to the data
+     * written. Called with the lock held, once the forcing thread is no
+     * longer forcing.
+     */
+    private void close() throws IOException {
+        if (region == null) {
+            return;
+        }
+        final byte[] footer = getLayout().getFooter();
+        if (footer != null) {
+            write(ByteBuffer.wrap(footer));
+        }
+        closeIndex();
+        forceRetired();
+        region.force();
+        final long length = regionStart + region.position();
+        unmap(region);
+        region = null;
+        try {
+            channel.truncate(length);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * How often the file is rolled over regardless of its size, on the
+     * boundaries of the local clock.
+     */
+    private enum RolloverInterval {
+        NONE, HOURLY, DAILY;
+
+        /**
+         * Returns the start of the period after the one containing the time.
+         */
+        long next(final long timeMillis) {
+            if (this == NONE) {
+                return Long.MAX_VALUE;
+            }
+            final Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(timeMillis);
+            calendar.set(Calendar.MILLISECOND, 0);
+            calendar.set(Calendar.SECOND, 0);
+            calendar.set(Calendar.MINUTE, 0);
+            if (this == DAILY) {
+                calendar.set(Calendar.HOUR_OF_DAY, 0);
+                calendar.add(Calendar.DAY_OF_MONTH, 1);
+            } else {
+                calendar.add(Calendar.HOUR_OF_DAY, 1);
+            }
+            return calendar.getTimeInMillis();
+        }
+    }
+
+    /**
+     * Returns the length of the file without the zero bytes a previous run
+     * may have left after its last event.
+     */
+    private static long dataLength(final FileChannel channel) throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(SCAN_CHUNK_SIZE);
+        long end = channel.size();
+        while (end > 0) {
+            final long start = Math.max(0, end - SCAN_CHUNK_SIZE);
+            chunk.clear();
+            chunk.limit((int) (end - start));
+            while (chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) >= 0) {
+                continue;
+            }
+            for (int i = chunk.position() - 1; i >= 0; i--) {
+                if (chunk.get(i) != 0) {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    /**
+     * Releases a mapping right away instead of waiting for the garbage
+     * collector, which would keep the address space and, on some systems, the
+     * file size reserved. The buffer must not be used afterwards.
+     */
+    private static void unmap(final MappedByteBuffer buffer) {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = null;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (final NoSuchMethodException ex) {
+                // Java 8: use the buffer's own cleaner.
+                final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                final Object cleaner = cleanerMethod.invoke(buffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+                return;
+            }
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.debug("Unable to unmap region, leaving it to the garbage collector", ex);
+        }
+    }
+}
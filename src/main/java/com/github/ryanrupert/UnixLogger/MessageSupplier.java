@@ -0,0 +1,20 @@
+package com.github.ryanrupert.UnixLogger;
+
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * Classes implementing this interface know how to supply {@link Message}s.
+ *
+ * <p>This is a functional interface intended to support lambda expressions,
+ * so that the {@link Logger} only creates the Message when the requested log
+ * level is enabled.</p>
+ */
+public interface MessageSupplier {
+
+    /**
+     * Gets a Message.
+     *
+     * @return a Message
+     */
+    Message get();
+}
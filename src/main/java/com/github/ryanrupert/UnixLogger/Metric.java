@@ -0,0 +1,20 @@
+package com.github.ryanrupert.UnixLogger;
+
+/**
+ * The counters kept by {@link Metrics} for every logger name and
+ * {@link Severity}.
+ */
+public enum Metric {
+    /** Logging calls made, whether the level was enabled or not. */
+    CALLS,
+    /** Calls whose level was enabled. */
+    ENABLED,
+    /** Enabled events suppressed by sampling, rate limits or duplicate suppression. */
+    SUPPRESSED,
+    /** Events dropped by the asynchronous ring buffer. */
+    DROPPED,
+    /** Bytes produced by {@link SharedPatternLayout} and {@link UnixRfc5424Layout} for appenders. */
+    BYTES,
+    /** Nanoseconds spent passing events to the appenders. */
+    APPENDER_NANOS
+}
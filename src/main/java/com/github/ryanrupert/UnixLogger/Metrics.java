@@ -0,0 +1,194 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Counts what every {@link Logger} does, per logger name and
+ * {@link Severity}: see {@link Metric} for the counters.
+ *
+ * <p>Metrics are off unless the {@code UnixLogger.Metrics} property is
+ * {@code true}, so that disabled log calls stay as cheap as possible. When on,
+ * each counter is a {@link LongAdder}, which spreads concurrent updates over
+ * several cells instead of contending on one, and the metrics are registered
+ * as the MXBean {@value #OBJECT_NAME}. {@link #snapshot()} copies them for
+ * use from code.</p>
+ */
+public final class Metrics {
+    /** The JMX name of the metrics MXBean. */
+    public static final String OBJECT_NAME = "com.github.ryanrupert.UnixLogger:type=Metrics";
+
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final boolean ENABLED = PropertiesUtil.getProperties().getBooleanProperty("UnixLogger.Metrics");
+    private static final int SIZE = Severity.values().length * Metric.values().length;
+    private static final ConcurrentMap<String, Counters> COUNTERS = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            } catch (final JMException ex) {
+                LOGGER.warn("Unable to register {}", OBJECT_NAME, ex);
+            }
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns whether metrics are being collected.
+     *
+     * @return The value of the {@code UnixLogger.Metrics} property.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Copies the current value of every counter.
+     *
+     * @return The snapshot, empty if metrics are disabled.
+     */
+    public static MetricsSnapshot snapshot() {
+        final Map<String, long[]> values = new HashMap<>();
+        for (final Map.Entry<String, Counters> entry : COUNTERS.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().sums());
+        }
+        return new MetricsSnapshot(System.currentTimeMillis(), values);
+    }
+
+    /**
+     * Returns the counters of a logger name.
+     *
+     * @param loggerName The logger name.
+     * @return The counters, or {@code null} if metrics are disabled.
+     */
+    static Counters forLogger(final String loggerName) {
+        if (!ENABLED) {
+            return null;
+        }
+        final String name = loggerName == null ? "" : loggerName;
+        final Counters existing = COUNTERS.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        final Counters created = new Counters();
+        final Counters raced = COUNTERS.putIfAbsent(name, created);
+        return raced != null ? raced : created;
+    }
+
+    /**
+     * Adds to a counter of a logger, for callers that only have the name at
+     * hand. Does nothing if metrics are disabled.
+     */
+    static void add(final String loggerName, final Level level, final Metric metric, final long value) {
+        if (ENABLED) {
+            forLogger(loggerName).add(level, metric, value);
+        }
+    }
+
+    /**
+     * The counters of one logger name.
+     */
+    static final class Counters {
+        private final LongAdder[] adders = new LongAdder[SIZE];
+
+        private Counters() {
+            for (int i = 0; i < SIZE; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        void increment(final Level level, final Metric metric) {
+            adders[MetricsSnapshot.index(Severity.of(level), metric)].increment();
+        }
+
+        void add(final Level level, final Metric metric, final long value) {
+            adders[MetricsSnapshot.index(Severity.of(level), metric)].add(value);
+        }
+
+        private long[] sums() {
+            final long[] result = new long[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                result[i] = adders[i].sum();
+            }
+            return result;
+        }
+    }
+
+    private static final class MXBean implements MetricsMXBean {
+
+        @Override
+        public Map<String, Long> getCalls() {
+            return totals(Metric.CALLS);
+        }
+
+        @Override
+        public Map<String, Long> getEnabled() {
+            return totals(Metric.ENABLED);
+        }
+
+        @Override
+        public Map<String, Long> getSuppressed() {
+            return totals(Metric.SUPPRESSED);
+        }
+
+        @Override
+        public Map<String, Long> getDropped() {
+            return totals(Metric.DROPPED);
+        }
+
+        @Override
+        public Map<String, Long> getBytes() {
+            return totals(Metric.BYTES);
+        }
+
+        @Override
+        public Map<String, Long> getAppenderNanos() {
+            return totals(Metric.APPENDER_NANOS);
+        }
+
+        @Override
+        public Set<String> getLoggerNames() {
+            return new TreeSet<>(COUNTERS.keySet());
+        }
+
+        @Override
+        public Map<String, Long> getLoggerMetrics(final String loggerName) {
+            final Map<String, Long> result = new LinkedHashMap<>();
+            final Counters counters = COUNTERS.get(loggerName);
+            if (counters != null) {
+                final long[] sums = counters.sums();
+                for (final Severity severity : Severity.values()) {
+                    for (final Metric metric : Metric.values()) {
+                        result.put(severity.name() + '.' + metric.name(),
+                                sums[MetricsSnapshot.index(severity, metric)]);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static Map<String, Long> totals(final Metric metric) {
+            final MetricsSnapshot snapshot = snapshot();
+            final Map<String, Long> result = new LinkedHashMap<>();
+            for (final Severity severity : Severity.values()) {
+                result.put(severity.name(), snapshot.getTotal(severity, metric));
+            }
+            return result;
+        }
+    }
+}
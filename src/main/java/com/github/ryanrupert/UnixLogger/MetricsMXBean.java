@@ -0,0 +1,58 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JMX view of the {@link Metrics}, registered as
+ * {@value Metrics#OBJECT_NAME}. The maps are keyed by {@link Severity} name.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * @return The logging calls per severity, over all loggers.
+     */
+    Map<String, Long> getCalls();
+
+    /**
+     * @return The enabled events per severity, over all loggers.
+     */
+    Map<String, Long> getEnabled();
+
+    /**
+     * @return The suppressed events per severity, over all loggers.
+     */
+    Map<String, Long> getSuppressed();
+
+    /**
+     * @return The events dropped by the ring buffer per severity, over all
+     *         loggers.
+     */
+    Map<String, Long> getDropped();
+
+    /**
+     * @return The bytes formatted for appenders per severity, over all
+     *         loggers.
+     */
+    Map<String, Long> getBytes();
+
+    /**
+     * @return The nanoseconds spent in appenders per severity, over all
+     *         loggers.
+     */
+    Map<String, Long> getAppenderNanos();
+
+    /**
+     * @return The names of the loggers with metrics.
+     */
+    Set<String> getLoggerNames();
+
+    /**
+     * Returns the counters of one logger, keyed by {@code SEVERITY.METRIC},
+     * for example {@code NOTICE.CALLS}.
+     *
+     * @param loggerName The logger name.
+     * @return The counters, empty if the logger has none.
+     */
+    Map<String, Long> getLoggerMetrics(String loggerName);
+}
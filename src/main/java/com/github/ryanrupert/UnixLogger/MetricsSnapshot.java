@@ -0,0 +1,88 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable copy of the {@link Metrics} counters, taken by
+ * {@link Metrics#snapshot()}.
+ */
+public final class MetricsSnapshot {
+    private static final int METRICS = Metric.values().length;
+
+    private final long timeMillis;
+    private final Map<String, long[]> values;
+    private final long[] totals;
+
+    MetricsSnapshot(final long timeMillis, final Map<String, long[]> values) {
+        this.timeMillis = timeMillis;
+        this.values = values;
+        this.totals = new long[Severity.values().length * METRICS];
+        for (final long[] counts : values.values()) {
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += counts[i];
+            }
+        }
+    }
+
+    /**
+     * Returns when the snapshot was taken.
+     *
+     * @return The time in milliseconds since the epoch.
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * Returns the names of the loggers with metrics.
+     *
+     * @return The logger names.
+     */
+    public Set<String> getLoggerNames() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Returns one counter of one logger.
+     *
+     * @param loggerName The logger name.
+     * @param severity The severity.
+     * @param metric The counter.
+     * @return The value, 0 if the logger has no metrics.
+     */
+    public long get(final String loggerName, final Severity severity, final Metric metric) {
+        final long[] counts = values.get(loggerName);
+        return counts == null ? 0 : counts[index(severity, metric)];
+    }
+
+    /**
+     * Returns one counter summed over all loggers.
+     *
+     * @param severity The severity.
+     * @param metric The counter.
+     * @return The total.
+     */
+    public long getTotal(final Severity severity, final Metric metric) {
+        return totals[index(severity, metric)];
+    }
+
+    /**
+     * Returns one counter summed over all loggers and severities.
+     *
+     * @param metric The counter.
+     * @return The total.
+     */
+    public long getTotal(final Metric metric) {
+        long total = 0;
+        for (final Severity severity : Severity.values()) {
+            total += totals[index(severity, metric)];
+        }
+        return total;
+    }
+
+    static int index(final Severity severity, final Metric metric) {
+        return severity.code() * METRICS + metric.ordinal();
+    }
+}
@@ -0,0 +1,326 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Locale;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.net.Protocol;
+
+/**
+ * Sends events to a syslog server over TCP, using the octet-counting framing
+ * of RFC5425, or over UDP with one message per datagram as in RFC5426.
+ *
+ * <p>The calling thread only encodes the event and copies it into a staging
+ * buffer. A background thread writes everything staged since its last write
+ * with a single channel write (TCP) or a burst of datagram sends (UDP), and
+ * reconnects on its own when the server goes away. See
+ * {@link BatchingChannelWriter}.</p>
+ *
+ * <pre>
+ * &lt;NioSyslog name="syslog" host="localhost" port="6514" protocol="TCP"&gt;
+ *     &lt;UnixRfc5424Layout appName="myapp"/&gt;
+ * &lt;/NioSyslog&gt;
+ * </pre>
+ */
+@Plugin(name = "NioSyslog", category = "Core", elementType = "appender", printObject = true)
+public final class NioSyslogAppender extends AbstractAppender {
+    private static final long serialVersionUID = 5032178914403215896L;
+    private static final int MAX_DATAGRAM_SIZE = 65507;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private final transient BatchingChannelWriter writer;
+
+    private NioSyslogAppender(final String name, final Filter filter, final Layout<? extends Serializable> layout,
+            final boolean ignoreExceptions, final BatchingChannelWriter writer) {
+        super(name, filter, layout, ignoreExceptions);
+        this.writer = writer;
+    }
+
+    /**
+     * Creates a NioSyslogAppender.
+     *
+     * @param name The name of the Appender.
+     * @param host The syslog server host.
+     * @param port The syslog server port.
+     * @param protocol {@code TCP} or {@code UDP}.
+     * @param bufferSize The size of each staging buffer in bytes. Events are
+     *            dropped while a full buffer waits to be written.
+     * @param reconnectDelayMillis Delay between connection attempts.
+     * @param ignoreExceptions If {@code "true"} (default) exceptions encountered
+     *            when appending events are logged; otherwise they are
+     *            propagated to the caller.
+     * @param layout The layout, an {@link UnixRfc5424Layout} by default.
+     * @param filter The Filter or null.
+     * @return The NioSyslogAppender.
+     */
+    @PluginFactory
+    public static NioSyslogAppender createAppender(
+            @PluginAttribute("name") final String name,
+            @PluginAttribute(value = "host", defaultString = "localhost") final String host,
+            @PluginAttribute(value = "port", defaultInt = 514) final int port,
+            @PluginAttribute(value = "protocol", defaultString = "TCP") final String protocol,
+            @PluginAttribute(value = "bufferSize", defaultInt = 256 * 1024) final int bufferSize,
+            @PluginAttribute(value = "reconnectDelayMillis", defaultLong = 1000) final long reconnectDelayMillis,
+            @PluginAttribute(value = "ignoreExceptions", defaultBoolean = true) final boolean ignoreExceptions,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") final Filter filter) {
+        if (name == null) {
+            LOGGER.error("No name provided for NioSyslogAppender");
+            return null;
+        }
+        final Protocol transport;
+        try {
+            transport = Protocol.valueOf(protocol.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            LOGGER.error("Invalid protocol {} for NioSyslogAppender {}", protocol, name);
+            return null;
+        }
+        if (layout == null) {
+            layout = UnixRfc5424Layout.createLayout(null, null, null, null, null, null, 18060, false, true);
+        }
+        final String threadName = "NioSyslog-" + name;
+        final BatchingChannelWriter writer;
+        switch (transport) {
+        case TCP:
+            writer = new TcpWriter(threadName, host, port, bufferSize, reconnectDelayMillis);
+            break;
+        case UDP:
+            writer = new UdpWriter(threadName, host, port, bufferSize, reconnectDelayMillis);
+            break;
+        default:
+            LOGGER.error("Protocol {} is not supported by NioSyslogAppender {}", protocol, name);
+            return null;
+        }
+        return new NioSyslogAppender(name, filter, layout, ignoreExceptions, writer);
+    }
+
+    @Override
+    public void start() {
+        writer.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        writer.stop(STOP_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        writer.offer(UnixRfc5424Layout.toByteBuffer(getLayout(), event));
+    }
+
+    /**
+     * Starts writing the events of a {@link LogBatch}: they are staged under
+     * a single acquisition of the writer's lock.
+     */
+    void beginBatch() {
+        writer.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by {@link #beginBatch()}.
+     */
+    void endBatch() {
+        writer.endBatch();
+    }
+
+    /**
+     * Returns the number of events dropped because the staging buffer was
+     * full, for example while the server was unreachable, or because the
+     * server could not be reached when the appender stopped.
+     *
+     * @return The dropped count.
+     */
+    public long getDroppedCount() {
+        return writer.getDroppedCount();
+    }
+
+    /**
+     * Frames each message as {@code MSG-LEN SP SYSLOG-MSG} and writes whole
+     * batches to a TCP connection.
+     */
+    private static final class TcpWriter extends BatchingChannelWriter {
+        private final String host;
+        private final int port;
+        private SocketChannel channel;
+
+        TcpWriter(final String name, final String host, final int port, final int bufferSize,
+                final long reconnectDelayMillis) {
+            super(name, bufferSize, reconnectDelayMillis);
+            this.host = host;
+            this.port = port;
+        }
+
+        @Override
+        protected int frameOverhead(final int length) {
+            return digits(length) + 1;
+        }
+
+        @Override
+        protected void putFrame(final ByteBuffer staging, final ByteBuffer message) {
+            final int length = message.remaining();
+            for (int divisor = pow10(digits(length) - 1); divisor > 0; divisor /= 10) {
+                staging.put((byte) ('0' + length / divisor % 10));
+            }
+            staging.put((byte) ' ');
+            staging.put(message);
+        }
+
+        @Override
+        protected void open() throws IOException {
+            final SocketChannel result = SocketChannel.open(new InetSocketAddress(host, port));
+            result.setOption(StandardSocketOptions.TCP_NODELAY, Boolean.TRUE);
+            channel = result;
+        }
+
+        @Override
+        protected boolean isOpen() {
+            return channel != null && channel.isOpen();
+        }
+
+        @Override
+        protected void writeBatch(final ByteBuffer batch) throws IOException {
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+        }
+
+        @Override
+        protected void closeChannel() {
+            closeQuietly(channel);
+            channel = null;
+        }
+
+        private static int digits(final int value) {
+            int digits = 1;
+            for (int rest = value / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            return digits;
+        }
+
+        private static int pow10(final int exponent) {
+            int result = 1;
+            for (int i = 0; i < exponent; i++) {
+                result *= 10;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Stages each message behind a four byte length and sends it as its own
+     * datagram. Messages longer than a datagram can carry are truncated. After
+     * a failed send, such as the {@code PortUnreachableException} reported
+     * while nothing listens on the port, only the datagrams not yet sent are
+     * sent again.
+     */
+    private static final class UdpWriter extends BatchingChannelWriter {
+        private final String host;
+        private final int port;
+        private DatagramChannel channel;
+        // Where the last call to writeBatch started in the batch.
+        private int writeStart;
+
+        UdpWriter(final String name, final String host, final int port, final int bufferSize,
+                final long reconnectDelayMillis) {
+            super(name, bufferSize, reconnectDelayMillis);
+            this.host = host;
+            this.port = port;
+        }
+
+        @Override
+        protected int frameOverhead(final int length) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        protected void putFrame(final ByteBuffer staging, final ByteBuffer message) {
+            final int length = Math.min(message.remaining(), MAX_DATAGRAM_SIZE);
+            staging.putInt(length);
+            final int limit = message.limit();
+            message.limit(message.position() + length);
+            staging.put(message);
+            message.limit(limit);
+        }
+
+        @Override
+        protected void open() throws IOException {
+            final DatagramChannel result = DatagramChannel.open();
+            try {
+                result.connect(new InetSocketAddress(host, port));
+            } catch (final IOException | RuntimeException ex) {
+                closeQuietly(result);
+                throw ex;
+            }
+            channel = result;
+        }
+
+        @Override
+        protected boolean isOpen() {
+            return channel != null && channel.isOpen();
+        }
+
+        @Override
+        protected void writeBatch(final ByteBuffer batch) throws IOException {
+            final int end = batch.limit();
+            int frame = batch.position();
+            writeStart = frame;
+            try {
+                while (frame < end) {
+                    final int length = batch.getInt();
+                    batch.limit(batch.position() + length);
+                    channel.write(batch);
+                    frame = batch.limit();
+                    batch.limit(end);
+                    batch.position(frame);
+                }
+            } finally {
+                // On failure, left at the start of the datagram that was not sent.
+                batch.limit(end);
+                batch.position(frame);
+            }
+        }
+
+        @Override
+        protected int rewindForRetry(final ByteBuffer batch) {
+            final int sent = batch.position();
+            int count = 0;
+            for (int frame = writeStart; frame < sent; frame += Integer.BYTES + batch.getInt(frame)) {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        protected void closeChannel() {
+            closeQuietly(channel);
+            channel = null;
+        }
+    }
+
+    private static void closeQuietly(final Channel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException ex) {
+                LOGGER.debug("Unable to close channel", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.ryanrupert.UnixLogger;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+/**
+ * A parameterized message with a single primitive parameter, created by the
+ * {@link Logger} methods that take a {@code long}, {@code double} or
+ * {@code char} so that the value is not boxed.
+ *
+ * <p>It formats like {@link ParameterizedMessage}: the first {@code {}} not
+ * escaped by a backslash is replaced by the value, appended to a per-thread
+ * StringBuilder without creating a wrapper object.</p>
+ */
+public final class PrimitiveMessage implements Message {
+    static final byte LONG = 0;
+    static final byte DOUBLE = 1;
+    static final byte CHAR = 2;
+
+    private static final long serialVersionUID = 2395418817473952306L;
+    private static final ThreadLocal<StringBuilder> BUILDERS = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder();
+        }
+    };
+
+    private final String format;
+    private final byte type;
+    private final long bits;
+    private transient String formatted;
+
+    /**
+     * Creates a message.
+     *
+     * @param format The message pattern.
+     * @param type The type of the parameter.
+     * @param bits The parameter, as a long, the raw bits of a double or a
+     *            char.
+     */
+    PrimitiveMessage(final String format, final byte type, final long bits) {
+        this.format = format;
+        this.type = type;
+        this.bits = bits;
+    }
+
+    /**
+     * Returns the parameter, boxed, for message factories that only take
+     * objects.
+     */
+    static Object box(final byte type, final long bits) {
+        switch (type) {
+        case DOUBLE:
+            return Double.longBitsToDouble(bits);
+        case CHAR:
+            return (char) bits;
+        default:
+            return bits;
+        }
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        if (formatted == null) {
+            final StringBuilder sb = BUILDERS.get();
+            sb.setLength(0);
+            formatTo(sb);
+            formatted = sb.toString();
+        }
+        return formatted;
+    }
+
+    /**
+     * Appends the formatted message, following the escaping rules of
+     * {@link ParameterizedMessage#format(String, Object[])}.
+     *
+     * @param sb The StringBuilder to append to.
+     */
+    public void formatTo(final StringBuilder sb) {
+        formatTo(sb, format, type, bits);
+    }
+
+    /**
+     * Appends a pattern formatted with a single primitive parameter.
+     */
+    static void formatTo(final StringBuilder sb, final String format, final byte type, final long bits) {
+        if (format == null) {
+            sb.append((String) null);
+            return;
+        }
+        boolean used = false;
+        int escapes = 0;
+        final int length = format.length();
+        for (int i = 0; i < length; i++) {
+            final char c = format.charAt(i);
+            if (c == '\\') {
+                escapes++;
+                continue;
+            }
+            if (c == '{' && i + 1 < length && format.charAt(i + 1) == '}') {
+                for (int j = 0; j < escapes / 2; j++) {
+                    sb.append('\\');
+                }
+                if (escapes % 2 == 1 || used) {
+                    sb.append("{}");
+                } else {
+                    appendValue(sb, type, bits);
+                    used = true;
+                }
+                escapes = 0;
+                i++;
+                continue;
+            }
+            for (; escapes > 0; escapes--) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+    }
+
+    private static void appendValue(final StringBuilder sb, final byte type, final long bits) {
+        switch (type) {
+        case DOUBLE:
+            sb.append(Double.longBitsToDouble(bits));
+            break;
+        case CHAR:
+            sb.append((char) bits);
+            break;
+        default:
+            sb.append(bits);
+            break;
+        }
+    }
+
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[] {box(type, bits)};
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+}
@@ -0,0 +1,222 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Limits how many enabled events of each {@link Severity} a Logger passes on
+ * to Log4j, so that a burst of low severity events cannot saturate the
+ * appenders while more severe events are waiting.
+ *
+ * <p>Two kinds of rules can be set per severity, either for every logger or
+ * for a logger name and its descendants, in the same way as the other
+ * {@code UnixLogger.*} properties:</p>
+ * <ul>
+ * <li>{@code UnixLogger.RateLimit.<SEVERITY>[.<logger name>]=<rate>[/<burst>]}
+ * - a token bucket refilled with {@code rate} events per second and holding
+ * at most {@code burst} (by default {@code rate}) events.</li>
+ * <li>{@code UnixLogger.Sampling.<SEVERITY>[.<logger name>]=<n>} - only pass
+ * one in every {@code n} events.</li>
+ * </ul>
+ *
+ * <p>For each severity a logger uses the rule with the longest matching
+ * logger name. Each rule has a single bucket or counter, shared by all the
+ * loggers it applies to, so a rule set for {@code com.example} limits the
+ * whole {@code com.example} hierarchy together. Sampling is applied before
+ * the rate limit. Both are lock-free: the bucket is a single atomic
+ * timestamp updated with a CAS, in the manner of the generic cell rate
+ * algorithm. Suppressed events are counted per severity. Properties are read
+ * when the Logger is created.</p>
+ */
+final class RateLimiter {
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+    private static final String RATE_LIMIT_PREFIX = "UnixLogger.RateLimit.";
+    private static final String SAMPLING_PREFIX = "UnixLogger.Sampling.";
+    private static final Severity[] SEVERITIES = Severity.values();
+    private static final ConcurrentMap<String, TokenBucket> BUCKETS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Sampler> SAMPLERS = new ConcurrentHashMap<>();
+    private static final LongAdder[] SUPPRESSED = new LongAdder[SEVERITIES.length];
+
+    static {
+        for (int i = 0; i < SUPPRESSED.length; i++) {
+            SUPPRESSED[i] = new LongAdder();
+        }
+    }
+
+    private final TokenBucket[] buckets;
+    private final Sampler[] samplers;
+
+    private RateLimiter(final TokenBucket[] buckets, final Sampler[] samplers) {
+        this.buckets = buckets;
+        this.samplers = samplers;
+    }
+
+    /**
+     * Returns the limiter for a logger name.
+     *
+     * @param loggerName The logger name.
+     * @return The limiter, or {@code null} if no rule applies to the logger.
+     */
+    static RateLimiter forLogger(final String loggerName) {
+        final PropertiesUtil props = PropertiesUtil.getProperties();
+        final TokenBucket[] buckets = new TokenBucket[SEVERITIES.length];
+        final Sampler[] samplers = new Sampler[SEVERITIES.length];
+        boolean limited = false;
+        for (final Severity severity : SEVERITIES) {
+            final String rateKey = mostSpecificKey(props, RATE_LIMIT_PREFIX + severity.name(), loggerName);
+            if (rateKey != null) {
+                buckets[severity.code()] = bucket(rateKey, props.getStringProperty(rateKey));
+                limited |= buckets[severity.code()] != null;
+            }
+            final String samplingKey = mostSpecificKey(props, SAMPLING_PREFIX + severity.name(), loggerName);
+            if (samplingKey != null) {
+                samplers[severity.code()] = sampler(samplingKey, props.getStringProperty(samplingKey));
+                limited |= samplers[severity.code()] != null;
+            }
+        }
+        return limited ? new RateLimiter(buckets, samplers) : null;
+    }
+
+    /**
+     * Returns how many events of a severity have been suppressed by any
+     * limiter so far.
+     *
+     * @param severity The severity.
+     * @return The suppressed count.
+     */
+    static long suppressedCount(final Severity severity) {
+        return SUPPRESSED[severity.code()].sum();
+    }
+
+    /**
+     * Decides whether an enabled event may be logged, counting it as
+     * suppressed if not.
+     *
+     * @param level The event level.
+     * @return {@code true} if the event should be logged.
+     */
+    boolean tryAcquire(final Level level) {
+        final int code = Severity.of(level).code();
+        final Sampler sampler = samplers[code];
+        final TokenBucket bucket = buckets[code];
+        if ((sampler == null || sampler.sample()) && (bucket == null || bucket.tryAcquire())) {
+            return true;
+        }
+        SUPPRESSED[code].increment();
+        return false;
+    }
+
+    /**
+     * Returns the property for the logger or its closest configured ancestor,
+     * falling back to the property without a logger name.
+     */
+    private static String mostSpecificKey(final PropertiesUtil props, final String base, final String loggerName) {
+        String name = loggerName == null ? "" : loggerName;
+        while (!name.isEmpty()) {
+            final String key = base + '.' + name;
+            if (props.getStringProperty(key) != null) {
+                return key;
+            }
+            final int dot = name.lastIndexOf('.');
+            name = dot < 0 ? "" : name.substring(0, dot);
+        }
+        return props.getStringProperty(base) != null ? base : null;
+    }
+
+    private static TokenBucket bucket(final String key, final String value) {
+        final TokenBucket existing = BUCKETS.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final int slash = value.indexOf('/');
+        final double rate;
+        final double burst;
+        try {
+            rate = Double.parseDouble(value.substring(0, slash < 0 ? value.length() : slash).trim());
+            burst = slash < 0 ? Math.max(1.0, rate) : Double.parseDouble(value.substring(slash + 1).trim());
+        } catch (final NumberFormatException ex) {
+            LOGGER.warn("Invalid {} {}, expected <rate>[/<burst>], ignoring it", key, value);
+            return null;
+        }
+        if (!(rate > 0) || !(burst >= 1)) {
+            LOGGER.warn("Invalid {} {}, rate must be positive and burst at least 1, ignoring it", key, value);
+            return null;
+        }
+        final TokenBucket created = new TokenBucket(rate, burst);
+        final TokenBucket raced = BUCKETS.putIfAbsent(key, created);
+        return raced != null ? raced : created;
+    }
+
+    private static Sampler sampler(final String key, final String value) {
+        final Sampler existing = SAMPLERS.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final int rate;
+        try {
+            rate = Integer.parseInt(value.trim());
+        } catch (final NumberFormatException ex) {
+            LOGGER.warn("Invalid {} {}, expected an integer, ignoring it", key, value);
+            return null;
+        }
+        if (rate <= 1) {
+            return null;
+        }
+        final Sampler created = new Sampler(rate);
+        final Sampler raced = SAMPLERS.putIfAbsent(key, created);
+        return raced != null ? raced : created;
+    }
+
+    /**
+     * A token bucket kept as the theoretical arrival time of the next event:
+     * an event is admitted if that time is no more than the burst tolerance
+     * ahead of now, and then moves it one emission interval further.
+     */
+    private static final class TokenBucket {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong nextArrival;
+
+        TokenBucket(final double rate, final double burst) {
+            this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+            this.toleranceNanos = (long) (intervalNanos * (burst - 1));
+            this.nextArrival = new AtomicLong(System.nanoTime());
+        }
+
+        boolean tryAcquire() {
+            final long now = System.nanoTime();
+            for (;;) {
+                final long arrival = nextArrival.get();
+                final long start = arrival - now > 0 ? arrival : now;
+                if (start - now > toleranceNanos) {
+                    return false;
+                }
+                if (nextArrival.compareAndSet(arrival, start + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the first of every {@code rate} events.
+     */
+    private static final class Sampler {
+        private final int rate;
+        private final AtomicLong count = new AtomicLong();
+
+        Sampler(final int rate) {
+            this.rate = rate;
+        }
+
+        boolean sample() {
+            return count.getAndIncrement() % rate == 0;
+        }
+    }
+}
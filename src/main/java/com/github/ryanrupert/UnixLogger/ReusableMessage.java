@@ -0,0 +1,317 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Arrays;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * A mutable message reused by each thread when the
+ * {@code UnixLogger.GarbageFree} property is {@code true}.
+ *
+ * <p>Instead of a new {@link ParameterizedMessage} or {@link SimpleMessage}
+ * per event, the Logger fills in this thread's message, logs it and clears
+ * it again. The message is formatted into a StringBuilder of its own before
+ * the appenders run and is only valid during the logging call: layouts that
+ * know it, such as {@link SharedPatternLayout}, copy the text with
+ * {@link #formatTo(StringBuilder)} or read it as a {@link CharSequence}
+ * without creating a String, while {@link #getFormattedMessage()} still
+ * works for everything else. It formats like the message it replaces, and
+ * common parameter types are appended without calling {@code toString}.</p>
+ *
+ * <p>Anything that keeps the message after the call returns would see it
+ * change, so asynchronous Loggers never reuse it and the property is ignored
+ * when the {@code AsyncLoggerContextSelector} is used. Do not enable it with
+ * Log4j's {@code AsyncLogger} or {@code AsyncAppender} elements either.
+ * Serializing the message writes an immutable copy.</p>
+ */
+public final class ReusableMessage implements Message, CharSequence {
+    /** Whether Loggers reuse messages. */
+    static final boolean ENABLED = isConfigured();
+
+    private static final long serialVersionUID = -1204781394508561732L;
+    private static final int INITIAL_PARAMETERS = 10;
+    // Larger buffers are dropped after the event rather than kept by the thread.
+    private static final int MAX_KEPT_CAPACITY = 4096;
+    private static final ThreadLocal<ReusableMessage> MESSAGES = new ThreadLocal<ReusableMessage>() {
+        @Override
+        protected ReusableMessage initialValue() {
+            return new ReusableMessage();
+        }
+    };
+
+    private transient String format;
+    private transient Object[] params = new Object[INITIAL_PARAMETERS];
+    private transient int count;
+    private transient byte primitiveType = -1;
+    private transient long primitiveBits;
+    private transient Throwable thrown;
+    private transient boolean thrownKnown;
+    private transient StringBuilder text = new StringBuilder();
+    private transient boolean formatted;
+    private transient String string;
+    private transient boolean inUse;
+
+    private ReusableMessage() {
+    }
+
+    private static boolean isConfigured() {
+        final PropertiesUtil props = PropertiesUtil.getProperties();
+        if (!props.getBooleanProperty("UnixLogger.GarbageFree")) {
+            return false;
+        }
+        final String selector = props.getStringProperty("Log4jContextSelector");
+        if (selector != null && selector.endsWith("AsyncLoggerContextSelector")) {
+            StatusLogger.getLogger().warn("UnixLogger.GarbageFree is ignored with asynchronous Loggers");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns this thread's message, or a new one if the thread's message is
+     * still in use, when a parameter's {@code toString} logs for example.
+     * The caller fills it in, logs it, then calls {@link #release()}.
+     */
+    static ReusableMessage acquire() {
+        final ReusableMessage message = MESSAGES.get();
+        if (message.inUse) {
+            return new ReusableMessage();
+        }
+        message.inUse = true;
+        return message;
+    }
+
+    /**
+     * Sets the pattern and returns the array to copy the parameters to.
+     *
+     * @param format The message pattern.
+     * @param count The number of parameters.
+     * @return The parameter array, of at least {@code count} elements.
+     */
+    Object[] parameters(final String format, final int count) {
+        if (count > params.length) {
+            params = new Object[count];
+        }
+        this.format = format;
+        this.count = count;
+        return params;
+    }
+
+    /**
+     * Sets the pattern and copies the parameters.
+     *
+     * @param format The message pattern.
+     * @param parameters The parameters, possibly {@code null}.
+     */
+    void setParameters(final String format, final Object[] parameters) {
+        final int length = parameters == null ? 0 : parameters.length;
+        System.arraycopy(parameters == null ? params : parameters, 0, parameters(format, length), 0, length);
+    }
+
+    /**
+     * Sets a text without parameters, formatted like a {@link SimpleMessage}.
+     *
+     * @param message The text.
+     */
+    void setText(final String message) {
+        parameters(message, 0);
+    }
+
+    /**
+     * Sets the pattern and its single primitive parameter, formatted like a
+     * {@link PrimitiveMessage}.
+     */
+    void setPrimitive(final String format, final byte type, final long bits) {
+        parameters(format, 0);
+        this.primitiveType = type;
+        this.primitiveBits = bits;
+    }
+
+    /**
+     * Clears the message after the event was logged and makes it available
+     * to the next event of the thread.
+     */
+    void release() {
+        Arrays.fill(params, 0, count, null);
+        format = null;
+        count = 0;
+        primitiveType = -1;
+        thrown = null;
+        thrownKnown = false;
+        formatted = false;
+        string = null;
+        if (text.capacity() > MAX_KEPT_CAPACITY) {
+            text = new StringBuilder();
+        }
+        inUse = false;
+    }
+
+    /**
+     * Appends the formatted message.
+     *
+     * @param sb The StringBuilder to append to.
+     */
+    public void formatTo(final StringBuilder sb) {
+        if (formatted) {
+            sb.append(text);
+        } else if (primitiveType >= 0) {
+            PrimitiveMessage.formatTo(sb, format, primitiveType, primitiveBits);
+        } else if (count == 0 || format == null) {
+            sb.append(format);
+        } else {
+            formatParameters(sb);
+        }
+    }
+
+    /**
+     * Follows {@link ParameterizedMessage#format(String, Object[])}: each
+     * {@code {}} not escaped by a backslash takes the next parameter, and
+     * those without one are kept.
+     */
+    private void formatParameters(final StringBuilder sb) {
+        int next = 0;
+        int escapes = 0;
+        final int length = format.length();
+        for (int i = 0; i < length; i++) {
+            final char c = format.charAt(i);
+            if (c == '\\') {
+                escapes++;
+                continue;
+            }
+            if (c == '{' && i + 1 < length && format.charAt(i + 1) == '}') {
+                for (int j = 0; j < escapes / 2; j++) {
+                    sb.append('\\');
+                }
+                if (escapes % 2 == 1 || next >= count) {
+                    sb.append("{}");
+                } else {
+                    appendParameter(sb, params[next]);
+                }
+                if (escapes % 2 == 0) {
+                    next++;
+                }
+                escapes = 0;
+                i++;
+                continue;
+            }
+            for (; escapes > 0; escapes--) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+    }
+
+    private static void appendParameter(final StringBuilder sb, final Object param) {
+        if (param instanceof String) {
+            sb.append((String) param);
+        } else if (param instanceof Integer || param instanceof Long || param instanceof Short
+                || param instanceof Byte) {
+            sb.append(((Number) param).longValue());
+        } else if (param instanceof Double) {
+            sb.append(((Double) param).doubleValue());
+        } else if (param instanceof Float) {
+            sb.append(((Float) param).floatValue());
+        } else if (param instanceof Boolean) {
+            sb.append(((Boolean) param).booleanValue());
+        } else if (param instanceof Character) {
+            sb.append(((Character) param).charValue());
+        } else {
+            // Arrays, maps, dates and failing toString methods are formatted by Log4j.
+            sb.append(ParameterizedMessage.deepToString(param));
+        }
+    }
+
+    /**
+     * Formats the message into its own StringBuilder if it was not yet. The
+     * Logger calls it before handing the event to the appenders, since
+     * {@link ParameterizedMessage} also turns parameters into Strings when it
+     * is created, so a {@code toString} that logs does not run in the middle
+     * of an appender.
+     */
+    void ensureFormatted() {
+        if (!formatted) {
+            text.setLength(0);
+            formatTo(text);
+            formatted = true;
+        }
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        if (string == null) {
+            if (count == 0 && primitiveType < 0) {
+                return format;
+            }
+            ensureFormatted();
+            string = text.toString();
+        }
+        return string;
+    }
+
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        if (primitiveType >= 0) {
+            return new Object[] {PrimitiveMessage.box(primitiveType, primitiveBits)};
+        }
+        return count == 0 ? null : Arrays.copyOf(params, count);
+    }
+
+    /**
+     * Returns the last parameter if it is a Throwable without a matching
+     * {@code {}}, as {@link ParameterizedMessage} does.
+     */
+    @Override
+    public Throwable getThrowable() {
+        if (!thrownKnown) {
+            if (count > 0 && params[count - 1] instanceof Throwable
+                    && ParameterizedMessage.countArgumentPlaceholders(format) < count) {
+                thrown = (Throwable) params[count - 1];
+            }
+            thrownKnown = true;
+        }
+        return thrown;
+    }
+
+    @Override
+    public int length() {
+        ensureFormatted();
+        return text.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        ensureFormatted();
+        return text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        ensureFormatted();
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        final String result = getFormattedMessage();
+        return result == null ? "null" : result;
+    }
+
+    /**
+     * Replaces the message by an immutable copy, since it changes once the
+     * event is logged.
+     */
+    private Object writeReplace() {
+        if (count == 0 && primitiveType < 0) {
+            return new SimpleMessage(format);
+        }
+        return new ParameterizedMessage(format, getParameters(), getThrowable());
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.ryanrupert.UnixLogger;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * The eight RFC5424 severities, most severe first, with the Log4j level the
+ * custom {@link Logger} uses for each.
+ *
+ * <p>{@link #of(Level)} also maps the standard Log4j levels by their
+ * {@code intLevel}, so that events from plain Log4j Loggers fall into the
+ * nearest severity.</p>
+ */
+public enum Severity {
+    EMERG(Level.forName("EMERG", 50)),
+    ALERT(Level.forName("ALERT", 100)),
+    CRIT(Level.forName("CRIT", 150)),
+    ERROR(Level.forName("ERROR", 200)),
+    WARNING(Level.forName("WARNING", 250)),
+    NOTICE(Level.forName("NOTICE", 300)),
+    INFO(Level.forName("INFO", 350)),
+    DEBUG(Level.forName("DEBUG", 400));
+
+    private static final Severity[] VALUES = values();
+
+    private final Level level;
+
+    Severity(final Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Returns the RFC5424 numerical code of this severity, 0 for
+     * {@code EMERG} through 7 for {@code DEBUG}.
+     *
+     * @return The severity code.
+     */
+    public int code() {
+        return ordinal();
+    }
+
+    /**
+     * Returns the Log4j level used for this severity.
+     *
+     * @return The Level.
+     */
+    public Level level() {
+        return level;
+    }
+
+    /**
+     * Returns the severity with the given RFC5424 code.
+     *
+     * @param code The severity code, 0 to 7.
+     * @return The Severity.
+     * @throws IllegalArgumentException if the code is out of range.
+     */
+    public static Severity forCode(final int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Invalid RFC5424 severity " + code);
+        }
+        return VALUES[code];
+    }
+
+    /**
+     * Returns the severity of a Log4j level. Levels between two of the
+     * custom levels map to the less severe of the two.
+     *
+     * @param level The Log4j level.
+     * @return The matching Severity, {@code DEBUG} for anything less severe
+     *         than {@code INFO}.
+     */
+    public static Severity of(final Level level) {
+        final int intLevel = level.intLevel();
+        for (final Severity severity : VALUES) {
+            if (intLevel <= severity.level.intLevel()) {
+                return severity;
+            }
+        }
+        return DEBUG;
+    }
+}
@@ -0,0 +1,354 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.AbstractStringLayout;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.core.pattern.MessagePatternConverter;
+import org.apache.logging.log4j.core.pattern.PatternFormatter;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * A {@link PatternLayout} that formats each event only once for all the
+ * appenders using the same pattern.
+ *
+ * <p>A logger configuration calls its appenders one after the other on the
+ * same thread with the same event. The first SharedPatternLayout to see the
+ * event formats it and keeps the result in a per-thread cache; every other
+ * SharedPatternLayout with the same pattern, charset and exception setting
+ * returns the cached String and byte array instead of formatting again. The
+ * cache only ever holds the current event, so the cost of an event no longer
+ * grows with the number of appenders it is written to. Filters and the
+ * {@code level} of each {@code AppenderRef} are applied as usual, since they
+ * run before the layout.</p>
+ *
+ * <p>The cached byte array is shared between appenders and must not be
+ * modified. Pattern converters that change on every call, such as
+ * {@code %sn}, now produce one value per event rather than one per
+ * appender.</p>
+ *
+ * <p>The event is formatted into a StringBuilder kept by the thread, and
+ * appenders that take a buffer, such as {@link MappedFileAppender}, get it
+ * encoded into a reusable {@link ByteBuffer} with {@link #encode(LogEvent)}.
+ * A {@link ReusableMessage} or {@link PrimitiveMessage} is written straight
+ * into the StringBuilder instead of being turned into a String first.</p>
+ *
+ * <pre>
+ * &lt;File name="combined" fileName="logs/combined.log"&gt;
+ *     &lt;SharedPatternLayout pattern="%d %-7level %logger{36} - %msg%n"/&gt;
+ * &lt;/File&gt;
+ * </pre>
+ */
+@Plugin(name = "SharedPatternLayout", category = "Core", elementType = "layout", printObject = true)
+public final class SharedPatternLayout extends AbstractStringLayout {
+    private static final long serialVersionUID = -3894623710356012472L;
+    private static final ConcurrentMap<String, String> KEYS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<FormatCache> CACHES = new ThreadLocal<FormatCache>() {
+        @Override
+        protected FormatCache initialValue() {
+            return new FormatCache();
+        }
+    };
+
+    private final PatternLayout delegate;
+    private final PatternFormatter[] formatters;
+    // Whether each formatter writes the message.
+    private final boolean[] messageFormatters;
+    // Canonical instance, so layouts that format alike can be matched by identity.
+    private final String key;
+
+    private SharedPatternLayout(final PatternLayout delegate, final Configuration config, final Charset charset,
+            final boolean alwaysWriteExceptions) {
+        super(charset);
+        this.delegate = delegate;
+        final List<PatternFormatter> list = PatternLayout.createPatternParser(config)
+                .parse(delegate.getConversionPattern(), alwaysWriteExceptions, false);
+        this.formatters = list.toArray(new PatternFormatter[list.size()]);
+        this.messageFormatters = new boolean[formatters.length];
+        for (int i = 0; i < formatters.length; i++) {
+            messageFormatters[i] = formatters[i].getConverter() instanceof MessagePatternConverter;
+        }
+        final String key = charset.name() + '\0' + alwaysWriteExceptions + '\0' + delegate.getConversionPattern();
+        final String existing = KEYS.putIfAbsent(key, key);
+        this.key = existing != null ? existing : key;
+    }
+
+    /**
+     * Creates a SharedPatternLayout.
+     *
+     * @param pattern The pattern, {@code %m%n} by default.
+     * @param config The Configuration. Some Converters require access to the
+     *            Interpolator.
+     * @param charset The character set, UTF-8 by default.
+     * @param alwaysWriteExceptions Whether to append the exception when the
+     *            pattern does not contain one.
+     * @param header The header to write at the start of each file.
+     * @param footer The footer to write at the end of each file.
+     * @return The layout.
+     */
+    @PluginFactory
+    public static SharedPatternLayout createLayout(
+            @PluginAttribute(value = "pattern", defaultString = PatternLayout.DEFAULT_CONVERSION_PATTERN)
+            final String pattern,
+            @PluginConfiguration final Configuration config,
+            @PluginAttribute(value = "charset", defaultString = "UTF-8") final Charset charset,
+            @PluginAttribute(value = "alwaysWriteExceptions", defaultBoolean = true)
+            final boolean alwaysWriteExceptions,
+            @PluginAttribute("header") final String header,
+            @PluginAttribute("footer") final String footer) {
+        final PatternLayout delegate = PatternLayout.createLayout(pattern, config, null, charset,
+                alwaysWriteExceptions, false, header, footer);
+        return new SharedPatternLayout(delegate, config, charset, alwaysWriteExceptions);
+    }
+
+    /**
+     * Returns the conversion pattern.
+     *
+     * @return The pattern.
+     */
+    public String getConversionPattern() {
+        return delegate.getConversionPattern();
+    }
+
+    @Override
+    public String toSerializable(final LogEvent event) {
+        final FormatCache cache = CACHES.get();
+        final int index = cache.indexOf(event, key);
+        String text = cache.texts[index];
+        if (text == null) {
+            text = format(cache, index, event).toString();
+            cache.texts[index] = text;
+        }
+        return text;
+    }
+
+    @Override
+    public byte[] toByteArray(final LogEvent event) {
+        final FormatCache cache = CACHES.get();
+        final int index = cache.indexOf(event, key);
+        byte[] bytes = cache.bytes[index];
+        if (bytes == null) {
+            final ByteBuffer buffer = cache.encode(index, format(cache, index, event), getCharset());
+            bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            cache.bytes[index] = bytes;
+        }
+        Metrics.add(event.getLoggerName(), event.getLevel(), Metric.BYTES, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Encodes the event into a buffer reused by this thread, without creating
+     * a String or a byte array once the buffers have grown to fit.
+     *
+     * @param event The event to encode.
+     * @return The buffer, flipped and ready to read. It is shared with the
+     *         other appenders of the event and only valid until the next call
+     *         to a SharedPatternLayout on the same thread.
+     */
+    public ByteBuffer encode(final LogEvent event) {
+        final FormatCache cache = CACHES.get();
+        final int index = cache.indexOf(event, key);
+        final ByteBuffer buffer = cache.encode(index, format(cache, index, event), getCharset());
+        Metrics.add(event.getLoggerName(), event.getLevel(), Metric.BYTES, buffer.remaining());
+        return buffer;
+    }
+
+    /**
+     * Returns the formatted event, formatting it into the entry's reusable
+     * StringBuilder if no other layout did so.
+     */
+    private StringBuilder format(final FormatCache cache, final int index, final LogEvent event) {
+        if (cache.formatted[index]) {
+            return cache.builders[index];
+        }
+        final StringBuilder sb = cache.clearBuilder(index);
+        for (int i = 0; i < formatters.length; i++) {
+            if (!messageFormatters[i] || !formatMessage(event, sb, formatters[i])) {
+                formatters[i].format(event, sb);
+            }
+        }
+        cache.formatted[index] = true;
+        return sb;
+    }
+
+    /**
+     * Appends the messages that can format themselves without creating a
+     * String, as the message converter would.
+     *
+     * @return {@code false} if the converter has to format the message, also
+     *         when it contains a lookup to substitute.
+     */
+    private static boolean formatMessage(final LogEvent event, final StringBuilder sb,
+            final PatternFormatter formatter) {
+        final Message message = event.getMessage();
+        final int start = sb.length();
+        if (message instanceof ReusableMessage) {
+            ((ReusableMessage) message).formatTo(sb);
+        } else if (message instanceof PrimitiveMessage) {
+            ((PrimitiveMessage) message).formatTo(sb);
+        } else {
+            return false;
+        }
+        for (int i = start; i + 1 < sb.length(); i++) {
+            if (sb.charAt(i) == '$' && sb.charAt(i + 1) == '{') {
+                sb.setLength(start);
+                return false;
+            }
+        }
+        formatter.getFormattingInfo().format(start, sb);
+        return true;
+    }
+
+    @Override
+    public byte[] getHeader() {
+        return delegate.getHeader();
+    }
+
+    @Override
+    public byte[] getFooter() {
+        return delegate.getFooter();
+    }
+
+    @Override
+    public Map<String, String> getContentFormat() {
+        return delegate.getContentFormat();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.getConversionPattern();
+    }
+
+    /**
+     * The formatted forms of the event a thread is currently logging, one
+     * entry per distinct layout key. The StringBuilders and buffers of the
+     * entries are kept from one event to the next.
+     */
+    private static final class FormatCache {
+        private static final int INITIAL_CAPACITY = 4;
+        private static final int INITIAL_BUFFER_SIZE = 256;
+        // Larger buffers are replaced after the event rather than kept by the thread.
+        private static final int MAX_KEPT_CAPACITY = 16384;
+
+        private LogEvent event;
+        private Message message;
+        private long timeMillis;
+        private String[] keys = new String[INITIAL_CAPACITY];
+        private StringBuilder[] builders = new StringBuilder[INITIAL_CAPACITY];
+        private boolean[] formatted = new boolean[INITIAL_CAPACITY];
+        private String[] texts = new String[INITIAL_CAPACITY];
+        private byte[][] bytes = new byte[INITIAL_CAPACITY][];
+        private CharsetEncoder[] encoders = new CharsetEncoder[INITIAL_CAPACITY];
+        private ByteBuffer[] buffers = new ByteBuffer[INITIAL_CAPACITY];
+        private boolean[] encoded = new boolean[INITIAL_CAPACITY];
+        private char[] chars = new char[INITIAL_BUFFER_SIZE];
+        private CharBuffer charBuffer = CharBuffer.wrap(chars);
+        private int size;
+
+        /**
+         * Returns the entry for the key, first clearing the cache if it holds
+         * another event. Events that are reused for several log calls are
+         * told apart by their message and timestamp.
+         */
+        private int indexOf(final LogEvent current, final String key) {
+            if (current != event || current.getMessage() != message || current.getTimeMillis() != timeMillis) {
+                for (int i = 0; i < size; i++) {
+                    formatted[i] = false;
+                    texts[i] = null;
+                    bytes[i] = null;
+                    encoded[i] = false;
+                }
+                size = 0;
+                event = current;
+                message = current.getMessage();
+                timeMillis = current.getTimeMillis();
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            if (size == keys.length) {
+                final int capacity = size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                builders = Arrays.copyOf(builders, capacity);
+                formatted = Arrays.copyOf(formatted, capacity);
+                texts = Arrays.copyOf(texts, capacity);
+                bytes = Arrays.copyOf(bytes, capacity);
+                encoders = Arrays.copyOf(encoders, capacity);
+                buffers = Arrays.copyOf(buffers, capacity);
+                encoded = Arrays.copyOf(encoded, capacity);
+            }
+            keys[size] = key;
+            return size++;
+        }
+
+        /**
+         * Returns the entry's empty StringBuilder.
+         */
+        private StringBuilder clearBuilder(final int index) {
+            StringBuilder sb = builders[index];
+            if (sb == null || sb.capacity() > MAX_KEPT_CAPACITY) {
+                sb = new StringBuilder(INITIAL_BUFFER_SIZE);
+                builders[index] = sb;
+            }
+            sb.setLength(0);
+            return sb;
+        }
+
+        /**
+         * Returns the formatted text of the entry encoded in the entry's
+         * buffer, encoding it if needed. Malformed and unmappable characters
+         * are replaced, as {@link String#getBytes(Charset)} does.
+         */
+        private ByteBuffer encode(final int index, final StringBuilder text, final Charset charset) {
+            ByteBuffer buffer = buffers[index];
+            if (encoded[index]) {
+                buffer.rewind();
+                return buffer;
+            }
+            final int length = text.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+                charBuffer = CharBuffer.wrap(chars);
+            }
+            text.getChars(0, length, chars, 0);
+            charBuffer.clear();
+            charBuffer.limit(length);
+            CharsetEncoder encoder = encoders[index];
+            if (encoder == null || !encoder.charset().equals(charset)) {
+                encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+                encoders[index] = encoder;
+            }
+            final int capacity = (int) Math.ceil(length * (double) encoder.maxBytesPerChar());
+            if (buffer == null || buffer.capacity() < capacity
+                    || buffer.capacity() > MAX_KEPT_CAPACITY && capacity <= MAX_KEPT_CAPACITY) {
+                buffer = ByteBuffer.allocate(Math.max(capacity, INITIAL_BUFFER_SIZE));
+                buffers[index] = buffer;
+            }
+            buffer.clear();
+            encoder.reset();
+            encoder.encode(charBuffer, buffer, true);
+            encoder.flush(buffer);
+            buffer.flip();
+            encoded[index] = true;
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.message.TimestampMessage;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+
+/**
+ * Source locations computed at build time by the {@link LocationWeaver}.
+ *
+ * <p>The weaver turns every call to a {@link Logger} method into an
+ * {@code invokedynamic} instruction linked by {@link #bootstrap} the first
+ * time the call site runs. The call site calls the original method between
+ * {@link #enter(StackTraceElement)} and {@link #exit()}, with the location of
+ * the call as a constant; {@code exit} also runs when the call throws, as in
+ * a {@code finally} block. While the location is set, events logged by the
+ * thread carry it as their source, so Log4j never has to create a
+ * {@code Throwable} to find the caller for {@code %C}, {@code %M}, {@code %F}
+ * or {@code %L}.</p>
+ *
+ * <p>Code that has not been woven logs exactly as before.</p>
+ */
+public final class SourceLocation {
+    private static final ThreadLocal<StackTraceElement[]> CURRENT = new ThreadLocal<StackTraceElement[]>() {
+        @Override
+        protected StackTraceElement[] initialValue() {
+            return new StackTraceElement[1];
+        }
+    };
+    // Set once a woven call site has been linked, so that unwoven programs never touch CURRENT.
+    private static volatile boolean woven;
+    private static final MethodHandle ENTER;
+    private static final MethodHandle EXIT;
+    private static final MethodHandle EXIT_AND_RETHROW;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            ENTER = lookup.findStatic(SourceLocation.class, "enter",
+                    MethodType.methodType(void.class, StackTraceElement.class));
+            EXIT = lookup.findStatic(SourceLocation.class, "exit", MethodType.methodType(void.class));
+            EXIT_AND_RETHROW = lookup.findStatic(SourceLocation.class, "exitAndRethrow",
+                    MethodType.methodType(void.class, Throwable.class));
+        } catch (final ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private SourceLocation() {
+    }
+
+    /**
+     * Bootstrap method of the {@code invokedynamic} instructions added by the
+     * weaver.
+     *
+     * @param lookup The lookup of the calling class.
+     * @param name The name of the Logger or LogBuilder method called.
+     * @param type The type of that method, with the Logger or LogBuilder as
+     *            the first parameter.
+     * @param className The binary name of the calling class.
+     * @param methodName The name of the calling method.
+     * @param fileName The source file, or an empty String if unknown.
+     * @param lineNumber The line number, or a negative number if unknown.
+     * @return A call site that calls the method with the location set.
+     * @throws ReflectiveOperationException if the method cannot be found.
+     */
+    public static CallSite bootstrap(final MethodHandles.Lookup lookup, final String name, final MethodType type,
+            final String className, final String methodName, final String fileName, final int lineNumber)
+            throws ReflectiveOperationException {
+        woven = true;
+        final StackTraceElement location = new StackTraceElement(className, methodName,
+                fileName.isEmpty() ? null : fileName, lineNumber);
+        final MethodHandle call = lookup.findVirtual(type.parameterType(0), name, type.dropParameterTypes(0, 1));
+        final MethodHandle guarded = MethodHandles.catchException(MethodHandles.filterReturnValue(call, EXIT),
+                Throwable.class, MethodHandles.dropArguments(EXIT_AND_RETHROW, 1, type.parameterList()));
+        return new ConstantCallSite(MethodHandles.foldArguments(guarded,
+                MethodHandles.insertArguments(ENTER, 0, location)));
+    }
+
+    /**
+     * Sets the location of the Logger call the current thread is about to
+     * make.
+     *
+     * @param location The location.
+     */
+    public static void enter(final StackTraceElement location) {
+        CURRENT.get()[0] = location;
+    }
+
+    /**
+     * Clears the location once the Logger call has returned.
+     */
+    public static void exit() {
+        CURRENT.get()[0] = null;
+    }
+
+    /**
+     * Clears the location when the Logger call throws, then throws on.
+     */
+    private static void exitAndRethrow(final Throwable t) throws Throwable {
+        exit();
+        throw t;
+    }
+
+    /**
+     * Returns the location of the Logger call being made by the current
+     * thread.
+     *
+     * @return The location, or {@code null} if the call site was not woven.
+     */
+    static StackTraceElement current() {
+        return woven ? CURRENT.get()[0] : null;
+    }
+
+    /**
+     * Logs an event with a known location, in the same way as the Log4j
+     * Logger would but without leaving the location to be computed later.
+     */
+    static void log(final ExtendedLogger logger, final StackTraceElement location, final String fqcn,
+            final Level level, final Marker marker, final Message message, final Throwable t) {
+        if (!(logger instanceof org.apache.logging.log4j.core.Logger)) {
+            logger.logMessage(fqcn, level, marker, message, t);
+            return;
+        }
+        final org.apache.logging.log4j.core.Logger coreLogger = (org.apache.logging.log4j.core.Logger) logger;
+        final Configuration config = coreLogger.getContext().getConfiguration();
+        config.getConfigurationMonitor().checkConfiguration();
+        final LoggerConfig loggerConfig = config.getLoggerConfig(coreLogger.getName());
+        final Message msg = message == null ? new SimpleMessage("") : message;
+        final long timeMillis = msg instanceof TimestampMessage ? ((TimestampMessage) msg).getTimestamp()
+                : System.currentTimeMillis();
+        final Log4jLogEvent event = new Log4jLogEvent(coreLogger.getName(), marker, fqcn, level, msg, t,
+                contextMap(config, loggerConfig, ThreadContext.getImmutableContext()),
+                ThreadContext.getDepth() == 0 ? null : ThreadContext.cloneStack(), null, location, timeMillis);
+        loggerConfig.log(event);
+    }
+
+    /**
+     * Returns a thread context map with the properties of the logger
+     * configuration added.
+     */
+    static Map<String, String> contextMap(final Configuration config, final LoggerConfig loggerConfig,
+            final Map<String, String> context) {
+        final Map<Property, Boolean> properties = loggerConfig.getProperties();
+        if (properties == null || properties.isEmpty()) {
+            return context;
+        }
+        final Map<String, String> map = new HashMap<>(context);
+        for (final Map.Entry<Property, Boolean> entry : properties.entrySet()) {
+            final Property property = entry.getKey();
+            map.put(property.getName(), entry.getValue()
+                    ? config.getStrSubstitutor().replace(property.getValue()) : property.getValue());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,289 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.ExtendedLoggerWrapper;
+
+/**
+ * Wrapper used by every {@link Logger}. Level checks go to the wrapped Log4j
+ * Logger as usual; enabled events then pass through the
+ * {@link DuplicateSuppressor}, when enabled, and the logger's
+ * {@link RateLimiter}, if any rule applies to it, before they are delivered.
+ * Suppressed events are dropped before Log4j builds a LogEvent for them or
+ * formats their message.
+ *
+ * <p>When {@link Metrics} are enabled, the wrapper also counts calls, enabled
+ * and suppressed events, and the time spent delivering events. When
+ * {@link LatencyHistograms} are enabled, it records how long each enabled
+ * call and each delivery took.</p>
+ *
+ * <p>Events logged from call sites woven by the {@link LocationWeaver} are
+ * delivered with their precomputed {@link SourceLocation}.</p>
+ *
+ * <p>With {@code UnixLogger.GarbageFree}, events logged with a String and
+ * the default message factory carry this thread's {@link ReusableMessage}
+ * instead of a new message, unless the wrapper keeps messages after the
+ * call.</p>
+ */
+class UnixLoggerWrapper extends ExtendedLoggerWrapper {
+    private static final long serialVersionUID = 6280416237150949175L;
+    // When the level check of this thread's current call passed, or 0.
+    private static final ThreadLocal<long[]> CALL_START = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+
+    private transient RateLimiter limiter;
+    private transient Metrics.Counters counters;
+
+    UnixLoggerWrapper(final ExtendedLogger logger) {
+        super(logger, logger.getName(), logger.getMessageFactory());
+        this.limiter = RateLimiter.forLogger(logger.getName());
+        this.counters = Metrics.forLogger(logger.getName());
+    }
+
+    /**
+     * Counts a logging call made by {@link Logger} without going through one
+     * of the {@code logIfEnabled} methods.
+     *
+     * @param level The level of the call.
+     */
+    final void countCall(final Level level) {
+        if (counters != null) {
+            counters.increment(level, Metric.CALLS);
+        }
+    }
+
+    /**
+     * Starts timing a logging call whose level check just passed, when
+     * {@link LatencyHistograms} are enabled. The call ends in
+     * {@link #logMessage(String, Level, Marker, Message, Throwable)}, after
+     * the message has been built.
+     */
+    final void startCall() {
+        if (LatencyHistograms.isEnabled()) {
+            CALL_START.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public final void logIfEnabled(final String fqcn, final Level level, final Marker marker, final Message message,
+            final Throwable t) {
+        countCall(level);
+        if (isEnabled(level, marker, message, t)) {
+            startCall();
+            logMessage(fqcn, level, marker, message, t);
+        }
+    }
+
+    @Override
+    public final void logIfEnabled(final String fqcn, final Level level, final Marker marker, final Object message,
+            final Throwable t) {
+        countCall(level);
+        if (isEnabled(level, marker, message, t)) {
+            startCall();
+            logMessage(fqcn, level, marker, message, t);
+        }
+    }
+
+    @Override
+    public final void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message) {
+        countCall(level);
+        if (!isEnabled(level, marker, message)) {
+            return;
+        }
+        startCall();
+        if (!reusesMessages()) {
+            logMessage(fqcn, level, marker, message);
+        } else {
+            final ReusableMessage msg = ReusableMessage.acquire();
+            msg.setText(message);
+            logReusable(fqcn, level, marker, msg, null);
+        }
+    }
+
+    @Override
+    public final void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object... params) {
+        countCall(level);
+        if (!isEnabled(level, marker, message, params)) {
+            return;
+        }
+        startCall();
+        if (!reusesMessages()) {
+            logMessage(fqcn, level, marker, message, params);
+        } else {
+            final ReusableMessage msg = ReusableMessage.acquire();
+            msg.setParameters(message, params);
+            logReusable(fqcn, level, marker, msg, msg.getThrowable());
+        }
+    }
+
+    @Override
+    public final void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Throwable t) {
+        countCall(level);
+        if (!isEnabled(level, marker, message, t)) {
+            return;
+        }
+        startCall();
+        if (!reusesMessages()) {
+            logMessage(fqcn, level, marker, message, t);
+        } else {
+            final ReusableMessage msg = ReusableMessage.acquire();
+            msg.setText(message);
+            logReusable(fqcn, level, marker, msg, t);
+        }
+    }
+
+    /**
+     * Returns whether enabled events should carry this thread's
+     * {@link ReusableMessage}: it has to be turned on, the message factory
+     * has to be the default one, and the wrapper must not keep messages.
+     */
+    final boolean reusesMessages() {
+        return ReusableMessage.ENABLED && !keepsMessages()
+                && getMessageFactory() instanceof ParameterizedMessageFactory;
+    }
+
+    /**
+     * Returns whether messages are still used after {@link #deliver} returns,
+     * in which case they cannot be reused.
+     *
+     * @return {@code false}, as events are delivered on the calling thread.
+     */
+    protected boolean keepsMessages() {
+        return false;
+    }
+
+    /**
+     * Formats and logs a message acquired from
+     * {@link ReusableMessage#acquire()}, then releases it.
+     */
+    final void logReusable(final String fqcn, final Level level, final Marker marker, final ReusableMessage message,
+            final Throwable t) {
+        try {
+            message.ensureFormatted();
+            logMessage(fqcn, level, marker, message, t);
+        } finally {
+            message.release();
+        }
+    }
+
+    /**
+     * Logs an enabled event, timed from {@link #startCall()}, or from now
+     * if no call was started, as for the events of a {@link LogBatch}.
+     */
+    @Override
+    public final void logMessage(final String fqcn, final Level level, final Marker marker, final Message message,
+            final Throwable t) {
+        if (!LatencyHistograms.isEnabled()) {
+            if (admit(fqcn, level, marker, message, t)) {
+                deliver(fqcn, level, marker, message, t);
+            }
+            return;
+        }
+        final long[] callStart = CALL_START.get();
+        final long start = callStart[0] != 0 ? callStart[0] : System.nanoTime();
+        callStart[0] = 0;
+        if (admit(fqcn, level, marker, message, t)) {
+            deliver(fqcn, level, marker, message, t);
+        }
+        LatencyHistograms.record(LatencyHistograms.Stage.CALL, level, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts an enabled event and passes it through the
+     * {@link DuplicateSuppressor} and the {@link RateLimiter}.
+     *
+     * @return {@code true} if the event should be delivered.
+     */
+    final boolean admit(final String fqcn, final Level level, final Marker marker, final Message message,
+            final Throwable t) {
+        if (counters != null) {
+            counters.increment(level, Metric.ENABLED);
+        }
+        final DuplicateSuppressor duplicates = DuplicateSuppressor.getDefault();
+        if ((duplicates == null || duplicates.admit(this, fqcn, level, marker, message, t))
+                && (limiter == null || limiter.tryAcquire(level))) {
+            return true;
+        }
+        if (counters != null) {
+            counters.increment(level, Metric.SUPPRESSED);
+        }
+        return false;
+    }
+
+    /**
+     * Passes an admitted event on to the wrapped Log4j Logger.
+     */
+    protected void deliver(final String fqcn, final Level level, final Marker marker, final Message message,
+            final Throwable t) {
+        if (counters == null && !LatencyHistograms.isEnabled()) {
+            logMessage(fqcn, level, marker, message, t, SourceLocation.current());
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            logMessage(fqcn, level, marker, message, t, SourceLocation.current());
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            if (counters != null) {
+                counters.add(level, Metric.APPENDER_NANOS, nanos);
+            }
+            LatencyHistograms.record(LatencyHistograms.Stage.APPENDER, level, nanos);
+        }
+    }
+
+    /**
+     * Passes an admitted event built by a {@link LogBatch} to the logger
+     * configuration, timed like {@link #deliver}.
+     */
+    final void deliver(final LoggerConfig loggerConfig, final LogEvent event) {
+        if (counters == null && !LatencyHistograms.isEnabled()) {
+            loggerConfig.log(event);
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            loggerConfig.log(event);
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            if (counters != null) {
+                counters.add(event.getLevel(), Metric.APPENDER_NANOS, nanos);
+            }
+            LatencyHistograms.record(LatencyHistograms.Stage.APPENDER, event.getLevel(), nanos);
+        }
+    }
+
+    /**
+     * Returns the wrapped Log4j Logger.
+     */
+    final ExtendedLogger delegate() {
+        return logger;
+    }
+
+    private void logMessage(final String fqcn, final Level level, final Marker marker, final Message message,
+            final Throwable t, final StackTraceElement location) {
+        if (location == null) {
+            logger.logMessage(fqcn, level, marker, message, t);
+        } else {
+            SourceLocation.log(logger, location, fqcn, level, marker, message, t);
+        }
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        limiter = RateLimiter.forLogger(getName());
+        counters = Metrics.forLogger(getName());
+    }
+}
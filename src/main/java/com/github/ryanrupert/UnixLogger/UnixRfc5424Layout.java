@@ -0,0 +1,438 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.PrintWriter;
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.AbstractLayout;
+import org.apache.logging.log4j.core.net.Facility;
+import org.apache.logging.log4j.core.util.NetUtils;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * Formats events as RFC5424 syslog messages, mapping the custom {@link Logger}
+ * levels to syslog severities through {@link Severity}.
+ *
+ * <p>The {@code <PRI>VERSION} prefix is precomputed for every severity of the
+ * configured facility, and the {@code HOSTNAME APP-NAME PROCID MSGID
+ * STRUCTURED-DATA} part is encoded once when the layout is created. Each event
+ * is then written byte by byte into a reusable per-thread {@link ByteBuffer}:
+ * the timestamp is computed arithmetically and the message text is UTF-8
+ * encoded directly from the formatted message, without intermediate Strings or
+ * arrays. Appenders that write to NIO channels use {@link #encode(LogEvent)}
+ * or {@link #encode(LogEvent, ByteBuffer)}; {@link #toByteArray(LogEvent)}
+ * copies the encoded bytes for everything else.</p>
+ *
+ * <p>The fields of a {@link KeyValueMessage} are written as the
+ * STRUCTURED-DATA element {@code [<id>@<enterpriseNumber> key="value"...]},
+ * followed by the message text alone. Other events have no structured
+ * data.</p>
+ *
+ * <p>The stack trace of an event's throwable follows the message, one line
+ * per frame. With {@code newLine} each message must stay on one line, so the
+ * line feeds of the trace are written as {@code #012}, the escape rsyslog
+ * uses for control characters. {@code includeStacktrace="false"} writes only
+ * the throwable's {@code toString()}.</p>
+ *
+ * <pre>
+ * &lt;UnixRfc5424Layout facility="LOCAL0" appName="myapp" newLine="true"/&gt;
+ * </pre>
+ */
+@Plugin(name = "UnixRfc5424Layout", category = "Core", elementType = "layout", printObject = true)
+public final class UnixRfc5424Layout extends AbstractLayout<byte[]> {
+    private static final long serialVersionUID = 7216449104839210583L;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    // Larger buffers are dropped after the event rather than kept by the thread.
+    private static final int MAX_KEPT_CAPACITY = 64 * 1024;
+    private static final int MAX_HOSTNAME_LENGTH = 255;
+    private static final int MAX_APP_NAME_LENGTH = 48;
+    private static final int MAX_PROCID_LENGTH = 128;
+    private static final int MAX_MSGID_LENGTH = 32;
+    private static final int MAX_SD_NAME_LENGTH = 32;
+    private static final long MILLIS_PER_DAY = 86400000L;
+    private static final byte[] ESCAPED_LINE_FEED = {'#', '0', '1', '2'};
+    private static final ThreadLocal<ByteBuffer> BUFFERS = new ThreadLocal<ByteBuffer>() {
+        @Override
+        protected ByteBuffer initialValue() {
+            return ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        }
+    };
+    private static final ThreadLocal<StringBuilder> VALUES = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder();
+        }
+    };
+
+    private final Facility facility;
+    private final byte[][] priHeaders = new byte[Severity.values().length][];
+    private final byte[] headerFields;
+    private final byte[] structuredDataId;
+    private final boolean newLine;
+    private final boolean includeStacktrace;
+
+    private UnixRfc5424Layout(final Facility facility, final String hostname, final String appName,
+            final String procId, final String msgId, final String structuredDataId, final boolean newLine,
+            final boolean includeStacktrace) {
+        super(null, null);
+        this.facility = facility;
+        this.newLine = newLine;
+        this.includeStacktrace = includeStacktrace;
+        for (final Severity severity : Severity.values()) {
+            final int pri = facility.getCode() * 8 + severity.code();
+            priHeaders[severity.code()] = ("<" + pri + ">1 ").getBytes(StandardCharsets.US_ASCII);
+        }
+        final String fields = ' ' + field(hostname, MAX_HOSTNAME_LENGTH) + ' ' + field(appName, MAX_APP_NAME_LENGTH)
+                + ' ' + field(procId, MAX_PROCID_LENGTH) + ' ' + field(msgId, MAX_MSGID_LENGTH) + ' ';
+        this.headerFields = fields.getBytes(StandardCharsets.US_ASCII);
+        this.structuredDataId = ('[' + structuredDataId).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Creates an RFC5424 layout.
+     *
+     * @param facility The syslog facility name, {@code LOCAL0} by default.
+     * @param hostname The HOSTNAME field, the local host name by default.
+     * @param appName The APP-NAME field, {@code -} by default.
+     * @param procId The PROCID field, the process id by default.
+     * @param msgId The MSGID field, {@code -} by default.
+     * @param id The name of the STRUCTURED-DATA element of key-value fields,
+     *            {@code fields} by default.
+     * @param enterpriseNumber The private enterprise number qualifying the
+     *            element name, 18060 by default.
+     * @param newLine Whether to end each message with a line feed, for files
+     *            and non-transparent framing.
+     * @param includeStacktrace Whether to write the stack trace of the
+     *            event's throwable, or only its {@code toString()}.
+     * @return The layout.
+     */
+    @PluginFactory
+    public static UnixRfc5424Layout createLayout(
+            @PluginAttribute("facility") final String facility,
+            @PluginAttribute("hostname") final String hostname,
+            @PluginAttribute("appName") final String appName,
+            @PluginAttribute("procId") final String procId,
+            @PluginAttribute("msgId") final String msgId,
+            @PluginAttribute(value = "id", defaultString = "fields") final String id,
+            @PluginAttribute(value = "enterpriseNumber", defaultInt = 18060) final int enterpriseNumber,
+            @PluginAttribute(value = "newLine", defaultBoolean = false) final boolean newLine,
+            @PluginAttribute(value = "includeStacktrace", defaultBoolean = true) final boolean includeStacktrace) {
+        return new UnixRfc5424Layout(Facility.toFacility(facility, Facility.LOCAL0),
+                hostname == null ? NetUtils.getLocalHostname() : hostname, appName,
+                procId == null ? processId() : procId, msgId,
+                sdName(id == null ? "fields" : id, MAX_SD_NAME_LENGTH - 1 - Integer.toString(enterpriseNumber).length())
+                        + '@' + enterpriseNumber,
+                newLine, includeStacktrace);
+    }
+
+    /**
+     * Returns the syslog facility of this layout.
+     *
+     * @return The Facility.
+     */
+    public Facility getFacility() {
+        return facility;
+    }
+
+    /**
+     * Encodes the event into this thread's reusable buffer, or into a buffer
+     * of its own if the event does not fit.
+     *
+     * @param event The event to encode.
+     * @return The buffer, flipped and ready to read. It is only valid until
+     *         the next call to this method on the same thread.
+     */
+    public ByteBuffer encode(final LogEvent event) {
+        ByteBuffer buffer = BUFFERS.get();
+        for (;;) {
+            buffer.clear();
+            try {
+                encode(event, buffer);
+                buffer.flip();
+                Metrics.add(event.getLoggerName(), event.getLevel(), Metric.BYTES, buffer.remaining());
+                if (buffer.capacity() > MAX_KEPT_CAPACITY) {
+                    BUFFERS.remove();
+                }
+                return buffer;
+            } catch (final BufferOverflowException ex) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                BUFFERS.set(buffer);
+            }
+        }
+    }
+
+    /**
+     * Encodes the event at the current position of the destination buffer.
+     *
+     * @param event The event to encode.
+     * @param destination The buffer to write to.
+     * @throws BufferOverflowException if the event does not fit; the
+     *             destination's position is then undefined.
+     */
+    public void encode(final LogEvent event, final ByteBuffer destination) {
+        destination.put(priHeaders[Severity.of(event.getLevel()).code()]);
+        putTimestamp(destination, event.getTimeMillis());
+        destination.put(headerFields);
+        final Message message = event.getMessage();
+        if (message instanceof KeyValueMessage && ((KeyValueMessage) message).size() > 0) {
+            putStructuredData(destination, (KeyValueMessage) message);
+            if (!message.getFormat().isEmpty()) {
+                destination.put((byte) ' ');
+                putUtf8(destination, message.getFormat());
+            }
+        } else {
+            destination.put((byte) '-');
+            destination.put((byte) ' ');
+            if (message != null) {
+                putUtf8(destination, message.getFormattedMessage());
+            }
+        }
+        final Throwable thrown = event.getThrown();
+        if (thrown != null) {
+            destination.put((byte) ' ');
+            if (includeStacktrace) {
+                putStackTrace(destination, thrown);
+            } else {
+                putUtf8(destination, thrown.toString());
+            }
+        }
+        if (newLine) {
+            destination.put((byte) '\n');
+        }
+    }
+
+    /**
+     * Writes the fields as an SD-ELEMENT, replacing the characters not allowed
+     * in PARAM-NAMEs by {@code _} and escaping {@code "}, {@code \\} and
+     * {@code ]} in values.
+     */
+    private void putStructuredData(final ByteBuffer destination, final KeyValueMessage message) {
+        destination.put(structuredDataId);
+        final StringBuilder value = VALUES.get();
+        for (int i = 0; i < message.size(); i++) {
+            destination.put((byte) ' ');
+            final String key = message.getKey(i);
+            final int length = Math.min(key.length(), MAX_SD_NAME_LENGTH);
+            for (int j = 0; j < length; j++) {
+                final char c = key.charAt(j);
+                destination.put(isSdNameChar(c) ? (byte) c : (byte) '_');
+            }
+            if (length == 0) {
+                destination.put((byte) '_');
+            }
+            destination.put((byte) '=');
+            destination.put((byte) '"');
+            value.setLength(0);
+            message.appendValue(i, value);
+            for (int j = value.length() - 1; j >= 0; j--) {
+                final char c = value.charAt(j);
+                if (c == '"' || c == '\\' || c == ']') {
+                    value.insert(j, '\\');
+                }
+            }
+            putUtf8(destination, value);
+            destination.put((byte) '"');
+        }
+        destination.put((byte) ']');
+        if (value.capacity() > MAX_KEPT_CAPACITY) {
+            VALUES.remove();
+        }
+    }
+
+    /**
+     * Writes the stack trace without its last line separator, with
+     * {@code \n} or {@code #012} between the lines.
+     */
+    private void putStackTrace(final ByteBuffer destination, final Throwable thrown) {
+        final StringWriter writer = new StringWriter();
+        thrown.printStackTrace(new PrintWriter(writer));
+        final StringBuffer trace = writer.getBuffer();
+        int end = trace.length();
+        while (end > 0 && (trace.charAt(end - 1) == '\n' || trace.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            final char c = trace.charAt(i);
+            if (c == '\r' || c == '\n') {
+                putUtf8(destination, trace.subSequence(start, i));
+                if (c == '\r' && trace.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                if (newLine) {
+                    destination.put(ESCAPED_LINE_FEED);
+                } else {
+                    destination.put((byte) '\n');
+                }
+                start = i + 1;
+            }
+        }
+        putUtf8(destination, trace.subSequence(start, end));
+    }
+
+    /**
+     * Encodes an event with any layout, without copying when the layout is an
+     * UnixRfc5424Layout or a SharedPatternLayout.
+     *
+     * @param layout The layout.
+     * @param event The event to encode.
+     * @return The encoded event between position and limit. For an
+     *         UnixRfc5424Layout or a SharedPatternLayout this is a per-thread
+     *         buffer, valid until the next encode on the same thread.
+     */
+    static ByteBuffer toByteBuffer(final Layout<? extends Serializable> layout, final LogEvent event) {
+        if (layout instanceof UnixRfc5424Layout) {
+            return ((UnixRfc5424Layout) layout).encode(event);
+        }
+        if (layout instanceof SharedPatternLayout) {
+            return ((SharedPatternLayout) layout).encode(event);
+        }
+        return ByteBuffer.wrap(layout.toByteArray(event));
+    }
+
+    @Override
+    public byte[] toByteArray(final LogEvent event) {
+        final ByteBuffer buffer = encode(event);
+        final byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+
+    @Override
+    public byte[] toSerializable(final LogEvent event) {
+        return toByteArray(event);
+    }
+
+    @Override
+    public String getContentType() {
+        return "text/plain; charset=UTF-8";
+    }
+
+    @Override
+    public Map<String, String> getContentFormat() {
+        final Map<String, String> result = new HashMap<>();
+        result.put("structured", "true");
+        result.put("formatType", "RFC5424");
+        return result;
+    }
+
+    /**
+     * Writes the timestamp in the {@code yyyy-MM-ddTHH:mm:ss.SSSZ} form, in UTC.
+     */
+    static void putTimestamp(final ByteBuffer buffer, final long timeMillis) {
+        final long days = Math.floorDiv(timeMillis, MILLIS_PER_DAY);
+        final int millisOfDay = (int) Math.floorMod(timeMillis, MILLIS_PER_DAY);
+        // Converts days since the epoch to a proleptic Gregorian date.
+        final long shifted = days + 719468;
+        final long era = Math.floorDiv(shifted, 146097);
+        final long dayOfEra = shifted - era * 146097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long monthIndex = (5 * dayOfYear + 2) / 153;
+        final int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        final int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        final int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        putDigits(buffer, year, 4);
+        buffer.put((byte) '-');
+        putDigits(buffer, month, 2);
+        buffer.put((byte) '-');
+        putDigits(buffer, day, 2);
+        buffer.put((byte) 'T');
+        putDigits(buffer, millisOfDay / 3600000, 2);
+        buffer.put((byte) ':');
+        putDigits(buffer, millisOfDay / 60000 % 60, 2);
+        buffer.put((byte) ':');
+        putDigits(buffer, millisOfDay / 1000 % 60, 2);
+        buffer.put((byte) '.');
+        putDigits(buffer, millisOfDay % 1000, 3);
+        buffer.put((byte) 'Z');
+    }
+
+    private static void putDigits(final ByteBuffer buffer, final int value, final int width) {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * UTF-8 encodes the characters straight into the buffer. Unpaired
+     * surrogates are written as {@code ?}.
+     */
+    static void putUtf8(final ByteBuffer buffer, final CharSequence text) {
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Restricts a header field to printable US-ASCII and the RFC5424 maximum
+     * length, using {@code -} for an empty value.
+     */
+    private static String field(final String value, final int maxLength) {
+        if (value == null || value.isEmpty()) {
+            return "-";
+        }
+        final StringBuilder sb = new StringBuilder(Math.min(value.length(), maxLength));
+        for (int i = 0; i < value.length() && sb.length() < maxLength; i++) {
+            final char c = value.charAt(i);
+            sb.append(c > 32 && c < 127 ? c : '_');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Restricts an SD-NAME to the allowed characters and length.
+     */
+    private static String sdName(final String value, final int maxLength) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < value.length() && sb.length() < maxLength; i++) {
+            final char c = value.charAt(i);
+            sb.append(isSdNameChar(c) && c != '@' ? c : '_');
+        }
+        return sb.length() == 0 ? "_" : sb.toString();
+    }
+
+    private static boolean isSdNameChar(final char c) {
+        return c > 32 && c < 127 && c != '=' && c != ']' && c != '"';
+    }
+
+    private static String processId() {
+        final String name = ManagementFactory.getRuntimeMXBean().getName();
+        final int at = name.indexOf('@');
+        return at > 0 ? name.substring(0, at) : "-";
+    }
+}
@@ -0,0 +1,296 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * Writes events to a local logging daemon over a Unix domain stream socket,
+ * avoiding the network stack that a loopback TCP connection goes through.
+ *
+ * <p>Two formats are supported:</p>
+ * <ul>
+ * <li>{@code SYSLOG} (default) writes one RFC5424 message per line, as
+ * accepted by a syslog daemon listening on a stream socket, such as
+ * syslog-ng's {@code unix-stream("/dev/log")}. The {@code path} of that
+ * socket is required, since the usual {@code /dev/log} of rsyslog and
+ * journald is a datagram socket.</li>
+ * <li>{@code JOURNAL} speaks the systemd journal stream protocol on
+ * {@code /run/systemd/journal/stdout}: a header naming the identifier, then
+ * one line per event with a {@code <N>} severity prefix so journald records
+ * the right priority.</li>
+ * </ul>
+ *
+ * <p>The JDK can only connect to Unix domain <em>stream</em> sockets, and only
+ * from Java 16 on; the multi-release jar switches to the Java 16
+ * implementation automatically. On older runtimes, or with a jar built
+ * without its Java 16 classes, the appender is not created and the
+ * configuration reports why. Datagram sockets, such as the {@code /dev/log}
+ * of rsyslog and journald and journald's native protocol socket, cannot be
+ * opened from Java, so they are not supported; send to rsyslog over UDP with
+ * {@link NioSyslogAppender} instead. Writing is batched exactly like {@link NioSyslogAppender},
+ * see {@link BatchingChannelWriter}.</p>
+ *
+ * <pre>
+ * &lt;UnixSocket name="journal" format="JOURNAL" identifier="myapp"/&gt;
+ * </pre>
+ */
+@Plugin(name = "UnixSocket", category = "Core", elementType = "appender", printObject = true)
+public final class UnixSocketAppender extends AbstractAppender {
+    private static final long serialVersionUID = 1954305734122489764L;
+    private static final String DEFAULT_JOURNAL_PATH = "/run/systemd/journal/stdout";
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+    private static final ThreadLocal<ByteBuffer> LINES = new ThreadLocal<ByteBuffer>() {
+        @Override
+        protected ByteBuffer initialValue() {
+            return ByteBuffer.allocate(8 * 1024);
+        }
+    };
+
+    private final transient BatchingChannelWriter writer;
+    private final boolean journal;
+
+    private UnixSocketAppender(final String name, final Filter filter, final Layout<? extends Serializable> layout,
+            final boolean ignoreExceptions, final BatchingChannelWriter writer, final boolean journal) {
+        super(name, filter, layout, ignoreExceptions);
+        this.writer = writer;
+        this.journal = journal;
+    }
+
+    /**
+     * Creates an UnixSocketAppender.
+     *
+     * @param name The name of the Appender.
+     * @param path The socket path, required for {@code SYSLOG};
+     *            {@code /run/systemd/journal/stdout} by default for
+     *            {@code JOURNAL}.
+     * @param format {@code SYSLOG} or {@code JOURNAL}.
+     * @param identifier The journal identifier (SYSLOG_IDENTIFIER), only used
+     *            with the {@code JOURNAL} format.
+     * @param bufferSize The size of each staging buffer in bytes.
+     * @param reconnectDelayMillis Delay between connection attempts.
+     * @param ignoreExceptions If {@code "true"} (default) exceptions encountered
+     *            when appending events are logged; otherwise they are
+     *            propagated to the caller.
+     * @param layout The layout. Defaults to {@link UnixRfc5424Layout} for
+     *            {@code SYSLOG} and to {@code %logger{36} - %msg} for
+     *            {@code JOURNAL}.
+     * @param filter The Filter or null.
+     * @return The UnixSocketAppender, or {@code null} if the runtime cannot
+     *         open Unix domain sockets.
+     */
+    @PluginFactory
+    public static UnixSocketAppender createAppender(
+            @PluginAttribute("name") final String name,
+            @PluginAttribute("path") final String path,
+            @PluginAttribute(value = "format", defaultString = "SYSLOG") final String format,
+            @PluginAttribute(value = "identifier", defaultString = "java") final String identifier,
+            @PluginAttribute(value = "bufferSize", defaultInt = 256 * 1024) final int bufferSize,
+            @PluginAttribute(value = "reconnectDelayMillis", defaultLong = 1000) final long reconnectDelayMillis,
+            @PluginAttribute(value = "ignoreExceptions", defaultBoolean = true) final boolean ignoreExceptions,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") final Filter filter) {
+        if (name == null) {
+            LOGGER.error("No name provided for UnixSocketAppender");
+            return null;
+        }
+        final boolean journal;
+        switch (format.toUpperCase(Locale.ROOT)) {
+        case "SYSLOG":
+            journal = false;
+            break;
+        case "JOURNAL":
+            journal = true;
+            break;
+        default:
+            LOGGER.error("Invalid format {} for UnixSocketAppender {}", format, name);
+            return null;
+        }
+        if (!journal && path == null) {
+            LOGGER.error("No path provided for UnixSocketAppender {}, which needs a syslog stream socket", name);
+            return null;
+        }
+        if (!UnixSocketChannels.isSupported()) {
+            if (UnixSocketChannels.isRuntimeSupported()) {
+                LOGGER.error("UnixSocketAppender {} is not available: this UnixLogger jar was built without its Java 16 "
+                        + "classes, rebuild it with -Pjava16Home", name);
+            } else {
+                LOGGER.error("UnixSocketAppender {} requires Java 16 or later, running on {}", name,
+                        System.getProperty("java.specification.version"));
+            }
+            return null;
+        }
+        if (layout == null) {
+            layout = journal
+                    ? PatternLayout.createLayout("%logger{36} - %msg", null, null, StandardCharsets.UTF_8, true,
+                            false, null, null)
+                    : UnixRfc5424Layout.createLayout(null, null, null, null, null, null, 18060, false, true);
+        }
+        final Path socket = Paths.get(path != null ? path : DEFAULT_JOURNAL_PATH);
+        final byte[] preamble = journal ? journalHeader(identifier) : new byte[0];
+        final BatchingChannelWriter writer = new UnixStreamWriter("UnixSocket-" + name, socket, preamble,
+                bufferSize, reconnectDelayMillis);
+        return new UnixSocketAppender(name, filter, layout, ignoreExceptions, writer, journal);
+    }
+
+    @Override
+    public void start() {
+        writer.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        writer.stop(STOP_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        final ByteBuffer encoded = UnixRfc5424Layout.toByteBuffer(getLayout(), event);
+        writer.offer(toLine(event, encoded));
+    }
+
+    /**
+     * Starts writing the events of a {@link LogBatch}: they are staged under
+     * a single acquisition of the writer's lock.
+     */
+    void beginBatch() {
+        writer.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by {@link #beginBatch()}.
+     */
+    void endBatch() {
+        writer.endBatch();
+    }
+
+    /**
+     * Returns the number of events dropped because the staging buffer was
+     * full, for example while the socket could not be connected, or because
+     * it could not be connected when the appender stopped.
+     *
+     * @return The dropped count.
+     */
+    public long getDroppedCount() {
+        return writer.getDroppedCount();
+    }
+
+    /**
+     * Copies the encoded event into a per-thread buffer as a single line, with
+     * a {@code <N>} severity prefix for the journal. Line breaks inside the
+     * message are replaced by spaces, since both formats split on newlines.
+     */
+    private ByteBuffer toLine(final LogEvent event, final ByteBuffer encoded) {
+        ByteBuffer line = LINES.get();
+        if (line.capacity() < encoded.remaining() + 3) {
+            line = ByteBuffer.allocate(Math.max(encoded.remaining() + 3, line.capacity() * 2));
+            LINES.set(line);
+        }
+        line.clear();
+        if (journal) {
+            line.put((byte) '<').put((byte) ('0' + Severity.of(event.getLevel()).code())).put((byte) '>');
+        }
+        int end = encoded.limit();
+        while (end > encoded.position() && (encoded.get(end - 1) == '\n' || encoded.get(end - 1) == '\r')) {
+            end--;
+        }
+        for (int i = encoded.position(); i < end; i++) {
+            final byte b = encoded.get(i);
+            line.put(b == '\n' || b == '\r' ? (byte) ' ' : b);
+        }
+        line.flip();
+        return line;
+    }
+
+    /**
+     * The header journald expects at the start of a stdout stream connection:
+     * identifier, unit id, default priority, whether lines carry a
+     * {@code <N>} prefix, and whether to forward to syslog, kmsg and console.
+     */
+    private static byte[] journalHeader(final String identifier) {
+        return (identifier + "\n\n6\n1\n0\n0\n0\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes one message per line to a Unix domain stream socket, sending the
+     * preamble first on every new connection.
+     */
+    private static final class UnixStreamWriter extends BatchingChannelWriter {
+        private final Path path;
+        private final byte[] preamble;
+        private SocketChannel channel;
+
+        UnixStreamWriter(final String name, final Path path, final byte[] preamble, final int bufferSize,
+                final long reconnectDelayMillis) {
+            super(name, bufferSize, reconnectDelayMillis);
+            this.path = path;
+            this.preamble = preamble;
+        }
+
+        @Override
+        protected int frameOverhead(final int length) {
+            return 1;
+        }
+
+        @Override
+        protected void putFrame(final ByteBuffer staging, final ByteBuffer message) {
+            staging.put(message);
+            staging.put((byte) '\n');
+        }
+
+        @Override
+        protected void open() throws IOException {
+            final SocketChannel result = UnixSocketChannels.connect(path);
+            final ByteBuffer header = ByteBuffer.wrap(preamble);
+            try {
+                while (header.hasRemaining()) {
+                    result.write(header);
+                }
+            } catch (final IOException ex) {
+                result.close();
+                throw ex;
+            }
+            channel = result;
+        }
+
+        @Override
+        protected boolean isOpen() {
+            return channel != null && channel.isOpen();
+        }
+
+        @Override
+        protected void writeBatch(final ByteBuffer batch) throws IOException {
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+        }
+
+        @Override
+        protected void closeChannel() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (final IOException ex) {
+                    LOGGER.debug("Unable to close {}", path, ex);
+                }
+                channel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Opens stream connections to Unix domain sockets.
+ *
+ * <p>Java 8 has no Unix domain socket support, so this version always fails.
+ * The multi-release jar carries a replacement under
+ * {@code META-INF/versions/16} that uses {@code UnixDomainSocketAddress}.</p>
+ */
+final class UnixSocketChannels {
+
+    private UnixSocketChannels() {
+    }
+
+    /**
+     * Returns whether this runtime can open Unix domain sockets.
+     *
+     * @return {@code false} before Java 16.
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Returns whether this runtime is recent enough for Unix domain sockets,
+     * in which case only the Java 16 version of this class is missing.
+     *
+     * @return {@code true} on Java 16 or later.
+     */
+    static boolean isRuntimeSupported() {
+        final String version = System.getProperty("java.specification.version", "");
+        try {
+            return !version.startsWith("1.") && Integer.parseInt(version) >= 16;
+        } catch (final NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Connects to the stream socket at the given path.
+     *
+     * @param path The socket file.
+     * @return The connected channel.
+     * @throws IOException always, since this runtime has no Unix domain
+     *             socket support.
+     */
+    static SocketChannel connect(final Path path) throws IOException {
+        throw new IOException("Unix domain sockets require Java 16 or later, cannot connect to " + path);
+    }
+}
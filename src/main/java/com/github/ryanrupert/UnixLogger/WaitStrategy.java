@@ -0,0 +1,20 @@
+package com.github.ryanrupert.UnixLogger;
+
+/**
+ * How the background writer of the asynchronous Logger waits for new events
+ * when the ring buffer is empty.
+ *
+ * <p>Set with the {@code UnixLogger.WaitStrategy} property. The strategies
+ * trade latency for CPU usage, from {@link #BLOCK} (no CPU while idle) to
+ * {@link #BUSY_SPIN} (lowest latency, one core kept busy).</p>
+ */
+public enum WaitStrategy {
+    /** Parks the writer until a producer publishes an event. */
+    BLOCK,
+    /** Spins briefly, then yields, then sleeps in short intervals. */
+    SLEEP,
+    /** Spins briefly, then yields the CPU between checks. */
+    YIELD,
+    /** Checks continuously without giving up the CPU. */
+    BUSY_SPIN
+}
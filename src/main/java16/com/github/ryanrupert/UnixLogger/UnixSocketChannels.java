@@ -0,0 +1,55 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Opens stream connections to Unix domain sockets using the support added in
+ * Java 16. Packaged under {@code META-INF/versions/16} of the multi-release
+ * jar.
+ */
+final class UnixSocketChannels {
+
+    private UnixSocketChannels() {
+    }
+
+    /**
+     * Returns whether this runtime can open Unix domain sockets.
+     *
+     * @return {@code true}.
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Returns whether this runtime is recent enough for Unix domain sockets.
+     *
+     * @return {@code true}.
+     */
+    static boolean isRuntimeSupported() {
+        return true;
+    }
+
+    /**
+     * Connects to the stream socket at the given path.
+     *
+     * @param path The socket file.
+     * @return The connected channel.
+     * @throws IOException if the socket does not exist, refuses the
+     *             connection or is not a stream socket.
+     */
+    static SocketChannel connect(final Path path) throws IOException {
+        final SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.connect(UnixDomainSocketAddress.of(path));
+            return channel;
+        } catch (final IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.Iterator;
+
+/**
+ * Finds the class that called into the library, for naming Loggers after
+ * their caller.
+ *
+ * <p>Java 9 version: walks the stack lazily with {@link StackWalker}, so only
+ * the frames up to the caller are inspected.</p>
+ */
+final class CallerLocator {
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private CallerLocator() {
+    }
+
+    /**
+     * Returns the class of the first frame below the frames of the anchor
+     * class.
+     *
+     * @param anchor The class whose caller is wanted.
+     * @return The calling class, or {@code Object.class} if there is none.
+     */
+    static Class<?> callerOf(final Class<?> anchor) {
+        return WALKER.walk(frames -> {
+            boolean inAnchor = false;
+            for (final Iterator<StackWalker.StackFrame> it = frames.iterator(); it.hasNext();) {
+                final Class<?> clazz = it.next().getDeclaringClass();
+                if (clazz == anchor) {
+                    inAnchor = true;
+                } else if (inAnchor) {
+                    return clazz;
+                }
+            }
+            return Object.class;
+        });
+    }
+}
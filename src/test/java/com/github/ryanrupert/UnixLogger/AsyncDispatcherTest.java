@@ -0,0 +1,190 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Publishes events to dispatchers of their own, with a list appender on the
+ * logger they are written to.
+ */
+public class AsyncDispatcherTest {
+    private static final String FQCN = AsyncDispatcherTest.class.getName();
+    private static final int CAPACITY = 128;
+
+    private ExtendedLogger logger;
+    private ListAppender appender;
+
+    @Before
+    public void setUp() {
+        appender = ListAppender.attach("async.test");
+        logger = (ExtendedLogger) LogManager.getLogger("async.test");
+    }
+
+    @After
+    public void tearDown() {
+        appender.detach();
+    }
+
+    @Test
+    public void blockingWriterWakesUpForEachEvent() throws Exception {
+        final AsyncDispatcher dispatcher = dispatcher(WaitStrategy.BLOCK, Severity.DEBUG);
+        dispatcher.start();
+        final long[] latencies = new long[200];
+        for (int i = 0; i < latencies.length; i++) {
+            // Long enough for the writer to find the buffer empty and park.
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(500));
+            final long start = System.nanoTime();
+            publish(dispatcher, Severity.INFO, "event " + i);
+            assertTrue(appender.await(i + 1, 1, TimeUnit.SECONDS));
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        // A missed wakeup waits for the 10 ms park to time out.
+        final long percentile95 = latencies[latencies.length * 95 / 100];
+        assertTrue("95th percentile wakeup took " + percentile95 + " ns",
+                percentile95 < TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    public void keepsTheOrderOfEachProducer() throws Exception {
+        checkOrder(WaitStrategy.SLEEP);
+        appender.detach();
+        appender = ListAppender.attach("async.test");
+        checkOrder(WaitStrategy.BLOCK);
+    }
+
+    @Test
+    public void shutdownWaitsForQueuedEvents() {
+        final AsyncDispatcher dispatcher = dispatcher(WaitStrategy.SLEEP, Severity.DEBUG);
+        for (int i = 0; i < 100; i++) {
+            publish(dispatcher, Severity.INFO, "event " + i);
+        }
+        assertEquals(100, dispatcher.size());
+        dispatcher.start();
+        dispatcher.awaitDrained();
+        assertEquals(0, dispatcher.size());
+        assertEquals(100, appender.getEvents().size());
+    }
+
+    @Test
+    public void fullBufferDropsLessSevereEventsAndCountsThem() {
+        // Not started, so nothing is written.
+        final AsyncDispatcher dispatcher = dispatcher(WaitStrategy.SLEEP, Severity.CRIT);
+        fill(dispatcher);
+        for (final Severity severity : Severity.values()) {
+            if (severity.ordinal() > Severity.CRIT.ordinal()) {
+                for (int i = 0; i < severity.code(); i++) {
+                    publish(dispatcher, severity, "dropped");
+                }
+            }
+        }
+        assertEquals(CAPACITY, dispatcher.size());
+        for (final Severity severity : Severity.values()) {
+            assertEquals(severity.name(), severity.ordinal() > Severity.CRIT.ordinal() ? severity.code() : 0,
+                    dispatcher.droppedCount(severity));
+        }
+    }
+
+    @Test
+    public void watermarkDropsDebugBeforeTheBufferIsFull() {
+        final AsyncDispatcher dispatcher = dispatcher(WaitStrategy.SLEEP, Severity.CRIT);
+        // DEBUG is shed from three quarters full.
+        for (int i = 0; i < CAPACITY * 3 / 4; i++) {
+            publish(dispatcher, Severity.INFO, "queued");
+        }
+        publish(dispatcher, Severity.DEBUG, "dropped");
+        publish(dispatcher, Severity.INFO, "queued");
+        assertEquals(CAPACITY * 3 / 4 + 1, dispatcher.size());
+        assertEquals(1, dispatcher.droppedCount(Severity.DEBUG));
+        assertEquals(0, dispatcher.droppedCount(Severity.INFO));
+    }
+
+    @Test
+    public void blockingSeveritiesWaitForRoom() throws Exception {
+        for (final Severity severity : new Severity[] {Severity.EMERG, Severity.ALERT, Severity.CRIT}) {
+            appender.detach();
+            appender = ListAppender.attach("async.test");
+            final AsyncDispatcher dispatcher = dispatcher(WaitStrategy.SLEEP, Severity.CRIT);
+            fill(dispatcher);
+            final Thread producer = new Thread(() -> publish(dispatcher, severity, "blocked"));
+            producer.start();
+            producer.join(100);
+            assertTrue(severity.name() + " waits while the buffer is full", producer.isAlive());
+            dispatcher.start();
+            producer.join(5000);
+            assertFalse(producer.isAlive());
+            assertTrue(appender.await(CAPACITY + 1, 5, TimeUnit.SECONDS));
+            assertEquals("blocked", appender.getMessages().get(CAPACITY));
+            assertEquals(0, dispatcher.droppedCount(severity));
+        }
+    }
+
+    /**
+     * Fills the buffer of a dispatcher that is not started with events that
+     * are never shed.
+     */
+    private void fill(final AsyncDispatcher dispatcher) {
+        for (int i = 0; i < CAPACITY; i++) {
+            publish(dispatcher, Severity.CRIT, "queued");
+        }
+        assertEquals(CAPACITY, dispatcher.size());
+    }
+
+    /**
+     * Has several producers publish through a small buffer, blocking when it
+     * is full, and checks that each producer's events are written in order.
+     */
+    private void checkOrder(final WaitStrategy waitStrategy) throws Exception {
+        final int producers = 4;
+        final int events = 5000;
+        final AsyncDispatcher dispatcher = dispatcher(waitStrategy, Severity.DEBUG);
+        dispatcher.start();
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final String prefix = p + ":";
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < events; i++) {
+                    publish(dispatcher, Severity.INFO, prefix + i);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(appender.await(producers * events, 10, TimeUnit.SECONDS));
+        final int[] next = new int[producers];
+        for (final String message : appender.getMessages()) {
+            final int colon = message.indexOf(':');
+            final int producer = Integer.parseInt(message.substring(0, colon));
+            assertEquals(message, next[producer]++, Integer.parseInt(message.substring(colon + 1)));
+        }
+        for (int p = 0; p < producers; p++) {
+            assertEquals(events, next[p]);
+        }
+        assertEquals(0, dispatcher.droppedCount(Severity.INFO));
+    }
+
+    private static AsyncDispatcher dispatcher(final WaitStrategy waitStrategy, final Severity blockingSeverity) {
+        return new AsyncDispatcher(CAPACITY, waitStrategy, new BackpressurePolicy(CAPACITY, blockingSeverity, 0.75, 0),
+                false, false);
+    }
+
+    private void publish(final AsyncDispatcher dispatcher, final Severity severity, final String text) {
+        dispatcher.publish(logger, FQCN, severity.level(), null, new SimpleMessage(text), null);
+    }
+}
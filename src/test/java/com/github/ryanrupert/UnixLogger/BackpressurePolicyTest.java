@@ -0,0 +1,77 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Checks the watermark of every severity, sampling and the drop counts.
+ */
+public class BackpressurePolicyTest {
+    private static final int CAPACITY = 100;
+
+    @Test
+    public void eachSeverityIsShedAtItsWatermark() {
+        // DEBUG at the threshold, each more severe level a quarter of the rest higher, ERROR at a full buffer.
+        final BackpressurePolicy policy = new BackpressurePolicy(CAPACITY, Severity.CRIT, 0.5, 0);
+        final int[] watermarks = {50, 63, 75, 88, 100};
+        final Severity[] shed = {Severity.DEBUG, Severity.INFO, Severity.NOTICE, Severity.WARNING, Severity.ERROR};
+        for (int i = 0; i < shed.length; i++) {
+            assertTrue(shed[i].name(), policy.admit(shed[i], watermarks[i] - 1));
+            assertFalse(shed[i].name(), policy.admit(shed[i], watermarks[i]));
+            assertFalse(shed[i].name(), policy.isBlocking(shed[i]));
+            assertEquals(shed[i].name(), 1, policy.droppedCount(shed[i]));
+        }
+        for (final Severity severity : new Severity[] {Severity.EMERG, Severity.ALERT, Severity.CRIT}) {
+            assertTrue(severity.name(), policy.admit(severity, CAPACITY));
+            assertTrue(severity.name(), policy.isBlocking(severity));
+            assertEquals(severity.name(), 0, policy.droppedCount(severity));
+        }
+    }
+
+    @Test
+    public void blockingLevelMovesTheWatermarks() {
+        final BackpressurePolicy policy = new BackpressurePolicy(CAPACITY, Severity.NOTICE, 0.5, 0);
+        assertFalse(policy.admit(Severity.DEBUG, 50));
+        assertTrue(policy.admit(Severity.INFO, 99));
+        assertFalse(policy.admit(Severity.INFO, 100));
+        assertTrue(policy.admit(Severity.NOTICE, CAPACITY));
+        assertTrue(policy.isBlocking(Severity.NOTICE));
+
+        final BackpressurePolicy blockingAll = new BackpressurePolicy(CAPACITY, Severity.DEBUG, 0.5, 0);
+        for (final Severity severity : Severity.values()) {
+            assertTrue(severity.name(), blockingAll.admit(severity, CAPACITY));
+            assertTrue(severity.name(), blockingAll.isBlocking(severity));
+        }
+    }
+
+    @Test
+    public void sampleRateKeepsOneInN() {
+        final BackpressurePolicy policy = new BackpressurePolicy(CAPACITY, Severity.CRIT, 0.5, 4);
+        int admitted = 0;
+        for (int i = 0; i < 40; i++) {
+            if (policy.admit(Severity.DEBUG, CAPACITY)) {
+                admitted++;
+            }
+        }
+        assertEquals(10, admitted);
+        assertEquals(30, policy.droppedCount(Severity.DEBUG));
+        // Sampling is counted per severity.
+        assertFalse(policy.admit(Severity.INFO, CAPACITY));
+    }
+
+    @Test
+    public void dropsAreCountedPerSeverity() {
+        final BackpressurePolicy policy = new BackpressurePolicy(CAPACITY, Severity.CRIT, 0.5, 0);
+        for (final Severity severity : Severity.values()) {
+            for (int i = 0; i < severity.code(); i++) {
+                policy.drop(severity);
+            }
+        }
+        for (final Severity severity : Severity.values()) {
+            assertEquals(severity.name(), severity.code(), policy.droppedCount(severity));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+/**
+ * Encodes events with {@link BinaryLayout} and checks that
+ * {@link BinaryLogDecoder} reads back the same time, level, logger, thread,
+ * message and stack trace.
+ */
+public class BinaryLayoutTest {
+    private static final long TIME = 1500000000000L;
+
+    @Test
+    public void headerIsMagicAndVersion() {
+        assertArrayEquals(new byte[] {'U', 'L', 'B', 2}, BinaryLayout.createLayout(1).getHeader());
+    }
+
+    @Test
+    public void roundTripsParametersAndPlainMessages() throws IOException {
+        final LogEvent[] events = {
+            event(TIME, Severity.INFO.level(), "app.db", "main", new SimpleMessage("started"), null),
+            event(TIME + 1, Severity.DEBUG.level(), "app.db", "main",
+                    new ParameterizedMessage("took {} ms for {}", new Object[] {12, "select"}), null),
+            event(TIME + 2, Severity.WARNING.level(), "app.web", "worker-1",
+                    new ParameterizedMessage("took {} ms for {}", new Object[] {7, null}), null),
+            event(TIME + 3, Severity.ERROR.level(), "app.web", "worker-1",
+                    new PrimitiveMessage("ratio {}", PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(0.25)),
+                    null),
+            event(TIME + 4, Severity.EMERG.level(), "app.web", "worker-1",
+                    new ParameterizedMessage("escaped \\{} but not {}", new Object[] {"this"}), null),
+            event(TIME + 5, Severity.NOTICE.level(), "app.web", "worker-1",
+                    new ParameterizedMessage("array {}", new Object[] {new int[] {1, 2}}), null),
+        };
+        assertRoundTrip(BinaryLayout.createLayout(65536), events);
+        assertEquals("escaped {} but not this", decode(file(BinaryLayout.createLayout(65536), events)).get(4)
+                .getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void repeatedNamesAreOnlyDefinedOnce() {
+        final BinaryLayout layout = BinaryLayout.createLayout(65536);
+        layout.getHeader();
+        final Message message = new ParameterizedMessage("took {} ms", new Object[] {12});
+        final int first = layout.toByteArray(event(TIME, Severity.INFO.level(), "app.db", "main", message, null))
+                .length;
+        final byte[] second = layout.toByteArray(event(TIME + 1, Severity.INFO.level(), "app.db", "main", message,
+                null));
+        // Tag, time, level, three name references, parameter count, "12" and its length, no stack trace, end.
+        assertEquals(12, second.length);
+        assertTrue(first > second.length + "app.db".length() + "main".length() + "took {} ms".length());
+    }
+
+    @Test
+    public void startsBlocksForLongGapsAndEarlierTimes() throws IOException {
+        assertRoundTrip(BinaryLayout.createLayout(65536),
+                event(TIME, Severity.INFO.level(), "a", "t", new SimpleMessage("first"), null),
+                event(TIME + BinaryLayout.MAX_DELTA_MILLIS, Severity.INFO.level(), "a", "t",
+                        new SimpleMessage("last of the block"), null),
+                event(TIME + BinaryLayout.MAX_DELTA_MILLIS + 1, Severity.INFO.level(), "a", "t",
+                        new SimpleMessage("new block"), null),
+                event(TIME - 1, Severity.INFO.level(), "a", "t", new SimpleMessage("earlier"), null),
+                event(TIME + 1000L * 86400 * 365, Severity.INFO.level(), "a", "t", new SimpleMessage("next year"),
+                        null));
+    }
+
+    @Test
+    public void roundTripsOtherLevels() throws IOException {
+        final Level custom = Level.forName("AUDIT", 275);
+        final List<LogEvent> decoded = assertRoundTrip(BinaryLayout.createLayout(65536),
+                event(TIME, Level.WARN, "a", "t", new SimpleMessage("standard level"), null),
+                event(TIME, custom, "a", "t", new SimpleMessage("custom level"), null),
+                event(TIME, custom, "a", "t", new SimpleMessage("custom level again"), null));
+        assertEquals(275, decoded.get(1).getLevel().intLevel());
+    }
+
+    @Test
+    public void roundTripsStackTraces() throws IOException {
+        final Exception thrown = new IllegalStateException("broken", new IOException("cause"));
+        final List<LogEvent> decoded = assertRoundTrip(BinaryLayout.createLayout(65536),
+                event(TIME, Severity.ERROR.level(), "a", "t", new SimpleMessage("failed"), thrown));
+        assertEquals(thrown.toString(), decoded.get(0).getThrown().toString());
+        assertEquals(stackTrace(thrown), stackTrace(decoded.get(0).getThrown()));
+    }
+
+    @Test
+    public void writesNamesInFullPastMaxNames() throws IOException {
+        final BinaryLayout layout = BinaryLayout.createLayout(2);
+        final LogEvent[] events = new LogEvent[6];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = event(TIME + i, Severity.INFO.level(), "logger" + i % 3, "thread" + i % 2,
+                    new ParameterizedMessage("template " + i % 3 + " {}", new Object[] {i}), null);
+        }
+        assertRoundTrip(layout, events);
+        assertRoundTrip(BinaryLayout.createLayout(0), events);
+    }
+
+    @Test
+    public void readsVersionOne() throws IOException {
+        // Version 1 is version 2 without the byte that ends each event.
+        final BinaryLayout layout = BinaryLayout.createLayout(65536);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] header = layout.getHeader();
+        header[3] = 1;
+        out.write(header);
+        final LogEvent[] events = {
+            event(TIME, Severity.INFO.level(), "a", "t", new ParameterizedMessage("x {}", new Object[] {1}), null),
+            event(TIME + 1, Severity.INFO.level(), "a", "t", new ParameterizedMessage("x {}", new Object[] {2}), null),
+        };
+        for (final LogEvent event : events) {
+            final byte[] encoded = layout.toByteArray(event);
+            assertEquals(BinaryLayout.EVENT_END, encoded[encoded.length - 1]);
+            out.write(encoded, 0, encoded.length - 1);
+        }
+        assertSameEvents(Arrays.asList(events), decode(out.toByteArray()));
+    }
+
+    @Test
+    public void readsConcatenatedFiles() throws IOException {
+        final BinaryLayout layout = BinaryLayout.createLayout(65536);
+        final LogEvent[] first = {
+            event(TIME, Severity.INFO.level(), "first", "t", new ParameterizedMessage("a {}", new Object[] {1}), null),
+        };
+        final LogEvent[] second = {
+            event(TIME + 1, Severity.INFO.level(), "second", "u", new ParameterizedMessage("b {}", new Object[] {2}),
+                    null),
+            event(TIME + 2, Severity.INFO.level(), "first", "t", new ParameterizedMessage("a {}", new Object[] {3}),
+                    null),
+        };
+        final ByteArrayOutputStream cat = new ByteArrayOutputStream();
+        // The second file starts a new dictionary, so its names reuse the numbers of the first.
+        cat.write(file(layout, first));
+        cat.write(file(layout, second));
+        final List<LogEvent> expected = new ArrayList<>(Arrays.asList(first));
+        expected.addAll(Arrays.asList(second));
+        assertSameEvents(expected, decode(cat.toByteArray()));
+    }
+
+    @Test
+    public void zeroBytesAfterTheLastEventEndTheStream() throws IOException {
+        final LogEvent event = event(TIME, Severity.INFO.level(), "a", "t", new SimpleMessage("last"), null);
+        final byte[] written = file(BinaryLayout.createLayout(65536), event);
+        assertSameEvents(Arrays.asList(event), decode(Arrays.copyOf(written, written.length + 100)));
+    }
+
+    private static List<LogEvent> assertRoundTrip(final BinaryLayout layout, final LogEvent... events)
+            throws IOException {
+        final List<LogEvent> decoded = decode(file(layout, events));
+        assertSameEvents(Arrays.asList(events), decoded);
+        return decoded;
+    }
+
+    private static void assertSameEvents(final List<LogEvent> expected, final List<LogEvent> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final LogEvent want = expected.get(i);
+            final LogEvent got = actual.get(i);
+            final String what = "event " + i;
+            assertEquals(what, want.getTimeMillis(), got.getTimeMillis());
+            assertEquals(what, want.getLevel(), got.getLevel());
+            assertEquals(what, want.getLoggerName(), got.getLoggerName());
+            assertEquals(what, want.getThreadName(), got.getThreadName());
+            assertEquals(what, want.getMessage().getFormattedMessage(), got.getMessage().getFormattedMessage());
+            if (want.getThrown() == null) {
+                assertNull(what, got.getThrown());
+            }
+        }
+    }
+
+    private static byte[] file(final BinaryLayout layout, final LogEvent... events) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        for (final LogEvent event : events) {
+            out.write(layout.toByteArray(event));
+        }
+        return out.toByteArray();
+    }
+
+    private static List<LogEvent> decode(final byte[] bytes) throws IOException {
+        final List<LogEvent> events = new ArrayList<>();
+        try (BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(bytes))) {
+            LogEvent event;
+            while ((event = decoder.next()) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static LogEvent event(final long timeMillis, final Level level, final String loggerName,
+            final String threadName, final Message message, final Throwable thrown) {
+        return new Log4jLogEvent(loggerName, null, null, level, message, thrown, null, null, threadName, null,
+                timeMillis);
+    }
+
+    private static String stackTrace(final Throwable thrown) {
+        final StringWriter writer = new StringWriter();
+        thrown.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
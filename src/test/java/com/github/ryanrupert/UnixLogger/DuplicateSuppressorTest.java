@@ -0,0 +1,164 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Passes events through suppressors of their own and collects the summaries
+ * they log with a list appender.
+ */
+public class DuplicateSuppressorTest {
+    private static final String FQCN = DuplicateSuppressorTest.class.getName();
+    private static final Pattern SUMMARY = Pattern.compile("last message repeated (\\d+) times?: (.*)");
+
+    private UnixLoggerWrapper target;
+    private ListAppender appender;
+
+    @Before
+    public void setUp() {
+        appender = ListAppender.attach("duplicates.test");
+        target = new UnixLoggerWrapper((ExtendedLogger) LogManager.getLogger("duplicates.test"));
+    }
+
+    @After
+    public void tearDown() {
+        appender.detach();
+    }
+
+    @Test
+    public void repeatsInTheWindowAreSummarizedOnce() throws Exception {
+        final DuplicateSuppressor suppressor = new DuplicateSuppressor(200, 100);
+        assertTrue(admit(suppressor, Level.WARN, message("took {} ms", 1)));
+        for (int i = 2; i <= 6; i++) {
+            assertFalse(admit(suppressor, Level.WARN, message("took {} ms", i)));
+        }
+        // Another level, template or throwable is another key.
+        assertTrue(admit(suppressor, Level.ERROR, message("took {} ms", 7)));
+        assertTrue(admit(suppressor, Level.WARN, message("waited {} ms", 8)));
+        assertTrue(suppressor.admit(target, FQCN, Level.WARN, null, message("took {} ms", 9),
+                new IllegalStateException()));
+        assertTrue(appender.await(1, 5, TimeUnit.SECONDS));
+        assertEquals("last message repeated 5 times: took {} ms", appender.getMessages().get(0));
+        assertEquals(Level.WARN, appender.getEvents().get(0).getLevel());
+        // The window closed, so the next one is logged and opens a new window.
+        assertTrue(admit(suppressor, Level.WARN, message("took {} ms", 10)));
+        assertFalse(admit(suppressor, Level.WARN, message("took {} ms", 11)));
+        assertTrue(appender.await(2, 5, TimeUnit.SECONDS));
+        assertEquals("last message repeated 1 time: took {} ms", appender.getMessages().get(1));
+        // Keys with nothing to report do not log a summary.
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertEquals(2, appender.getEvents().size());
+    }
+
+    @Test
+    public void summaryIsLoggedAsTheLastRepeat() throws Exception {
+        final DuplicateSuppressor suppressor = new DuplicateSuppressor(200, 100);
+        assertTrue(admit(suppressor, Level.INFO, message("request {}", 1)));
+        final AtomicLong repeatedAt = new AtomicLong();
+        final AtomicBoolean suppressed = new AtomicBoolean();
+        final Thread repeater = new Thread(() -> {
+            ThreadContext.put("request", "2");
+            ThreadContext.push("outer");
+            try {
+                repeatedAt.set(System.currentTimeMillis());
+                suppressed.set(!admit(suppressor, Level.INFO, message("request {}", 2)));
+            } finally {
+                ThreadContext.clearAll();
+            }
+        }, "repeater");
+        repeater.start();
+        repeater.join();
+        assertTrue(suppressed.get());
+        assertTrue(appender.await(1, 5, TimeUnit.SECONDS));
+        final LogEvent summary = appender.getEvents().get(0);
+        assertEquals("repeater", summary.getThreadName());
+        assertEquals("2", summary.getContextMap().get("request"));
+        assertEquals("outer", summary.getContextStack().peek());
+        assertTrue(summary.getTimeMillis() - repeatedAt.get() < 50);
+    }
+
+    @Test
+    public void keysPastMaxKeysAreNotSuppressed() {
+        final DuplicateSuppressor suppressor = new DuplicateSuppressor(60000, 2);
+        assertTrue(admit(suppressor, Level.INFO, message("first {}", 1)));
+        assertTrue(admit(suppressor, Level.INFO, message("second {}", 1)));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(admit(suppressor, Level.INFO, message("third {}", i)));
+            assertFalse(admit(suppressor, Level.INFO, message("first {}", i)));
+            assertFalse(admit(suppressor, Level.INFO, message("second {}", i)));
+        }
+    }
+
+    @Test
+    public void noRepeatIsLostWhileTheSweeperRetiresKeys() throws Exception {
+        // A window this short has the sweeper retiring the key while the producers count repeats on it.
+        final DuplicateSuppressor suppressor = new DuplicateSuppressor(1, 100);
+        final int producers = 4;
+        final int events = 20000;
+        final AtomicLong admitted = new AtomicLong();
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < events; i++) {
+                    if (admit(suppressor, Level.INFO, message("busy {}", i))) {
+                        admitted.incrementAndGet();
+                    }
+                    if (i % 1000 == 0) {
+                        // Let the key go idle now and then.
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(3));
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long total;
+        do {
+            TimeUnit.MILLISECONDS.sleep(10);
+            total = admitted.get() + summarized();
+        } while (total < producers * events && System.nanoTime() < deadline);
+        assertEquals(producers * events, total);
+    }
+
+    private long summarized() {
+        long repeats = 0;
+        for (final String text : appender.getMessages()) {
+            final Matcher matcher = SUMMARY.matcher(text);
+            assertTrue(text, matcher.matches());
+            repeats += Long.parseLong(matcher.group(1));
+        }
+        return repeats;
+    }
+
+    private boolean admit(final DuplicateSuppressor suppressor, final Level level, final Message message) {
+        return suppressor.admit(target, FQCN, level, null, message, null);
+    }
+
+    private static Message message(final String format, final Object parameter) {
+        return new ParameterizedMessage(format, new Object[] {parameter});
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.junit.Test;
+
+/**
+ * Logs at {@code CRIT}, which no other test uses, with messages that take a
+ * while to build, and checks that the CALL stage includes building them.
+ */
+public class LatencyHistogramsTest {
+    private static final long SLOW_MILLIS = 20;
+
+    private final Logger logger = Logger.create("latency.test");
+
+    @Test
+    public void callIsTimedFromTheLevelCheck() {
+        LatencyHistograms.snapshot(LatencyHistograms.Stage.CALL, Severity.CRIT, true);
+        logger.crit(() -> {
+            sleep();
+            return "supplied";
+        });
+        logger.crit("formatted {}", slowParameter());
+        final UnixLoggerWrapper wrapper = new UnixLoggerWrapper((ExtendedLogger) LogManager.getLogger("latency.test"));
+        wrapper.log(Severity.CRIT.level(), "formatted by the wrapper {}", slowParameter());
+        final LatencySnapshot calls = LatencyHistograms.snapshot(LatencyHistograms.Stage.CALL, Severity.CRIT, true);
+        assertEquals(3, calls.getCount());
+        assertTrue(calls.toString(), calls.getValueAtPercentile(0) >= TimeUnit.MILLISECONDS.toNanos(SLOW_MILLIS));
+    }
+
+    private static Object slowParameter() {
+        return new Object() {
+            @Override
+            public String toString() {
+                sleep();
+                return "parameter";
+            }
+        };
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(SLOW_MILLIS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.ryanrupert.UnixLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+
+/**
+ * Collects the events appended to it, with their messages formatted at once
+ * since messages may be reused after the call.
+ */
+class ListAppender extends AbstractAppender {
+    private static final long serialVersionUID = 1L;
+
+    private final transient org.apache.logging.log4j.core.Logger logger;
+    private final List<LogEvent> events = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
+
+    private ListAppender(final org.apache.logging.log4j.core.Logger logger) {
+        super("list", null, null);
+        this.logger = logger;
+    }
+
+    /**
+     * Starts collecting the events of a Log4j logger, and only those: the
+     * logger is made non-additive and enabled for every level.
+     *
+     * @param loggerName The logger name.
+     * @return The appender, to be detached after the test.
+     */
+    static ListAppender attach(final String loggerName) {
+        final org.apache.logging.log4j.core.Logger logger =
+                (org.apache.logging.log4j.core.Logger) LogManager.getLogger(loggerName);
+        final ListAppender appender = new ListAppender(logger);
+        appender.start();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+        logger.setLevel(Level.ALL);
+        return appender;
+    }
+
+    /**
+     * Stops collecting events.
+     */
+    void detach() {
+        logger.removeAppender(this);
+        stop();
+    }
+
+    @Override
+    public synchronized void append(final LogEvent event) {
+        events.add(event);
+        messages.add(event.getMessage() == null ? null : event.getMessage().getFormattedMessage());
+        notifyAll();
+    }
+
+    /**
+     * Returns the events collected so far.
+     */
+    synchronized List<LogEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * Returns the formatted messages of the events collected so far.
+     */
+    synchronized List<String> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    /**
+     * Waits until at least the given number of events have been collected.
+     *
+     * @return {@code false} if the time ran out first.
+     */
+    synchronized boolean await(final int count, final long timeout, final TimeUnit unit)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (events.size() < count) {
+            final long left = deadline - System.nanoTime();
+            if (left <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, left);
+        }
+        return true;
+    }
+}
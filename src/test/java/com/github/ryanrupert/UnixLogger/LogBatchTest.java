@@ -0,0 +1,248 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.appender.AbstractOutputStreamAppender;
+import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.core.appender.OutputStreamManager;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Logs batches through logger configurations of their own, added to the
+ * test configuration, with appenders that count, block or throw.
+ */
+public class LogBatchTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final LoggerContext context = (LoggerContext) LogManager.getContext(false);
+    private final Configuration config = context.getConfiguration();
+    private final List<String> loggerNames = new ArrayList<>();
+    private final List<Appender> appenders = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (final String name : loggerNames) {
+            config.removeLogger(name);
+        }
+        context.updateLoggers();
+        for (final Appender appender : appenders) {
+            appender.stop();
+        }
+    }
+
+    @Test
+    public void forcesAndFlushesOncePerBatch() throws IOException {
+        final MappedFileAppender mapped = mapped("mapped", "ERROR");
+        final CountingStreamAppender stream = start(new CountingStreamAppender());
+        final LoggerConfig loggerConfig = loggerConfig("batch.flush", false);
+        loggerConfig.addAppender(mapped, null, null);
+        loggerConfig.addAppender(stream, null, null);
+        final Logger logger = Logger.create("batch.flush");
+        final LogBatch batch = logger.batch();
+        for (int i = 0; i < 5; i++) {
+            batch.add(Severity.ERROR, "event {}", i);
+        }
+        assertEquals(5, batch.size());
+        batch.log();
+        assertEquals(0, batch.size());
+        assertEquals(1, mapped.getForceCount());
+        assertEquals(1, stream.getManager().flushes);
+        assertEquals("event 0\nevent 1\nevent 2\nevent 3\nevent 4\n", stream.getManager().text());
+        // Without a batch, each event at the force level forces, and the stream is never flushed.
+        for (int i = 0; i < 3; i++) {
+            logger.error("single {}", i);
+        }
+        assertEquals(4, mapped.getForceCount());
+        assertEquals(1, stream.getManager().flushes);
+        mapped.stop();
+        assertEquals(Arrays.asList("event 0", "event 1", "event 2", "event 3", "event 4", "single 0", "single 1",
+                "single 2"), lines(mapped));
+    }
+
+    @Test
+    public void appliesAppenderRefLevelsAndAdditivity() {
+        final Collector parentAppender = start(new Collector("parent"));
+        final Collector childAppender = start(new Collector("child"));
+        loggerConfig("batch.tree", false).addAppender(parentAppender, null, null);
+        final LoggerConfig child = loggerConfig("batch.tree.child", true);
+        child.addAppender(childAppender, Severity.ERROR.level(), null);
+        final Logger logger = Logger.create("batch.tree.child");
+        logger.batch().add(Severity.INFO, "info").add(Severity.ERROR, "error").add(Severity.EMERG, "emerg").log();
+        assertEquals(Arrays.asList("error", "emerg"), childAppender.messages);
+        assertEquals(Arrays.asList("info", "error", "emerg"), parentAppender.messages);
+
+        child.setAdditive(false);
+        logger.batch().add(Severity.CRIT, "crit").log();
+        assertEquals(Arrays.asList("error", "emerg", "crit"), childAppender.messages);
+        assertEquals(3, parentAppender.messages.size());
+    }
+
+    @Test
+    public void releasesTheLocksWhenAnAppenderThrows() throws Exception {
+        final MappedFileAppender mapped = mapped("mapped", "OFF");
+        final LoggerConfig loggerConfig = loggerConfig("batch.throws", false);
+        loggerConfig.addAppender(mapped, null, null);
+        loggerConfig.addAppender(start(new Collector("throwing")), null, null);
+        final LogBatch batch = Logger.create("batch.throws").batch().add(Severity.INFO, "before")
+                .add(Severity.INFO, "boom").add(Severity.INFO, "after");
+        try {
+            batch.log();
+            fail("The appender did not throw");
+        } catch (final AppenderLoggingException ex) {
+            assertEquals("boom", ex.getMessage());
+        }
+        assertEquals(0, batch.size());
+        final Thread other = new Thread(() -> mapped.append(event("other")));
+        other.start();
+        other.join(5000);
+        assertFalse("the lock is still held", other.isAlive());
+    }
+
+    @Test
+    public void otherThreadsWaitForTheBatch() throws Exception {
+        final MappedFileAppender mapped = mapped("mapped", "OFF");
+        final Collector gate = start(new Collector("gate"));
+        final LoggerConfig loggerConfig = loggerConfig("batch.order", false);
+        loggerConfig.addAppender(mapped, null, null);
+        loggerConfig.addAppender(gate, null, null);
+        final LogBatch batch = Logger.create("batch.order").batch().add(Severity.INFO, "1")
+                .add(Severity.INFO, "gate").add(Severity.INFO, "2");
+        final Thread batchThread = new Thread(batch::log);
+        batchThread.start();
+        assertTrue(gate.entered.await(5, TimeUnit.SECONDS));
+        final Thread other = new Thread(() -> mapped.append(event("other")));
+        other.start();
+        other.join(200);
+        assertTrue("appended during the batch", other.isAlive());
+        gate.open.countDown();
+        batchThread.join(5000);
+        other.join(5000);
+        mapped.stop();
+        assertEquals(Arrays.asList("1", "gate", "2", "other"), lines(mapped));
+    }
+
+    private LoggerConfig loggerConfig(final String name, final boolean additive) {
+        final LoggerConfig loggerConfig = new LoggerConfig(name, Level.ALL, additive);
+        config.addLogger(name, loggerConfig);
+        context.updateLoggers();
+        loggerNames.add(name);
+        return loggerConfig;
+    }
+
+    private MappedFileAppender mapped(final String name, final String forceLevel) {
+        return start(MappedFileAppender.createAppender(name, new File(folder.getRoot(), name + ".log").getPath(),
+                false, 64 * 1024, 0, forceLevel, 0, "NONE", 0, false, 0, 0, true, layout(), null));
+    }
+
+    private <T extends Appender> T start(final T appender) {
+        appender.start();
+        appenders.add(appender);
+        return appender;
+    }
+
+    private static List<String> lines(final MappedFileAppender appender) throws IOException {
+        return Files.readAllLines(new File(appender.getFileName()).toPath(), StandardCharsets.UTF_8);
+    }
+
+    private static PatternLayout layout() {
+        return PatternLayout.createLayout("%m%n", null, null, StandardCharsets.UTF_8, true, false, null, null);
+    }
+
+    private static LogEvent event(final String text) {
+        return new Log4jLogEvent("batch", null, null, Severity.INFO.level(), new SimpleMessage(text), null, null,
+                null, Thread.currentThread().getName(), null, System.currentTimeMillis());
+    }
+
+    /**
+     * Collects messages, and depending on its name throws on {@code boom} or
+     * waits to be opened on {@code gate}.
+     */
+    private static final class Collector extends AbstractAppender {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch open = new CountDownLatch(1);
+
+        Collector(final String name) {
+            super(name, null, null, false);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            final String text = event.getMessage().getFormattedMessage();
+            if ("throwing".equals(getName()) && "boom".equals(text)) {
+                throw new AppenderLoggingException("boom");
+            }
+            if ("gate".equals(getName()) && "gate".equals(text)) {
+                entered.countDown();
+                try {
+                    open.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(text);
+        }
+    }
+
+    /**
+     * A stream appender without immediate flush, counting the flushes of its
+     * manager.
+     */
+    private static final class CountingStreamAppender extends AbstractOutputStreamAppender<CountingManager> {
+        private static final long serialVersionUID = 1L;
+
+        CountingStreamAppender() {
+            super("stream", layout(), null, false, false, new CountingManager(layout()));
+        }
+    }
+
+    private static final class CountingManager extends OutputStreamManager {
+        private int flushes;
+
+        CountingManager(final Layout<? extends Serializable> layout) {
+            super(new ByteArrayOutputStream(), "counting", layout);
+        }
+
+        @Override
+        public synchronized void flush() {
+            flushes++;
+            super.flush();
+        }
+
+        synchronized String text() {
+            return new String(((ByteArrayOutputStream) getOutputStream()).toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
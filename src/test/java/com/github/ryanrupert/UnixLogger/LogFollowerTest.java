@@ -0,0 +1,152 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.LogEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Follows a file in a temporary directory, written in the default layout,
+ * and collects the events into a queue.
+ */
+public class LogFollowerTest {
+    private static final String TIME = "2026-10-16 12:00:00,250";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final BlockingQueue<LogEvent> events = new LinkedBlockingQueue<>();
+    private Path log;
+    private LogFollower follower;
+
+    @Before
+    public void setUp() {
+        log = folder.getRoot().toPath().resolve("app.log");
+    }
+
+    @After
+    public void tearDown() {
+        if (follower != null) {
+            follower.close();
+        }
+    }
+
+    @Test
+    public void readsFromTheEndUnlessToldOtherwise() throws Exception {
+        append(log, line("INFO", "old"));
+        start(new LogFollower(log));
+        append(log, line("INFO", "new"));
+        assertEquals("new", next().getMessage().getFormattedMessage());
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void parsesTheDefaultLayout() throws Exception {
+        append(log, line("WARN", "first"));
+        start(new LogFollower(log).fromStart());
+        final LogEvent event = next();
+        assertEquals("app.Follow", event.getLoggerName());
+        assertEquals("first", event.getMessage().getFormattedMessage());
+        assertEquals(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS").parse(TIME).getTime(), event.getTimeMillis());
+    }
+
+    @Test
+    public void mapsLevelsToSeverities() throws Exception {
+        final String[] names = {"EMERG", "ALERT", "CRIT", "ERROR", "WARNING", "NOTICE", "INFO", "DEBUG", "WARN",
+            "FATAL", "TRACE", "UNKNOWN"};
+        // Log4j's own levels go to the severity of the same or the next lower intLevel, unknown names to INFO.
+        final Severity[] expected = {Severity.EMERG, Severity.ALERT, Severity.CRIT, Severity.ERROR,
+            Severity.WARNING, Severity.NOTICE, Severity.INFO, Severity.DEBUG, Severity.NOTICE, Severity.ALERT,
+            Severity.DEBUG, Severity.INFO};
+        final StringBuilder text = new StringBuilder();
+        for (final String name : names) {
+            text.append(line(name, name));
+        }
+        append(log, text.toString());
+        start(new LogFollower(log).fromStart());
+        for (int i = 0; i < names.length; i++) {
+            final LogEvent event = next();
+            assertEquals(names[i], event.getMessage().getFormattedMessage());
+            assertEquals(names[i], expected[i].level(), event.getLevel());
+        }
+    }
+
+    @Test
+    public void continuationLinesBelongToTheEventBeforeThem() throws Exception {
+        start(new LogFollower(log).fromStart());
+        append(log, line("ERROR", "failed") + "java.lang.IllegalStateException: broken\r\n"
+                + "\tat app.Follow.run(Follow.java:10)\n" + line("INFO", "next"));
+        assertEquals("failed" + System.lineSeparator() + "java.lang.IllegalStateException: broken"
+                + System.lineSeparator() + "\tat app.Follow.run(Follow.java:10)", next().getMessage()
+                .getFormattedMessage());
+        assertEquals("next", next().getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void followsTheFileWhenItIsRolledOver() throws Exception {
+        append(log, line("INFO", "one"));
+        start(new LogFollower(log).fromStart());
+        assertEquals("one", next().getMessage().getFormattedMessage());
+        // Written just before the rollover, and only read from the renamed file.
+        append(log, line("INFO", "two"));
+        Files.move(log, log.resolveSibling("app.log.1"));
+        append(log, line("INFO", "three"));
+        assertEquals("two", next().getMessage().getFormattedMessage());
+        assertEquals("three", next().getMessage().getFormattedMessage());
+        append(log, line("INFO", "four"));
+        assertEquals("four", next().getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void truncatedFileIsReadFromTheStart() throws Exception {
+        append(log, line("INFO", "a rather long first event") + line("INFO", "and a second one"));
+        start(new LogFollower(log).fromStart());
+        next();
+        next();
+        Files.write(log, line("INFO", "after").getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+        assertEquals("after", next().getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void stopsAtTheUnwrittenPartOfAMappedFile() throws Exception {
+        final byte[] text = line("INFO", "mapped").getBytes(StandardCharsets.UTF_8);
+        Files.write(log, Arrays.copyOf(text, 4096));
+        start(new LogFollower(log).fromStart());
+        assertEquals("mapped", next().getMessage().getFormattedMessage());
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    private void start(final LogFollower created) throws IOException {
+        follower = created.pollIntervalMillis(20).start(events::add);
+    }
+
+    private LogEvent next() throws InterruptedException {
+        final LogEvent event = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull("no event", event);
+        return event;
+    }
+
+    private static String line(final String level, final String message) {
+        return TIME + " " + level + " app.Follow - " + message + "\n";
+    }
+
+    private static void append(final Path file, final String text) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Writes an indexed log with {@link MappedFileAppender} and reads it back
+ * with {@link LogQuery}. Each event is the line {@code <n> <logger>}, and
+ * events 0 to 11 are one millisecond apart, with severities and loggers in
+ * turn.
+ */
+public class LogQueryTest {
+    private static final long TIME = 1500000000000L;
+    private static final Severity[] SEVERITIES = {Severity.DEBUG, Severity.INFO, Severity.WARNING, Severity.ERROR};
+    private static final String[] LOGGERS = {"app.db", "app.db.pool", "app.dbx"};
+    private static final int EVENTS = 12;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path log;
+
+    @Before
+    public void setUp() {
+        log = folder.getRoot().toPath().resolve("app.log");
+        // Blocks of four events.
+        final MappedFileAppender appender = MappedFileAppender.createAppender("mapped", log.toString(), true,
+                64 * 1024, 0, "ERROR", 0, "NONE", 0, false, 0, 40, true,
+                PatternLayout.createLayout("%m%n", null, null, null, true, false, null, null), null);
+        appender.start();
+        for (int i = 0; i < EVENTS; i++) {
+            final String logger = LOGGERS[i % LOGGERS.length];
+            appender.append(new Log4jLogEvent(logger, null, null, SEVERITIES[i % SEVERITIES.length].level(),
+                    new SimpleMessage(i + " " + logger), null, null, null, "main", null, TIME + i));
+        }
+        appender.stop();
+    }
+
+    @Test
+    public void indexStartsWithTheFirstBlockOfTheLog() throws IOException {
+        final ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(LogQuery.indexOf(log)));
+        final byte[] magic = new byte[4];
+        index.get(magic);
+        assertArrayEquals(new byte[] {'U', 'L', 'I', 1}, magic);
+        assertEquals(0, index.getLong());
+        assertEquals(TIME, index.getLong());
+        assertEquals(TIME, index.getLong());
+        // "0 app.db\n" to "3 app.db\n" is 42 bytes, so the first block ends with event 3.
+        assertEquals(TIME + 3, index.getLong());
+        assertEquals(1 << Severity.DEBUG.code() | 1 << Severity.INFO.code() | 1 << Severity.WARNING.code()
+                | 1 << Severity.ERROR.code(), index.get() & 0xFF);
+        assertEquals(LOGGERS.length, index.get());
+        for (final String logger : LOGGERS) {
+            assertEquals(logger.length(), index.get());
+            final byte[] name = new byte[logger.length()];
+            index.get(name);
+            assertEquals(logger, new String(name, StandardCharsets.US_ASCII));
+        }
+        assertEquals(4, index.get());
+        assertEquals(4 * 4, index.get());
+        // Length, time difference, severity code and name number of event 1.
+        index.position(index.position() + 4);
+        assertArrayEquals(new byte[] {14, 2, (byte) Severity.INFO.code(), 1}, new byte[] {index.get(), index.get(),
+            index.get(), index.get()});
+    }
+
+    @Test
+    public void matchesEverythingByDefault() throws IOException {
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), query(new LogQuery(log)));
+    }
+
+    @Test
+    public void timeRangeIncludesFromAndExcludesTo() throws IOException {
+        assertEquals(Arrays.asList(5, 6, 7), query(new LogQuery(log).from(TIME + 5).to(TIME + 8)));
+        assertEquals(Arrays.asList(), query(new LogQuery(log).from(TIME + EVENTS)));
+        assertEquals(Arrays.asList(), query(new LogQuery(log).to(TIME)));
+    }
+
+    @Test
+    public void severityMatchesItAndMoreSevere() throws IOException {
+        assertEquals(Arrays.asList(2, 3, 6, 7, 10, 11), query(new LogQuery(log).atLeast(Severity.WARNING)));
+        assertEquals(Arrays.asList(3, 7, 11), query(new LogQuery(log).atLeast(Severity.ERROR)));
+        assertEquals(Arrays.asList(), query(new LogQuery(log).atLeast(Severity.CRIT)));
+    }
+
+    @Test
+    public void loggerMatchesItAndItsDescendants() throws IOException {
+        assertEquals(Arrays.asList(0, 1, 3, 4, 6, 7, 9, 10), query(new LogQuery(log).logger("app.db")));
+        assertEquals(Arrays.asList(2, 5, 8, 11), query(new LogQuery(log).logger("app.dbx")));
+        assertEquals(Arrays.asList(), query(new LogQuery(log).logger("app.d")));
+        assertEquals(Arrays.asList(3, 7), query(new LogQuery(log).logger("app.db").atLeast(Severity.ERROR)
+                .from(TIME + 2)));
+    }
+
+    @Test
+    public void truncatedLastBlockIsIgnored() throws IOException {
+        final List<Integer> all = query(new LogQuery(log));
+        try (RandomAccessFile index = new RandomAccessFile(LogQuery.indexOf(log).toFile(), "rw")) {
+            index.setLength(index.length() - 3);
+        }
+        final List<Integer> found = query(new LogQuery(log));
+        assertTrue(found.size() < all.size());
+        assertEquals(all.subList(0, found.size()), found);
+        assertTrue(found.size() >= 8);
+    }
+
+    @Test
+    public void corruptBlockIsReported() throws IOException {
+        final byte[] index = Files.readAllBytes(LogQuery.indexOf(log));
+        // The table length of the first block, now longer than its events.
+        final int tableLength = 4 + 8 * 4 + 1 + 1 + 3 + "app.db".length() + "app.db.pool".length()
+                + "app.dbx".length() + 1;
+        assertEquals(16, index[tableLength]);
+        index[tableLength] = 17;
+        Files.write(LogQuery.indexOf(log), index);
+        try {
+            query(new LogQuery(log));
+            fail("Corrupt index was read");
+        } catch (final IOException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("Corrupt block at byte 4 of "));
+        }
+    }
+
+    @Test
+    public void replacedLogOnlyMatchesWhatItStillHolds() throws IOException {
+        // Long enough for the first block and part of the second.
+        Files.write(log, Arrays.copyOf(Files.readAllBytes(log), 60));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), query(new LogQuery(log)));
+        Files.write(log, new byte[0]);
+        assertEquals(Arrays.asList(), query(new LogQuery(log)));
+    }
+
+    private static List<Integer> query(final LogQuery query) throws IOException {
+        final List<Integer> numbers = new ArrayList<>();
+        final long count = query.forEach(event -> {
+            final String line = StandardCharsets.UTF_8.decode(event).toString();
+            assertTrue(line, line.endsWith("\n"));
+            numbers.add(Integer.valueOf(line.substring(0, line.indexOf(' '))));
+        });
+        assertEquals(numbers.size(), count);
+        return numbers;
+    }
+}
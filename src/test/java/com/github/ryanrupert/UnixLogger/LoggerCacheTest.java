@@ -0,0 +1,79 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.junit.Test;
+
+/**
+ * Checks that cached Loggers are only shared within a logger context, using
+ * a copy of a class defined by a loader that gets a context of its own.
+ */
+public class LoggerCacheTest {
+
+    @Test
+    public void sameNameIsCached() {
+        assertSame(Logger.create("cache.name"), Logger.create("cache.name"));
+        assertSame(Logger.create(Named.class), Logger.create(Named.class));
+        final MessageFactory factory = new ParameterizedMessageFactory();
+        assertSame(Logger.create("cache.factory", factory), Logger.create("cache.factory", factory));
+        assertNotSame(Logger.create("cache.name"), Logger.createAsync("cache.name"));
+    }
+
+    @Test
+    public void sameClassNameInAnotherContextGetsItsOwnLogger() throws Exception {
+        final Class<?> copy = new IsolatedLoader().copy(Named.class);
+        assertEquals(Named.class.getName(), copy.getName());
+        assertNotSame(LogManager.getContext(Named.class.getClassLoader(), false),
+                LogManager.getContext(copy.getClassLoader(), false));
+        final Logger logger = Logger.create(copy);
+        assertNotSame(Logger.create(Named.class), logger);
+        assertSame(logger, Logger.create(copy));
+    }
+
+    @Test
+    public void stoppedContextIsNotReused() throws Exception {
+        final Class<?> copy = new IsolatedLoader().copy(Named.class);
+        final Logger logger = Logger.create(copy);
+        ((LoggerContext) LogManager.getContext(copy.getClassLoader(), false)).stop();
+        final Logger replaced = Logger.create(copy);
+        assertNotSame(logger, replaced);
+        assertSame(replaced, Logger.create(copy));
+    }
+
+    /**
+     * A class to copy into another loader.
+     */
+    public static final class Named {
+    }
+
+    /**
+     * Defines copies of classes without delegating to the application class
+     * loader, which already has a logger context.
+     */
+    private static final class IsolatedLoader extends ClassLoader {
+        IsolatedLoader() {
+            super(null);
+        }
+
+        Class<?> copy(final Class<?> clazz) throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (InputStream in = clazz.getResourceAsStream("/" + clazz.getName().replace('.', '/') + ".class")) {
+                final byte[] buffer = new byte[4096];
+                for (int n; (n = in.read(buffer)) >= 0;) {
+                    bytes.write(buffer, 0, n);
+                }
+            }
+            final byte[] code = bytes.toByteArray();
+            return defineClass(clazz.getName(), code, 0, code.length);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Writes to a file in a temporary directory, with events carrying the times
+ * that drive the rollover.
+ */
+public class MappedFileAppenderTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void dailyRolloverIsNamedAfterTheDayItHolds() {
+        final File file = new File(folder.getRoot(), "app.log");
+        final MappedFileAppender appender = MappedFileAppender.createAppender("mapped", file.getPath(), true,
+                64 * 1024, 0, "ERROR", 0, "DAILY", 0, false, 0, 0, true,
+                PatternLayout.createLayout("%m%n", null, null, null, true, false, null, null), null);
+        appender.start();
+        final long today = System.currentTimeMillis();
+        final long dayAfterTomorrow = today + TimeUnit.DAYS.toMillis(2);
+        appender.append(event(today, "first"));
+        appender.append(event(dayAfterTomorrow, "second"));
+        appender.stop();
+        final String[] names = folder.getRoot().list();
+        Arrays.sort(names);
+        final String day = new SimpleDateFormat("yyyyMMdd").format(new Date(today));
+        assertArrayEquals(new String[] {"app.log", "app.log." + day}, stripTime(names));
+    }
+
+    private static String[] stripTime(final String[] names) {
+        final String[] stripped = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            // Rolled over files end in .yyyyMMdd-HHmmss-SSS.
+            stripped[i] = names[i].replaceAll("-\\d{6}-\\d{3}$", "");
+        }
+        return stripped;
+    }
+
+    private static LogEvent event(final long timeMillis, final String text) {
+        return new Log4jLogEvent("test", null, "test", Severity.INFO.level(), new SimpleMessage(text), null, null,
+                null, Thread.currentThread().getName(), null, timeMillis);
+    }
+}
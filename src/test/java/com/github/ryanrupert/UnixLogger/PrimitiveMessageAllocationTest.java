@@ -0,0 +1,134 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.message.Message;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that the primitive overloads of the level methods do not allocate
+ * for their parameter, using the bytes allocated by the current thread.
+ *
+ * <p>Log4j 2.1 creates a {@code LogEvent} for every enabled event, so an
+ * enabled call is compared with the same call without a parameter rather
+ * than with zero. Messages are reused, as the test resources set
+ * {@code UnixLogger.GarbageFree=true}, and appended to a reused StringBuilder
+ * by the test appender, so that only the parameter can make a difference.</p>
+ */
+public class PrimitiveMessageAllocationTest {
+    private static final int WARM_UP = 50000;
+    private static final int CALLS = 100000;
+    private static final int ROUNDS = 5;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static org.apache.logging.log4j.core.Logger coreLogger;
+    private static FormattingAppender appender;
+    private static Logger logger;
+
+    @BeforeClass
+    public static void setUp() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        coreLogger = (org.apache.logging.log4j.core.Logger) LogManager.getLogger("allocation");
+        appender = new FormattingAppender();
+        appender.start();
+        coreLogger.addAppender(appender);
+        coreLogger.setAdditive(false);
+        coreLogger.setLevel(Severity.INFO.level());
+        logger = Logger.create("allocation");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        coreLogger.removeAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    public void disabledLevelDoesNotAllocate() {
+        assertEquals(0.0, bytesPerCall(i -> {
+            logger.debug("took {} ms", (long) i);
+            logger.debug("ratio {}", i * 0.5);
+            logger.debug("flag {}", 'x');
+        }), 0.01);
+    }
+
+    @Test
+    public void enabledLevelAllocatesNothingForTheParameter() {
+        assertTrue("messages are reused", ReusableMessage.ENABLED);
+        final double first = bytesPerCall(i -> logger.info("took some ms"));
+        final long before = appender.events;
+        final double withLong = bytesPerCall(i -> logger.info("took {} ms", 1000L + i));
+        final double withDouble = bytesPerCall(i -> logger.info("ratio {}", i * 0.5));
+        final double withChar = bytesPerCall(i -> logger.info("flag {}", (char) ('a' + i % 26)));
+        assertEquals(3L * (WARM_UP + ROUNDS * CALLS), appender.events - before);
+        final double boxed = bytesPerCall(i -> logger.info("took {} ms", (Object) Long.valueOf(1000L + i)));
+        // The call without a parameter is measured again, since code compiled while other tests ran can make one
+        // of the measurements see allocations the compiler later removes.
+        final double baseline = Math.min(first, bytesPerCall(i -> logger.info("took some ms")));
+        assertEquals(baseline, withLong, 1.0);
+        assertEquals(baseline, withDouble, 1.0);
+        assertEquals(baseline, withChar, 1.0);
+        // The same measurement sees the Long a boxed parameter needs.
+        assertTrue(boxed >= baseline + 16);
+    }
+
+    private static double bytesPerCall(final Call call) {
+        for (int i = 0; i < WARM_UP; i++) {
+            call.run(i);
+        }
+        // The least of several rounds, since the first ones may still see the compiler at work.
+        final long threadId = Thread.currentThread().getId();
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long start = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALLS; i++) {
+                call.run(i);
+            }
+            least = Math.min(least, threads.getThreadAllocatedBytes(threadId) - start);
+        }
+        return least / (double) CALLS;
+    }
+
+    /**
+     * A logging call.
+     */
+    private interface Call {
+        void run(int i);
+    }
+
+    /**
+     * Formats each message the way {@link SharedPatternLayout} does, without
+     * creating a String.
+     */
+    private static final class FormattingAppender extends AbstractAppender {
+        private static final long serialVersionUID = 1L;
+
+        private final StringBuilder text = new StringBuilder();
+        private long events;
+
+        FormattingAppender() {
+            super("formatting", null, null);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            final Message message = event.getMessage();
+            text.setLength(0);
+            if (message instanceof ReusableMessage) {
+                ((ReusableMessage) message).formatTo(text);
+            } else if (message instanceof PrimitiveMessage) {
+                ((PrimitiveMessage) message).formatTo(text);
+            } else {
+                text.append(message.getFormattedMessage());
+            }
+            events++;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Sets the rules as system properties, for logger names used by one test
+ * only since buckets and samplers are shared by every limiter of a rule.
+ */
+public class RateLimiterTest {
+    private final List<String> properties = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (final String key : properties) {
+            System.clearProperty(key);
+        }
+    }
+
+    @Test
+    public void noRuleNoLimiter() {
+        assertNull(RateLimiter.forLogger("limits.none"));
+    }
+
+    @Test
+    public void burstIsAdmittedAtOnce() {
+        set("UnixLogger.RateLimit.INFO.limits.burst", "1/5");
+        final RateLimiter limiter = RateLimiter.forLogger("limits.burst");
+        for (int i = 0; i < 5; i++) {
+            assertTrue("event " + i, limiter.tryAcquire(Severity.INFO.level()));
+        }
+        assertFalse(limiter.tryAcquire(Severity.INFO.level()));
+        // Other severities have no rule.
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(Severity.DEBUG.level()));
+        }
+    }
+
+    @Test
+    public void admitsTheRateOverTime() {
+        set("UnixLogger.RateLimit.WARNING.limits.rate", "100/1");
+        final RateLimiter limiter = RateLimiter.forLogger("limits.rate");
+        final long start = System.nanoTime();
+        int admitted = 0;
+        while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500)) {
+            if (limiter.tryAcquire(Severity.WARNING.level())) {
+                admitted++;
+            }
+        }
+        final long expected = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / 10;
+        assertTrue(admitted + " admitted in about " + expected + " intervals",
+                admitted <= expected + 1 && admitted >= expected * 8 / 10);
+    }
+
+    @Test
+    public void samplingKeepsTheFirstOfEachN() {
+        set("UnixLogger.Sampling.DEBUG.limits.sampling", "4");
+        final RateLimiter limiter = RateLimiter.forLogger("limits.sampling");
+        for (int i = 0; i < 12; i++) {
+            assertEquals("event " + i, i % 4 == 0, limiter.tryAcquire(Severity.DEBUG.level()));
+        }
+    }
+
+    @Test
+    public void suppressedEventsAreCountedPerSeverity() {
+        set("UnixLogger.Sampling.NOTICE.limits.counted", "2");
+        set("UnixLogger.RateLimit.ERROR.limits.counted", "1/3");
+        final long notice = RateLimiter.suppressedCount(Severity.NOTICE);
+        final long error = RateLimiter.suppressedCount(Severity.ERROR);
+        final long info = RateLimiter.suppressedCount(Severity.INFO);
+        final RateLimiter limiter = RateLimiter.forLogger("limits.counted");
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(Severity.NOTICE.level());
+            limiter.tryAcquire(Severity.ERROR.level());
+            limiter.tryAcquire(Severity.INFO.level());
+        }
+        assertEquals(5, RateLimiter.suppressedCount(Severity.NOTICE) - notice);
+        assertEquals(7, RateLimiter.suppressedCount(Severity.ERROR) - error);
+        assertEquals(0, RateLimiter.suppressedCount(Severity.INFO) - info);
+    }
+
+    @Test
+    public void closestRuleAppliesAndIsShared() {
+        set("UnixLogger.RateLimit.INFO.limits.tree", "1/2");
+        set("UnixLogger.RateLimit.INFO.limits.tree.own", "1/3");
+        final RateLimiter first = RateLimiter.forLogger("limits.tree.first");
+        final RateLimiter second = RateLimiter.forLogger("limits.tree.second.child");
+        final RateLimiter own = RateLimiter.forLogger("limits.tree.own.child");
+        // The limits.tree bucket holds two events for both loggers together.
+        assertTrue(first.tryAcquire(Severity.INFO.level()));
+        assertTrue(second.tryAcquire(Severity.INFO.level()));
+        assertFalse(first.tryAcquire(Severity.INFO.level()));
+        assertFalse(second.tryAcquire(Severity.INFO.level()));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(own.tryAcquire(Severity.INFO.level()));
+        }
+        assertFalse(own.tryAcquire(Severity.INFO.level()));
+    }
+
+    @Test
+    public void invalidRulesAreIgnored() {
+        set("UnixLogger.RateLimit.INFO.limits.invalid", "fast");
+        set("UnixLogger.RateLimit.DEBUG.limits.invalid", "0/5");
+        set("UnixLogger.Sampling.NOTICE.limits.invalid", "often");
+        assertNull(RateLimiter.forLogger("limits.invalid"));
+    }
+
+    private void set(final String key, final String value) {
+        System.setProperty(key, value);
+        properties.add(key);
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Checks that {@link SharedPatternLayout} writes what {@link PatternLayout}
+ * writes for the same pattern, and that what it caches for one event is
+ * never returned for the next.
+ */
+public class SharedPatternLayoutTest {
+    private static final String PATTERN = "%d{HH:mm:ss.SSS} %-5level %logger{1} [%t] %X{id} %-12msg|%.4msg%n";
+    private static final long TIME = 1500000000000L;
+
+    private final Configuration config = ((LoggerContext) LogManager.getContext(false)).getConfiguration();
+
+    @After
+    public void tearDown() {
+        System.clearProperty("shared.layout.test");
+    }
+
+    @Test
+    public void writesWhatPatternLayoutWrites() {
+        final ReusableMessage reusable = ReusableMessage.acquire();
+        try {
+            reusable.setParameters("reused {} of {}", new Object[] {1, "a"});
+            reusable.ensureFormatted();
+            final Message[] messages = {
+                new SimpleMessage("short"),
+                new ParameterizedMessage("took {} ms for {}", new Object[] {12, "select"}),
+                new PrimitiveMessage("ratio {}", PrimitiveMessage.DOUBLE, Double.doubleToRawLongBits(0.25)),
+                new PrimitiveMessage("count {}", PrimitiveMessage.LONG, -7),
+                reusable,
+            };
+            for (final Message message : messages) {
+                assertSameOutput(event(TIME, message, null));
+            }
+            assertSameOutput(event(TIME, new SimpleMessage("failed"),
+                    new IllegalStateException("broken", new RuntimeException("cause"))));
+        } finally {
+            reusable.release();
+        }
+    }
+
+    @Test
+    public void lookupsInMessagesFallBackToTheConverter() {
+        System.setProperty("shared.layout.test", "substituted");
+        final ReusableMessage reusable = ReusableMessage.acquire();
+        try {
+            reusable.setText("value ${sys:shared.layout.test}");
+            reusable.ensureFormatted();
+            assertTrue(assertSameOutput(event(TIME, reusable, null)).contains("value substituted"));
+            assertSameOutput(event(TIME, new PrimitiveMessage("${sys:shared.layout.test} {}", PrimitiveMessage.LONG,
+                    3), null));
+        } finally {
+            reusable.release();
+        }
+    }
+
+    @Test
+    public void layoutsWithTheSamePatternShareTheResult() {
+        final SharedPatternLayout first = layout(PATTERN, StandardCharsets.UTF_8);
+        final SharedPatternLayout second = layout(PATTERN, StandardCharsets.UTF_8);
+        final SharedPatternLayout other = layout(PATTERN, StandardCharsets.UTF_16BE);
+        final LogEvent event = event(TIME, new SimpleMessage("shared"), null);
+        assertSame(first.toSerializable(event), second.toSerializable(event));
+        assertSame(first.toByteArray(event), second.toByteArray(event));
+        assertArrayEquals(first.toSerializable(event).getBytes(StandardCharsets.UTF_16BE), other.toByteArray(event));
+    }
+
+    @Test
+    public void nextEventOfTheThreadIsFormattedAgain() {
+        final SharedPatternLayout first = layout("%d{HH:mm:ss.SSS} %msg", StandardCharsets.UTF_8);
+        final SharedPatternLayout second = layout("%d{HH:mm:ss.SSS} %msg", StandardCharsets.UTF_8);
+        final ReusableMessage reusable = ReusableMessage.acquire();
+        try {
+            // The same message instance, with new text, in a new event.
+            reusable.setText("one");
+            reusable.ensureFormatted();
+            assertEquals("12:00:00.000 one", first.toSerializable(event(noon(), reusable, null)));
+            reusable.release();
+            assertSame(reusable, ReusableMessage.acquire());
+            reusable.setText("two");
+            reusable.ensureFormatted();
+            final LogEvent next = event(noon(), reusable, null);
+            assertEquals("12:00:00.000 two", second.toSerializable(next));
+            assertEquals("12:00:00.000 two", first.toSerializable(next));
+            assertEquals("12:00:00.000 two", utf8(first.encode(next)));
+        } finally {
+            reusable.release();
+        }
+        // The same event instance, reused with another message or time.
+        final ReusedEvent reused = new ReusedEvent(noon(), new SimpleMessage("first"));
+        assertEquals("12:00:00.000 first", first.toSerializable(reused));
+        reused.message = new SimpleMessage("second");
+        assertEquals("12:00:00.000 second", first.toSerializable(reused));
+        assertEquals("12:00:00.000 second", utf8(second.encode(reused)));
+        reused.timeMillis += 1;
+        assertEquals("12:00:00.001 second", new String(second.toByteArray(reused), StandardCharsets.UTF_8));
+    }
+
+    private String assertSameOutput(final LogEvent event) {
+        final PatternLayout expected = PatternLayout.createLayout(PATTERN, config, null, StandardCharsets.UTF_8, true,
+                false, null, null);
+        final String text = expected.toSerializable(event);
+        final SharedPatternLayout layout = layout(PATTERN, StandardCharsets.UTF_8);
+        assertEquals(text, layout.toSerializable(event));
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), layout.toByteArray(event));
+        assertEquals(text, utf8(layout.encode(event)));
+        return text;
+    }
+
+    private SharedPatternLayout layout(final String pattern, final Charset charset) {
+        return SharedPatternLayout.createLayout(pattern, config, charset, true, null, null);
+    }
+
+    private static String utf8(final ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    private static long noon() {
+        return LocalDate.of(2026, 10, 16).atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LogEvent event(final long timeMillis, final Message message, final Throwable thrown) {
+        return new Log4jLogEvent("app.layout.Test", null, null, Level.INFO, message, thrown,
+                Collections.singletonMap("id", "42"), null, "main", null, timeMillis);
+    }
+
+    /**
+     * An event instance used for several log calls.
+     */
+    private static final class ReusedEvent extends Log4jLogEvent {
+        private static final long serialVersionUID = 1L;
+
+        private long timeMillis;
+        private Message message;
+
+        ReusedEvent(final long timeMillis, final Message message) {
+            this.timeMillis = timeMillis;
+            this.message = message;
+        }
+
+        @Override
+        public long getTimeMillis() {
+            return timeMillis;
+        }
+
+        @Override
+        public Message getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+/**
+ * Encodes events with {@link UnixRfc5424Layout} and checks the header, the
+ * message and the stack trace written after it.
+ */
+public class UnixRfc5424LayoutTest {
+    private static final long TIME = 1500000000000L;
+    private static final String HEADER = "<131>1 2017-07-14T02:40:00.000Z host app 42 - - ";
+
+    @Test
+    public void writesTheHeaderAndMessage() {
+        assertEquals(HEADER + "started", text(layout(false, true), event("started", null)));
+    }
+
+    @Test
+    public void writesTheWholeStackTrace() {
+        final IllegalStateException thrown = new IllegalStateException("broken", new RuntimeException("cause"));
+        final String trace = stackTrace(thrown);
+        assertTrue(trace.contains("Caused by: java.lang.RuntimeException: cause"));
+        assertEquals(HEADER + "failed " + trace, text(layout(false, true), event("failed", thrown)));
+        // One message per line with newLine, so the line feeds of the trace are escaped.
+        assertEquals(HEADER + "failed " + trace.replace("\n", "#012") + "\n",
+                text(layout(true, true), event("failed", thrown)));
+        assertEquals(HEADER + "failed java.lang.IllegalStateException: broken",
+                text(layout(false, false), event("failed", thrown)));
+    }
+
+    @Test
+    public void largeBuffersAreNotKept() {
+        final UnixRfc5424Layout layout = layout(false, true);
+        final ByteBuffer small = layout.encode(event("small", null));
+        assertSame(small, layout.encode(event("small again", null)));
+        final char[] chars = new char[100 * 1024];
+        Arrays.fill(chars, 'x');
+        final ByteBuffer large = layout.encode(event(new String(chars), null));
+        assertEquals(HEADER.length() + chars.length, large.remaining());
+        final ByteBuffer next = layout.encode(event("small", null));
+        assertNotSame(large, next);
+        assertSame(next, layout.encode(event("small again", null)));
+        assertTrue(next.capacity() < chars.length);
+    }
+
+    private static UnixRfc5424Layout layout(final boolean newLine, final boolean includeStacktrace) {
+        return UnixRfc5424Layout.createLayout("LOCAL0", "host", "app", "42", null, null, 18060, newLine,
+                includeStacktrace);
+    }
+
+    private static String text(final UnixRfc5424Layout layout, final LogEvent event) {
+        return new String(layout.toByteArray(event), StandardCharsets.UTF_8);
+    }
+
+    private static LogEvent event(final String text, final Throwable thrown) {
+        return new Log4jLogEvent("app.syslog", null, null, Severity.ERROR.level(), new SimpleMessage(text), thrown,
+                null, null, "main", null, TIME);
+    }
+
+    /**
+     * The stack trace as printed, with {@code \n} between the lines and none
+     * after the last.
+     */
+    private static String stackTrace(final Throwable thrown) {
+        final StringWriter writer = new StringWriter();
+        thrown.printStackTrace(new PrintWriter(writer));
+        return writer.toString().replace(System.lineSeparator(), "\n").trim();
+    }
+}
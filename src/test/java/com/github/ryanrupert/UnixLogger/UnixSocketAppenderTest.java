@@ -0,0 +1,105 @@
+package com.github.ryanrupert.UnixLogger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Writes to a Unix domain stream socket created in a temporary directory as a
+ * stand-in for the logging daemon. The socket tests only run on Java 16 or
+ * later with the classes of {@code META-INF/versions/16}; the server is
+ * opened through reflection since the tests compile for Java 8.
+ */
+public class UnixSocketAppenderTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void syslogRequiresPath() {
+        assertNull(create(null, "SYSLOG"));
+    }
+
+    @Test
+    public void olderRuntimeCreatesNoAppender() {
+        assumeFalse(UnixSocketChannels.isSupported());
+        assertNull(create(folder.getRoot().toPath().resolve("log.sock").toString(), "JOURNAL"));
+    }
+
+    @Test
+    public void writesJournalStream() throws Exception {
+        assertEquals("test\n\n6\n1\n0\n0\n0\n<6>first\n<3>second line\n", exchange("JOURNAL"));
+    }
+
+    @Test
+    public void writesSyslogLines() throws Exception {
+        assertEquals("first\nsecond line\n", exchange("SYSLOG"));
+    }
+
+    /**
+     * Logs two events to a socket stand-in and returns what it received.
+     */
+    private String exchange(final String format) throws Exception {
+        assumeTrue(UnixSocketChannels.isSupported());
+        final Path path = folder.getRoot().toPath().resolve("log.sock");
+        try (ServerSocketChannel server = listen(path)) {
+            final UnixSocketAppender appender = create(path.toString(), format);
+            appender.start();
+            appender.append(event(Severity.INFO, "first"));
+            appender.append(event(Severity.ERROR, "second\nline"));
+            // Stopping writes what is staged and closes the connection, which the server has queued.
+            appender.stop();
+            assertEquals(0, appender.getDroppedCount());
+            try (SocketChannel client = server.accept()) {
+                final ByteArrayOutputStream received = new ByteArrayOutputStream();
+                final ByteBuffer buffer = ByteBuffer.allocate(1024);
+                while (client.read(buffer) >= 0) {
+                    received.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+                return new String(received.toByteArray(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static UnixSocketAppender create(final String path, final String format) {
+        return UnixSocketAppender.createAppender("test", path, format, "test", 64 * 1024, 100, true,
+                PatternLayout.createLayout("%msg", null, null, StandardCharsets.UTF_8, true, false, null, null),
+                null);
+    }
+
+    private static LogEvent event(final Severity severity, final String message) {
+        return new Log4jLogEvent("test", null, null, severity.level(), new SimpleMessage(message), null,
+                Collections.<String, String>emptyMap(), ThreadContext.EMPTY_STACK, "main", null,
+                System.currentTimeMillis());
+    }
+
+    private static ServerSocketChannel listen(final Path path) throws ReflectiveOperationException,
+            java.io.IOException {
+        final SocketAddress address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                .getMethod("of", Path.class).invoke(null, path);
+        final ServerSocketChannel server = (ServerSocketChannel) ServerSocketChannel.class
+                .getMethod("open", ProtocolFamily.class).invoke(null, StandardProtocolFamily.valueOf("UNIX"));
+        server.bind(address);
+        return server;
+    }
+}